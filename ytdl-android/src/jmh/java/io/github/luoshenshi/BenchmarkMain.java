@@ -0,0 +1,23 @@
+package io.github.luoshenshi;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs the benchmarks matching the first argument (all of them by default) with the GC
+// profiler, so every result comes with gc.alloc.rate.norm, the bytes allocated per call.
+// -Dytdl.fixtures is handed on to the forks, see Fixtures.
+public class BenchmarkMain {
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : BenchmarkMain.class.getPackage().getName() + "\\..*Benchmark")
+                .addProfiler(GCProfiler.class);
+        String fixtures = System.getProperty(Fixtures.DIRECTORY_PROPERTY);
+        if (fixtures != null) {
+            options.jvmArgsAppend("-D" + Fixtures.DIRECTORY_PROPERTY + "=" + fixtures);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.luoshenshi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Reading the signature transform out of a player script (once per player version) and
+// applying it (once per ciphered format), plus loading it back from its disk form.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecipherBenchmark {
+    private String script;
+    private SignatureDecipher decipher;
+    private String encoded;
+    private String signatureCipher;
+
+    @Setup
+    public void setup() {
+        script = Fixtures.string("base.js");
+        decipher = SignatureDecipher.parse(script);
+        encoded = decipher.encode();
+        signatureCipher = "s=AOq0QJ8wRAIgXkq3Q7pY2XyZz9cLJ0aBcDeFgHiJkLmNoPqRsTuVwXyZ0123456789abAiB4k1aYc2bD3eF4gH5iJ6kL7mN8oP9qR0sT1uV2wX3yZ4a5b6c"
+                + "&sp=sig&url=https%3A%2F%2Frr3---sn-4g5e6nze.googlevideo.com%2Fvideoplayback%3Fexpire%3D1760000000%26itag%3D251%26source%3Dyoutube";
+    }
+
+    @Benchmark
+    public SignatureDecipher parse() {
+        return SignatureDecipher.parse(script);
+    }
+
+    @Benchmark
+    public SignatureDecipher decode() {
+        return SignatureDecipher.decode(encoded);
+    }
+
+    @Benchmark
+    public String decipherUrl() {
+        return decipher.decipherUrl(signatureCipher);
+    }
+}
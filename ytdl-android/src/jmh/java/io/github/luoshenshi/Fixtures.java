@@ -0,0 +1,57 @@
+package io.github.luoshenshi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+// Responses every stage runs against offline: watch.html (a watch page with a ciphered
+// player response), player-android.json, manifest.mpd, live.mpd, master.m3u8, media.m3u8
+// (live) and base.js (a player script excerpt). The ones under src/jmh/resources/fixtures
+// are synthetic, written to the structure of YouTube's responses rather than captured
+// from it, so they show allocation and relative cost, not real-page throughput. A file of
+// the same name in the directory named by -Dytdl.fixtures (e.g. a saved watch page)
+// replaces the bundled one.
+class Fixtures {
+    static final String DIRECTORY_PROPERTY = "ytdl.fixtures";
+    static final String VIDEO_ID = "dQw4w9WgXcQ";
+    static final String PLAYER_URL = "https://www.youtube.com/s/player/6e1dd460/player_ias.vflset/en_US/base.js";
+    static final String MANIFEST_URL = "https://manifest.googlevideo.com/api/manifest/dash/id/" + VIDEO_ID + "/";
+    static final String PLAYLIST_URL = "https://manifest.googlevideo.com/api/manifest/hls_variant/id/" + VIDEO_ID + "/file/index.m3u8";
+
+    static byte[] bytes(String name) {
+        try (InputStream in = open(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream open(String name) throws IOException {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        File captured = directory != null ? new File(directory, name) : null;
+        if (captured != null && captured.isFile()) {
+            return new FileInputStream(captured);
+        }
+        return Fixtures.class.getResourceAsStream("/fixtures/" + name);
+    }
+
+    static String string(String name) {
+        return new String(bytes(name), StandardCharsets.UTF_8);
+    }
+
+    private Fixtures() {
+    }
+}
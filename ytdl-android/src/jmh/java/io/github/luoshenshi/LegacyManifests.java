@@ -0,0 +1,57 @@
+package io.github.luoshenshi;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+// The DASH handler as it was before DashManifestParser, kept as a benchmark baseline: a
+// new factory and parser per manifest and three attributes per Representation. The old
+// HLS parser has no baseline, it split attribute lists on every comma and throws on the
+// quoted CODECS lists every real master playlist carries.
+class LegacyManifests {
+    static List<JSONObject> parseDash(InputStream inputStream) throws IOException, SAXException {
+        try {
+            DashHandler dashHandler = new DashHandler();
+            SAXParserFactory factory = SAXParserFactory.newInstance();
+            SAXParser saxParser = factory.newSAXParser();
+            saxParser.parse(inputStream, dashHandler);
+            return dashHandler.getFormats();
+        } catch (ParserConfigurationException e) {
+            throw new IOException("Error parsing DASH manifest", e);
+        }
+    }
+
+    private static class DashHandler extends DefaultHandler {
+        private final List<JSONObject> formats = new ArrayList<>();
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if (qName.equals("Representation")) {
+                JSONObject format = new JSONObject();
+                try {
+                    format.put("bandwidth", attributes.getValue("bandwidth"));
+                    format.put("width", attributes.getValue("width"));
+                    format.put("height", attributes.getValue("height"));
+                } catch (JSONException e) {
+                    throw new RuntimeException(e);
+                }
+                formats.add(format);
+            }
+        }
+
+        private List<JSONObject> getFormats() {
+            return formats;
+        }
+    }
+}
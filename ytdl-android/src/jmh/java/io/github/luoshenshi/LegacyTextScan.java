@@ -0,0 +1,99 @@
+package io.github.luoshenshi;
+
+import org.json.JSONObject;
+
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// The text helpers as they were before the hand-rolled scanners, kept as benchmark baselines
+class LegacyTextScan {
+    static Integer parseAbbreviatedNumber(String input) {
+        if (input == null || input.isEmpty()) {
+            return null;
+        }
+
+        String sanitizedInput = input.replace(",", ".").replace(" ", "");
+
+        Pattern pattern = Pattern.compile("([\\d,.]+)([MK]?)");
+        Matcher matcher = pattern.matcher(sanitizedInput);
+
+        if (matcher.find()) {
+            String numString = matcher.group(1);
+            String multi = matcher.group(2);
+
+            try {
+                double num = Double.parseDouble(Objects.requireNonNull(numString));
+                if ("M".equals(multi)) {
+                    return (int) Math.round(num * 1_000_000);
+                } else if ("K".equals(multi)) {
+                    return (int) Math.round(num * 1_000);
+                } else {
+                    return (int) Math.round(num);
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    static String digitsOf(String text) {
+        return text.replaceAll("\\D", "");
+    }
+
+    static String firstPathSegment(String url) {
+        return url.split("/")[3];
+    }
+
+    static String getHTML5player(String body) {
+        String regex = "<script\\s+src=\"([^\"]*player_ias/base[^\"]*)\"\\s*(?:type=\"text/javascript\")?\\s*name=\"player_ias/base\"\\s*>|\"jsUrl\":\"([^\"]*player_ias/base[^\"]*)\"";
+        Pattern pattern = Pattern.compile(regex);
+        Matcher matcher = pattern.matcher(body);
+
+        if (matcher.find()) {
+            String scriptSrc = matcher.group(1);
+            if (scriptSrc != null && !scriptSrc.isEmpty()) {
+                return scriptSrc;
+            }
+
+            String jsUrl = matcher.group(2);
+            if (jsUrl != null && !jsUrl.isEmpty()) {
+                return jsUrl;
+            }
+        }
+        return null;
+    }
+
+    // The terminator cascade the watch page went through before JsonSpan, in its order
+    static JSONObject playerResponse(String body) throws Exception {
+        JSONObject playerResponse = Utils.tryParseBetween(body, "var ytInitialPlayerResponse = ", "}};", "", "}}");
+        if (playerResponse == null) {
+            playerResponse = Utils.tryParseBetween(body, "var ytInitialPlayerResponse = ", ";var", "", "");
+        }
+        if (playerResponse == null) {
+            playerResponse = Utils.tryParseBetween(body, "var ytInitialPlayerResponse = ", ";</script>", "", "");
+        }
+        if (playerResponse == null) {
+            playerResponse = Utils.findJSON("watch.html", "player_response", body, "ytInitialPlayerResponse\\s*=\\s*\\{", "</script>", "{");
+        }
+        return playerResponse;
+    }
+
+    static JSONObject initialData(String body) throws Exception {
+        JSONObject response = Utils.tryParseBetween(body, "var ytInitialData = ", "}};", "", "}}");
+        if (response == null) {
+            response = Utils.tryParseBetween(body, "var ytInitialData = ", ";</script>", "", "");
+        }
+        if (response == null) {
+            response = Utils.tryParseBetween(body, "window[\"ytInitialData\"] = ", "}};", "", "}}");
+        }
+        if (response == null) {
+            response = Utils.tryParseBetween(body, "window[\"ytInitialData\"] = ", ";</script>", "", "");
+        }
+        if (response == null) {
+            response = Utils.findJSON("watch.html", "response", body, "ytInitialData\\s*=\\s*\\{", "</script>", "{");
+        }
+        return response;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.luoshenshi;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import okio.Buffer;
+
+// DASH and HLS manifest parsing from the fixture bytes, the DASH parser against the
+// handler it replaced (LegacyManifests). live.mpd is a dynamic MPD with a two hour
+// time-shift window, thousands of SegmentTimeline entries and SegmentURLs per Representation.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ManifestBenchmark {
+    private byte[] mpd;
+    private byte[] liveMpd;
+    private byte[] master;
+    private byte[] media;
+
+    @Setup
+    public void setup() {
+        mpd = Fixtures.bytes("manifest.mpd");
+        liveMpd = Fixtures.bytes("live.mpd");
+        master = Fixtures.bytes("master.m3u8");
+        media = Fixtures.bytes("media.m3u8");
+    }
+
+    @Benchmark
+    public List<Format> dash() throws IOException, SAXException {
+        return DashManifestParser.parse(new ByteArrayInputStream(mpd), Fixtures.MANIFEST_URL);
+    }
+
+    @Benchmark
+    public List<JSONObject> dashLegacy() throws IOException, SAXException {
+        return LegacyManifests.parseDash(new ByteArrayInputStream(mpd));
+    }
+
+    @Benchmark
+    public List<Format> dashLive() throws IOException, SAXException {
+        return DashManifestParser.parse(new ByteArrayInputStream(liveMpd), Fixtures.MANIFEST_URL);
+    }
+
+    @Benchmark
+    public List<JSONObject> dashLiveLegacy() throws IOException, SAXException {
+        return LegacyManifests.parseDash(new ByteArrayInputStream(liveMpd));
+    }
+
+    @Benchmark
+    public List<Format> hlsMaster() throws IOException {
+        return HlsPlaylistParser.parseMaster(new Buffer().write(master), Fixtures.PLAYLIST_URL);
+    }
+
+    @Benchmark
+    public HlsPlaylistParser.MediaPlaylist hlsMedia() throws IOException {
+        return HlsPlaylistParser.parseMedia(new Buffer().write(media), Fixtures.PLAYLIST_URL);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.luoshenshi;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The youtubei/v1/player stage: the streaming section reader against parsing the whole
+// response, then Format extraction from the parsed streamingData.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerResponseBenchmark {
+    private byte[] responseBytes;
+    private JSONObject playerResponse;
+
+    @Setup
+    public void setup() throws IOException, JSONException {
+        responseBytes = Fixtures.bytes("player-android.json");
+        playerResponse = read();
+    }
+
+    @Benchmark
+    public JSONObject read() throws IOException, JSONException {
+        return PlayerResponseReader.read(new InputStreamReader(new ByteArrayInputStream(responseBytes), StandardCharsets.UTF_8));
+    }
+
+    // How the response was read before PlayerResponseReader: whole body to a String, every section parsed
+    @Benchmark
+    public JSONObject readWhole() throws JSONException {
+        return new JSONObject(new String(responseBytes, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public List<Format> parseFormats() throws JSONException {
+        return YTDL.parseFormats(playerResponse);
+    }
+}
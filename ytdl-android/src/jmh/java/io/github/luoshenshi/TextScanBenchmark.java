@@ -0,0 +1,95 @@
+package io.github.luoshenshi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okio.Buffer;
+
+// Hand-rolled text helpers in Utils and WatchPageScanner against the regex versions they
+// replaced (LegacyTextScan).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextScanBenchmark {
+    private static final String[] COUNTS = {
+            "1.2M subscribers", "892 subscribers", "12.5K subscribers", "1,234 subscribers", "3.41M subscribers", "5 Million subscribers"
+    };
+    private static final String LIKES = "like this video along with 1,234,567 other people";
+    private static final String PROFILE_URL = "http://www.youtube.com/@someChannelName";
+
+    private String page;
+    private byte[] pageBytes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        pageBytes = Fixtures.bytes("watch.html");
+        page = Fixtures.string("watch.html");
+    }
+
+    private String nextCount() {
+        next = (next + 1) % COUNTS.length;
+        return COUNTS[next];
+    }
+
+    @Benchmark
+    public Integer parseAbbreviatedNumber() {
+        return Utils.parseAbbreviatedNumber(nextCount());
+    }
+
+    @Benchmark
+    public Integer parseAbbreviatedNumberLegacy() {
+        return LegacyTextScan.parseAbbreviatedNumber(nextCount());
+    }
+
+    @Benchmark
+    public String digitsOf() {
+        return Utils.digitsOf(LIKES);
+    }
+
+    @Benchmark
+    public String digitsOfLegacy() {
+        return LegacyTextScan.digitsOf(LIKES);
+    }
+
+    @Benchmark
+    public String firstPathSegment() {
+        return Utils.firstPathSegment(PROFILE_URL);
+    }
+
+    @Benchmark
+    public String firstPathSegmentLegacy() {
+        return LegacyTextScan.firstPathSegment(PROFILE_URL);
+    }
+
+    // The scanner also captures both JSON scripts, the legacy regex only finds the URL
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void html5player(Blackhole blackhole) throws IOException {
+        Buffer source = new Buffer().write(pageBytes);
+        blackhole.consume(WatchPageScanner.scan(source).getHtml5player());
+    }
+
+    // Returns null on current pages, whose .../player_ias.vflset/en_US/base.js URLs the old
+    // player_ias/base pattern never matches, so this is the cost of one full regex pass
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String html5playerLegacy() {
+        return LegacyTextScan.getHTML5player(page);
+    }
+}
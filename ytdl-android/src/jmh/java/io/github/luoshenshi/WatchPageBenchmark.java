@@ -0,0 +1,109 @@
+package io.github.luoshenshi;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import okio.Buffer;
+
+// Each stage of turning watch.html into a VideoInfo, one at a time. extractJsonSpan and
+// extractLegacy pull both JSON values out of the same page String, once with JsonSpan and
+// once with the whole terminator cascade it replaced, so the pair compares like with like
+// whichever terminator happens to match on the page. Run them on saved pages (see Fixtures)
+// before drawing conclusions, the bundled watch.html is synthetic.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WatchPageBenchmark {
+    private static final String PLAYER_RESPONSE = "var ytInitialPlayerResponse = ";
+    private static final String INITIAL_DATA = "var ytInitialData = ";
+    private static final String WINDOW_INITIAL_DATA = "window[\"ytInitialData\"] = ";
+
+    private byte[] pageBytes;
+    private String page;
+    private WatchPageScanner scanned;
+    private WatchPage watchPage;
+
+    @Setup
+    public void setup() throws IOException {
+        pageBytes = Fixtures.bytes("watch.html");
+        page = Fixtures.string("watch.html");
+        scanned = WatchPageScanner.scan(new Buffer().write(pageBytes));
+        watchPage = YTDL.parseWatchPage(scanned);
+    }
+
+    // JsonSpan over the whole page String, what the scanner does per chunk
+    private static String findJSONAfter(String body, String marker) {
+        int start = body.indexOf(marker);
+        if (start == -1) return null;
+        start += marker.length();
+        int end = new JsonSpan().scan(body, start, body.length());
+        if (end < 0) return null;
+        return body.substring(start, end);
+    }
+
+    @Benchmark
+    public WatchPageScanner scan() throws IOException {
+        return WatchPageScanner.scan(new Buffer().write(pageBytes));
+    }
+
+    @Benchmark
+    public WatchPage parseWatchPage() {
+        return YTDL.parseWatchPage(scanned);
+    }
+
+    @Benchmark
+    public void extractJsonSpan(Blackhole blackhole) throws JSONException {
+        blackhole.consume(new JSONObject(findJSONAfter(page, PLAYER_RESPONSE)));
+        String initialData = findJSONAfter(page, INITIAL_DATA);
+        if (initialData == null) {
+            initialData = findJSONAfter(page, WINDOW_INITIAL_DATA);
+        }
+        blackhole.consume(new JSONObject(initialData));
+    }
+
+    @Benchmark
+    public void extractLegacy(Blackhole blackhole) throws Exception {
+        blackhole.consume(LegacyTextScan.playerResponse(page));
+        blackhole.consume(LegacyTextScan.initialData(page));
+    }
+
+    @Benchmark
+    public String getLikes() {
+        return LikesFetcher.getLikes(watchPage);
+    }
+
+    @Benchmark
+    public JSONObject getAuthor() {
+        return AuthorFetcher.getAuthor(watchPage);
+    }
+
+    @Benchmark
+    public VideoInfo buildVideoInfo() throws JSONException {
+        return YTDL.buildVideoInfo(Fixtures.VIDEO_ID, InfoQuery.ALL_FIELDS, false, watchPage,
+                watchPage.getPlayerResponse(), Lazy.of(Collections.<Format>emptyList()));
+    }
+
+    @Benchmark
+    public List<Format> parseFormats() throws JSONException {
+        return YTDL.parseFormats(watchPage.getPlayerResponse());
+    }
+}
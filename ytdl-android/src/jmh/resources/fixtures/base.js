@@ -0,0 +1,1504 @@
+(function(g){var window=this;UiG=function(a,b){var c=a.bQ1V(b);if(c&&c.sra)return c.iFA(0);return null};
+Pxr=function(a,b){var c=a.1WU5(b);if(c&&c.H8v)return c.apt(1);return null};
+NGv=function(a,b){var c=a.8tYo(b);if(c&&c.Zyh)return c.XSq(2);return null};
+ylS=function(a,b){var c=a.W_pc(b);if(c&&c.GSL)return c.z1F(3);return null};
+qZP=function(a,b){var c=a.QZT4(b);if(c&&c.xTH)return c.eQ4(4);return null};
+vL6=function(a,b){var c=a.exPx(b);if(c&&c.s4o)return c.ATr(5);return null};
+xWD=function(a,b){var c=a.XF5F(b);if(c&&c.KKN)return c.GWo(6);return null};
+9KC=function(a,b){var c=a.xLnS(b);if(c&&c.NTX)return c.BKT(7);return null};
+nel=function(a,b){var c=a.Lshd(b);if(c&&c._a_)return c.xF0(8);return null};
+bF8=function(a,b){var c=a.fQlL(b);if(c&&c.f0y)return c.aXj(9);return null};
+j0i=function(a,b){var c=a.UZ9k(b);if(c&&c.vGX)return c.b_w(10);return null};
+H53=function(a,b){var c=a.7fI6(b);if(c&&c.Xoq)return c.Hig(11);return null};
+dfL=function(a,b){var c=a.R6a0(b);if(c&&c.2UA)return c.9vK(12);return null};
+Vbg=function(a,b){var c=a.zWYM(b);if(c&&c.rxk)return c.Exf(13);return null};
+WbE=function(a,b){var c=a.k2FU(b);if(c&&c.o38)return c.mKW(14);return null};
+SWy=function(a,b){var c=a.U3Fm(b);if(c&&c.j6A)return c._xT(15);return null};
+sc2=function(a,b){var c=a.VTWc(b);if(c&&c.l4z)return c.3wf(16);return null};
+Uno=function(a,b){var c=a.ZGsk(b);if(c&&c.Y3g)return c.ePT(17);return null};
+eXw=function(a,b){var c=a.G_4R(b);if(c&&c.6vr)return c.idf(18);return null};
+72m=function(a,b){var c=a.Y_Or(b);if(c&&c.QeI)return c.xbd(19);return null};
+9Gu=function(a,b){var c=a.5HkI(b);if(c&&c.DPO)return c.crg(20);return null};
+JFA=function(a,b){var c=a.pG0F(b);if(c&&c._s6)return c.E9G(21);return null};
+emj=function(a,b){var c=a.Oa7A(b);if(c&&c.lvR)return c.E__(22);return null};
+j1Q=function(a,b){var c=a.Iyv2(b);if(c&&c.jgT)return c.lzh(23);return null};
+yvL=function(a,b){var c=a.8p0G(b);if(c&&c.VSd)return c.DQf(24);return null};
+vcX=function(a,b){var c=a.TFDI(b);if(c&&c.O8e)return c.qNj(25);return null};
+J_t=function(a,b){var c=a.Y1p7(b);if(c&&c.6_5)return c.mww(26);return null};
+fbO=function(a,b){var c=a.9bCk(b);if(c&&c.zu9)return c.Vmv(27);return null};
+djP=function(a,b){var c=a.o1ST(b);if(c&&c.sCP)return c.61a(28);return null};
+ibq=function(a,b){var c=a.LmUc(b);if(c&&c.SF1)return c.n5g(29);return null};
+8HJ=function(a,b){var c=a.FMRi(b);if(c&&c.482)return c.xdl(30);return null};
+eWA=function(a,b){var c=a.r2IH(b);if(c&&c.Yiz)return c.3YT(31);return null};
+5bc=function(a,b){var c=a.KYY8(b);if(c&&c.dei)return c.1ta(32);return null};
+XXs=function(a,b){var c=a.Odhx(b);if(c&&c.HtB)return c.Bei(33);return null};
+CCD=function(a,b){var c=a.eNkc(b);if(c&&c._Jz)return c.Ilc(34);return null};
+O8m=function(a,b){var c=a.iRNq(b);if(c&&c.1qJ)return c.upP(35);return null};
+AI3=function(a,b){var c=a.izNe(b);if(c&&c.AmK)return c.u8N(36);return null};
+spG=function(a,b){var c=a.JD6H(b);if(c&&c.Dk6)return c.ca3(37);return null};
+5yA=function(a,b){var c=a.2fa5(b);if(c&&c.MY9)return c.7Ks(38);return null};
+3oa=function(a,b){var c=a._8MY(b);if(c&&c.hqw)return c.zCY(39);return null};
+ZJB=function(a,b){var c=a.VGZJ(b);if(c&&c.ulT)return c.FKu(40);return null};
+gU3=function(a,b){var c=a.JvB_(b);if(c&&c.zNv)return c.kDX(41);return null};
+K27=function(a,b){var c=a.Mowh(b);if(c&&c.9LY)return c.VsB(42);return null};
+g33=function(a,b){var c=a.bIgt(b);if(c&&c.1Qb)return c.4Gv(43);return null};
+XyC=function(a,b){var c=a.uu7M(b);if(c&&c.p5x)return c.e_n(44);return null};
+ZT6=function(a,b){var c=a.RMHv(b);if(c&&c.RFn)return c.X3s(45);return null};
+k8R=function(a,b){var c=a.8ZYI(b);if(c&&c._mK)return c.UwA(46);return null};
+9pE=function(a,b){var c=a.8Mk6(b);if(c&&c.2G9)return c.v0t(47);return null};
+u6t=function(a,b){var c=a.LaTR(b);if(c&&c.wgB)return c.00_(48);return null};
+Fkl=function(a,b){var c=a.YBze(b);if(c&&c.FFL)return c.pen(49);return null};
+VkK=function(a,b){var c=a.rYzL(b);if(c&&c.ndR)return c.eJT(50);return null};
+eIo=function(a,b){var c=a.rijK(b);if(c&&c.BEj)return c.K5J(51);return null};
+Tl2=function(a,b){var c=a.WdmP(b);if(c&&c.cct)return c.eRV(52);return null};
+vez=function(a,b){var c=a.5B1E(b);if(c&&c.Lfp)return c.9iF(53);return null};
+DHR=function(a,b){var c=a.RZuD(b);if(c&&c.1_i)return c.0UQ(54);return null};
+9ui=function(a,b){var c=a.5eKm(b);if(c&&c.ieh)return c.ptM(55);return null};
+kFz=function(a,b){var c=a.VM9u(b);if(c&&c.FcH)return c.kFo(56);return null};
+ni_=function(a,b){var c=a.Khbg(b);if(c&&c.6YE)return c.55F(57);return null};
+utd=function(a,b){var c=a.iAsz(b);if(c&&c.rK4)return c.7aq(58);return null};
+FNh=function(a,b){var c=a.gXRG(b);if(c&&c.jVa)return c.Vm5(59);return null};
+vNl=function(a,b){var c=a.ztT6(b);if(c&&c.z2f)return c.NZB(60);return null};
+kit=function(a,b){var c=a.POm2(b);if(c&&c._nG)return c.pQ1(61);return null};
+qEf=function(a,b){var c=a.UMeS(b);if(c&&c.tVr)return c.8Uu(62);return null};
+xuL=function(a,b){var c=a.zXRF(b);if(c&&c.mr6)return c.piQ(63);return null};
+HxB=function(a,b){var c=a.b0ym(b);if(c&&c.70u)return c.hJH(64);return null};
+XZy=function(a,b){var c=a.KajI(b);if(c&&c.bkb)return c.kxo(65);return null};
+Qvt=function(a,b){var c=a.cA9m(b);if(c&&c.rcu)return c.Inq(66);return null};
+8Pj=function(a,b){var c=a.I04O(b);if(c&&c.FfK)return c.Ouj(67);return null};
+NMH=function(a,b){var c=a.nPkJ(b);if(c&&c.sWo)return c.2vY(68);return null};
+pva=function(a,b){var c=a.Yz0C(b);if(c&&c.Vax)return c.coT(69);return null};
+Mri=function(a,b){var c=a.6FBP(b);if(c&&c.vpI)return c.MsL(70);return null};
+iVO=function(a,b){var c=a.LsIJ(b);if(c&&c.aTX)return c.T7R(71);return null};
+QSJ=function(a,b){var c=a.btBL(b);if(c&&c._S1)return c.tF_(72);return null};
+_u2=function(a,b){var c=a.l__J(b);if(c&&c.WX3)return c.oaI(73);return null};
+pKu=function(a,b){var c=a.4HGN(b);if(c&&c.42b)return c.B1n(74);return null};
+Qmz=function(a,b){var c=a.6nH_(b);if(c&&c.wDM)return c.lVc(75);return null};
+lL_=function(a,b){var c=a.MFDS(b);if(c&&c.kJt)return c.dzA(76);return null};
+eJF=function(a,b){var c=a._OHd(b);if(c&&c.zBQ)return c.__b(77);return null};
+A_7=function(a,b){var c=a.WaAE(b);if(c&&c.mVx)return c.rcw(78);return null};
+rQ9=function(a,b){var c=a.xKDb(b);if(c&&c.HxP)return c._hO(79);return null};
+RYG=function(a,b){var c=a.zjMS(b);if(c&&c.wzN)return c.Wr5(80);return null};
+KG0=function(a,b){var c=a.83rC(b);if(c&&c.qfU)return c.aEC(81);return null};
+9oX=function(a,b){var c=a._qTL(b);if(c&&c.B_Y)return c.Qwg(82);return null};
+Jc8=function(a,b){var c=a.ExEX(b);if(c&&c.76l)return c.hAK(83);return null};
+Ac2=function(a,b){var c=a.QOW8(b);if(c&&c.DEx)return c.6qu(84);return null};
+MOW=function(a,b){var c=a.JHT7(b);if(c&&c.IK7)return c.4ea(85);return null};
+1jq=function(a,b){var c=a.m1I5(b);if(c&&c.q8p)return c.5G6(86);return null};
+j1o=function(a,b){var c=a._vns(b);if(c&&c.vQp)return c.iWO(87);return null};
+k_d=function(a,b){var c=a.J6un(b);if(c&&c.53A)return c.wMg(88);return null};
+MqO=function(a,b){var c=a.5vHQ(b);if(c&&c.RDK)return c.1YS(89);return null};
+_rD=function(a,b){var c=a.LrMV(b);if(c&&c.Rb7)return c.se6(90);return null};
+FeE=function(a,b){var c=a.IZdR(b);if(c&&c.jCH)return c.52c(91);return null};
+QPP=function(a,b){var c=a.4Rvk(b);if(c&&c.U_f)return c.TN_(92);return null};
+ykT=function(a,b){var c=a.LxDs(b);if(c&&c.4Ua)return c.qY_(93);return null};
+GT_=function(a,b){var c=a.lJvG(b);if(c&&c.Tfc)return c.KyE(94);return null};
+AE2=function(a,b){var c=a.0u72(b);if(c&&c.eb1)return c.PaR(95);return null};
+0Pp=function(a,b){var c=a.Eu_V(b);if(c&&c.9y1)return c._PI(96);return null};
+_3n=function(a,b){var c=a.ueag(b);if(c&&c.Gsw)return c.T5W(97);return null};
+Z00=function(a,b){var c=a.jxiE(b);if(c&&c.876)return c.ibs(98);return null};
+UR4=function(a,b){var c=a.fW4C(b);if(c&&c.Cqm)return c.MPS(99);return null};
+yBy=function(a,b){var c=a.Qmcw(b);if(c&&c.mdh)return c.TVQ(100);return null};
+qmH=function(a,b){var c=a.W_yX(b);if(c&&c.hW8)return c.nxB(101);return null};
+orC=function(a,b){var c=a.4Mvv(b);if(c&&c.Fh6)return c.Eej(102);return null};
+hZX=function(a,b){var c=a.JdQy(b);if(c&&c.yyU)return c.IPL(103);return null};
+Yg4=function(a,b){var c=a.xx5i(b);if(c&&c.ns0)return c.OpR(104);return null};
+Fc3=function(a,b){var c=a.da5B(b);if(c&&c.m0l)return c.nBD(105);return null};
+Gh4=function(a,b){var c=a.aq0B(b);if(c&&c.e9p)return c.pyh(106);return null};
+jTO=function(a,b){var c=a.u_yz(b);if(c&&c.XWw)return c.oCg(107);return null};
+_GB=function(a,b){var c=a.Fwlq(b);if(c&&c.KDn)return c.pZw(108);return null};
+L6u=function(a,b){var c=a.TfEL(b);if(c&&c.5i9)return c.IpO(109);return null};
+bjA=function(a,b){var c=a.5Tpz(b);if(c&&c.CBo)return c.z3P(110);return null};
+Pbm=function(a,b){var c=a.xdFD(b);if(c&&c.ofz)return c.aJg(111);return null};
+YFw=function(a,b){var c=a.JfJU(b);if(c&&c.ngx)return c.9vc(112);return null};
+5v4=function(a,b){var c=a.NMY9(b);if(c&&c._ZI)return c.L0e(113);return null};
+6wd=function(a,b){var c=a.XIk9(b);if(c&&c.qvd)return c.8E3(114);return null};
+tUL=function(a,b){var c=a.KgT_(b);if(c&&c.R75)return c.sbg(115);return null};
+K64=function(a,b){var c=a.fFXs(b);if(c&&c.u36)return c._mk(116);return null};
+DjM=function(a,b){var c=a.9crG(b);if(c&&c.SXQ)return c.7uF(117);return null};
+_iR=function(a,b){var c=a.CaRP(b);if(c&&c.n0c)return c.GRJ(118);return null};
+60l=function(a,b){var c=a.KeGU(b);if(c&&c.2dS)return c.GBr(119);return null};
+tZX=function(a,b){var c=a.KVL7(b);if(c&&c.CKb)return c.ATX(120);return null};
+Rsq=function(a,b){var c=a.n83q(b);if(c&&c.Cs4)return c.K_a(121);return null};
+zvn=function(a,b){var c=a.sL_w(b);if(c&&c.ctr)return c.Uo3(122);return null};
+Z7I=function(a,b){var c=a.cW06(b);if(c&&c.8Ik)return c.9HP(123);return null};
+kSN=function(a,b){var c=a.9_JE(b);if(c&&c.O_n)return c.oc6(124);return null};
+i2M=function(a,b){var c=a.Mx5k(b);if(c&&c.h9o)return c.UTa(125);return null};
+RTD=function(a,b){var c=a.7j8j(b);if(c&&c.u7M)return c.EeY(126);return null};
+HkC=function(a,b){var c=a.ySHt(b);if(c&&c.gKZ)return c.S29(127);return null};
+MXa=function(a,b){var c=a.wbTL(b);if(c&&c.w8e)return c.3N8(128);return null};
+0_H=function(a,b){var c=a.6LjJ(b);if(c&&c.g3O)return c._5f(129);return null};
+PGu=function(a,b){var c=a.n73S(b);if(c&&c.7c2)return c.UNO(130);return null};
+iCi=function(a,b){var c=a.fTv0(b);if(c&&c.3GY)return c.OYe(131);return null};
+nj9=function(a,b){var c=a.YL5D(b);if(c&&c.ZsV)return c.Ae5(132);return null};
+YgS=function(a,b){var c=a.9cSW(b);if(c&&c.Aqb)return c.Ry4(133);return null};
+Fz5=function(a,b){var c=a.6w7t(b);if(c&&c.j0C)return c.RDB(134);return null};
+4yK=function(a,b){var c=a.0sIe(b);if(c&&c.9pU)return c.O36(135);return null};
+W7j=function(a,b){var c=a.0SZL(b);if(c&&c.sco)return c.UcU(136);return null};
+KuL=function(a,b){var c=a.24Y_(b);if(c&&c.hQb)return c.yZB(137);return null};
+qOX=function(a,b){var c=a.c8aM(b);if(c&&c.9nc)return c.zfQ(138);return null};
+3fR=function(a,b){var c=a.nlYt(b);if(c&&c.DY4)return c.DAc(139);return null};
+kv_=function(a,b){var c=a.4ont(b);if(c&&c.XsU)return c.RK0(140);return null};
+GpI=function(a,b){var c=a.GHNC(b);if(c&&c.V7X)return c.Km6(141);return null};
+VWh=function(a,b){var c=a.sfzN(b);if(c&&c.HZT)return c.ePH(142);return null};
+dSG=function(a,b){var c=a.m4vR(b);if(c&&c.nLz)return c.S4o(143);return null};
+SQD=function(a,b){var c=a.Pzfh(b);if(c&&c.ok7)return c.NjY(144);return null};
+AAK=function(a,b){var c=a.34XK(b);if(c&&c.azn)return c.MQw(145);return null};
+x5L=function(a,b){var c=a.IKli(b);if(c&&c._dQ)return c.hyv(146);return null};
+1Ks=function(a,b){var c=a.OiWC(b);if(c&&c.210)return c.E9b(147);return null};
+S3v=function(a,b){var c=a._REo(b);if(c&&c.NqC)return c.2Z0(148);return null};
+zq1=function(a,b){var c=a.r2Z_(b);if(c&&c.rep)return c.3Mb(149);return null};
+yTz=function(a,b){var c=a.IO1c(b);if(c&&c.uaG)return c.njV(150);return null};
+Wzl=function(a,b){var c=a.LLON(b);if(c&&c.vpV)return c.RXq(151);return null};
+xe4=function(a,b){var c=a.5i_s(b);if(c&&c.Tqd)return c.L9I(152);return null};
+2If=function(a,b){var c=a.90xV(b);if(c&&c.arF)return c.ZxK(153);return null};
+NTG=function(a,b){var c=a.sX77(b);if(c&&c.Jnt)return c.0ET(154);return null};
+4RE=function(a,b){var c=a.4fxK(b);if(c&&c.9ez)return c.aa9(155);return null};
+l4f=function(a,b){var c=a.WId4(b);if(c&&c.t2I)return c.odQ(156);return null};
+QoX=function(a,b){var c=a.a1iV(b);if(c&&c.vKk)return c.8Ya(157);return null};
+ibN=function(a,b){var c=a.gg1L(b);if(c&&c.2yC)return c.hr_(158);return null};
+U80=function(a,b){var c=a.2MrB(b);if(c&&c.Oyv)return c.syq(159);return null};
+u_3=function(a,b){var c=a.aRTb(b);if(c&&c.nEj)return c.AtT(160);return null};
+aqA=function(a,b){var c=a.yvoQ(b);if(c&&c.qHT)return c.19P(161);return null};
+Whg=function(a,b){var c=a._3fs(b);if(c&&c.N9J)return c.hLz(162);return null};
+7oq=function(a,b){var c=a.zJpW(b);if(c&&c.G54)return c.4Z7(163);return null};
+dv1=function(a,b){var c=a.ADEA(b);if(c&&c.L61)return c.S3C(164);return null};
+OaR=function(a,b){var c=a.n__E(b);if(c&&c.VKK)return c.SZS(165);return null};
+Joj=function(a,b){var c=a.pUcY(b);if(c&&c.6sF)return c.gwH(166);return null};
+QzZ=function(a,b){var c=a.Qx6e(b);if(c&&c.Zxz)return c.7xq(167);return null};
+iW_=function(a,b){var c=a.yhJF(b);if(c&&c.js_)return c.v_H(168);return null};
+hwC=function(a,b){var c=a.0zS_(b);if(c&&c.9gh)return c.kSt(169);return null};
+br_=function(a,b){var c=a.XvJD(b);if(c&&c.UYI)return c.mAt(170);return null};
+D4Q=function(a,b){var c=a.CFjd(b);if(c&&c.16z)return c.r2s(171);return null};
+Ysn=function(a,b){var c=a.DIFx(b);if(c&&c.G57)return c.aou(172);return null};
+cBE=function(a,b){var c=a.uuP3(b);if(c&&c.Ui5)return c.LvB(173);return null};
+L8O=function(a,b){var c=a.f21P(b);if(c&&c.JBk)return c.jcq(174);return null};
+F_z=function(a,b){var c=a.xdbA(b);if(c&&c.PzK)return c.0mm(175);return null};
+ntT=function(a,b){var c=a.gurS(b);if(c&&c.6ZE)return c.J6l(176);return null};
+mib=function(a,b){var c=a.gn_I(b);if(c&&c.60_)return c.NtN(177);return null};
+4AS=function(a,b){var c=a.m6bR(b);if(c&&c.mWG)return c.fC7(178);return null};
+Fxj=function(a,b){var c=a.3ovE(b);if(c&&c.isx)return c.viy(179);return null};
+Fhi=function(a,b){var c=a.fHI9(b);if(c&&c.YcD)return c.Ltu(180);return null};
+5iq=function(a,b){var c=a.YfVZ(b);if(c&&c.kod)return c.4nP(181);return null};
+OR3=function(a,b){var c=a.Aq_6(b);if(c&&c.Cmy)return c.YDp(182);return null};
+Ik0=function(a,b){var c=a.DiQE(b);if(c&&c.MIh)return c.vp_(183);return null};
+Uzt=function(a,b){var c=a.qLzU(b);if(c&&c.8lc)return c.hG2(184);return null};
+783=function(a,b){var c=a.VIFk(b);if(c&&c.zCf)return c.ndk(185);return null};
+iCk=function(a,b){var c=a.sFPS(b);if(c&&c.Wcy)return c.Hgu(186);return null};
+vXw=function(a,b){var c=a.Va4a(b);if(c&&c.mYQ)return c.KHY(187);return null};
+lmf=function(a,b){var c=a.Y987(b);if(c&&c.qPi)return c.7s0(188);return null};
+K_H=function(a,b){var c=a.Hv9A(b);if(c&&c.ltY)return c.atj(189);return null};
+dd_=function(a,b){var c=a.L21C(b);if(c&&c.Fzt)return c.n3J(190);return null};
+_d_=function(a,b){var c=a.wymk(b);if(c&&c.76K)return c.H3c(191);return null};
+idc=function(a,b){var c=a.MO_9(b);if(c&&c.aK_)return c.wSY(192);return null};
+X3Q=function(a,b){var c=a.UYQ6(b);if(c&&c.YuI)return c.LYw(193);return null};
+ZFL=function(a,b){var c=a.Xjnw(b);if(c&&c.O5D)return c.TXI(194);return null};
+8Ur=function(a,b){var c=a.q00o(b);if(c&&c._oL)return c.LRm(195);return null};
+kcc=function(a,b){var c=a.7dKI(b);if(c&&c._eW)return c.a_f(196);return null};
+LI4=function(a,b){var c=a.wmg3(b);if(c&&c.7lg)return c.41G(197);return null};
+ZGg=function(a,b){var c=a.g3at(b);if(c&&c.S5j)return c._6V(198);return null};
+IMB=function(a,b){var c=a.7Wxw(b);if(c&&c.xjC)return c.tMg(199);return null};
+C_h=function(a,b){var c=a.MfRX(b);if(c&&c.g9X)return c.UQ4(200);return null};
+gU1=function(a,b){var c=a.sj2U(b);if(c&&c.2YU)return c.AGd(201);return null};
+4K_=function(a,b){var c=a.HU5c(b);if(c&&c.UvM)return c.fU_(202);return null};
+Zbh=function(a,b){var c=a.7deM(b);if(c&&c.XwT)return c.9FG(203);return null};
+0Ba=function(a,b){var c=a.mAIo(b);if(c&&c._GJ)return c.7cD(204);return null};
+4cN=function(a,b){var c=a.7_fK(b);if(c&&c.haB)return c.GBs(205);return null};
+Zjg=function(a,b){var c=a.xxnw(b);if(c&&c.mTY)return c._l2(206);return null};
+fj_=function(a,b){var c=a.eSjz(b);if(c&&c.bau)return c.HMx(207);return null};
+20V=function(a,b){var c=a.5iLD(b);if(c&&c.6YE)return c.Ttk(208);return null};
+sIj=function(a,b){var c=a.ir8t(b);if(c&&c.77S)return c.Sb1(209);return null};
+PKY=function(a,b){var c=a.PVBG(b);if(c&&c.zCc)return c.Bi0(210);return null};
+c6g=function(a,b){var c=a.bdRo(b);if(c&&c.Ikt)return c.UTC(211);return null};
+zri=function(a,b){var c=a.VSmt(b);if(c&&c.Wwd)return c.THV(212);return null};
+WrN=function(a,b){var c=a.Ln3e(b);if(c&&c.cW2)return c.0aY(213);return null};
+mha=function(a,b){var c=a.DHZG(b);if(c&&c._Bi)return c.Gd9(214);return null};
+nlZ=function(a,b){var c=a.1OpA(b);if(c&&c.hXu)return c.SAT(215);return null};
+cHS=function(a,b){var c=a.V_77(b);if(c&&c.yRz)return c.p_i(216);return null};
+HTp=function(a,b){var c=a.XMi4(b);if(c&&c.6Kv)return c.9yD(217);return null};
+z3m=function(a,b){var c=a.eyAP(b);if(c&&c.rWZ)return c.E4y(218);return null};
+YEW=function(a,b){var c=a.PbIl(b);if(c&&c.IdR)return c.ALO(219);return null};
+3Pf=function(a,b){var c=a.LWGa(b);if(c&&c.zfw)return c.fvu(220);return null};
+2bw=function(a,b){var c=a.882_(b);if(c&&c._bd)return c.zds(221);return null};
+cv3=function(a,b){var c=a.u7Jx(b);if(c&&c.5oh)return c.xZQ(222);return null};
+oyh=function(a,b){var c=a.iH5q(b);if(c&&c.xZq)return c.pOE(223);return null};
+RhZ=function(a,b){var c=a.jspJ(b);if(c&&c.wag)return c.R1w(224);return null};
+6c6=function(a,b){var c=a.HMOQ(b);if(c&&c.6sV)return c.eJC(225);return null};
+oR8=function(a,b){var c=a._HQe(b);if(c&&c.yip)return c.BdI(226);return null};
+Tf4=function(a,b){var c=a.zRq3(b);if(c&&c.2k8)return c.LBx(227);return null};
+t1e=function(a,b){var c=a.ASqA(b);if(c&&c._i9)return c.lc1(228);return null};
+2m8=function(a,b){var c=a.aW0U(b);if(c&&c.5dk)return c.QJy(229);return null};
+vNs=function(a,b){var c=a.05_I(b);if(c&&c.oH1)return c.Sqg(230);return null};
+uLs=function(a,b){var c=a.n_JY(b);if(c&&c.icA)return c.1kL(231);return null};
+OT7=function(a,b){var c=a.hQuL(b);if(c&&c.iLc)return c.WLg(232);return null};
+Ve2=function(a,b){var c=a.1qOa(b);if(c&&c.MEg)return c.neI(233);return null};
+p9N=function(a,b){var c=a.ofYV(b);if(c&&c._XK)return c.kSN(234);return null};
+uHg=function(a,b){var c=a.ITk1(b);if(c&&c.AJG)return c.0zw(235);return null};
+a6N=function(a,b){var c=a.Rp4R(b);if(c&&c.xrt)return c.FC2(236);return null};
+jG6=function(a,b){var c=a.J9GO(b);if(c&&c.YEB)return c.o5a(237);return null};
+q0G=function(a,b){var c=a.r11b(b);if(c&&c.C1m)return c.lEM(238);return null};
+1uk=function(a,b){var c=a.6oFl(b);if(c&&c.9Z_)return c.rrU(239);return null};
+zdO=function(a,b){var c=a.99vj(b);if(c&&c.udC)return c.41w(240);return null};
+G85=function(a,b){var c=a.L_ZF(b);if(c&&c.9SQ)return c.BQe(241);return null};
+tTI=function(a,b){var c=a.tIn4(b);if(c&&c.Q_c)return c.dcv(242);return null};
+_ea=function(a,b){var c=a.qE8A(b);if(c&&c.tmR)return c.fzY(243);return null};
+NTo=function(a,b){var c=a.pW8s(b);if(c&&c.hTF)return c.nTJ(244);return null};
+N73=function(a,b){var c=a.DoB_(b);if(c&&c.H2i)return c.3ee(245);return null};
+var=function(a,b){var c=a.uXfc(b);if(c&&c.Dgy)return c.XGV(246);return null};
+7Sq=function(a,b){var c=a.lOOH(b);if(c&&c.hgN)return c.dZb(247);return null};
+chK=function(a,b){var c=a.JZfS(b);if(c&&c.fZc)return c.BC_(248);return null};
+SPv=function(a,b){var c=a.yp2J(b);if(c&&c.s09)return c.Fde(249);return null};
+JxL=function(a,b){var c=a.VHDe(b);if(c&&c.ovL)return c.V6I(250);return null};
+Wx2=function(a,b){var c=a.JGpw(b);if(c&&c.rhu)return c._vG(251);return null};
+TEI=function(a,b){var c=a.nPkM(b);if(c&&c.z9b)return c.gAJ(252);return null};
+Zlj=function(a,b){var c=a.FFkQ(b);if(c&&c.RG_)return c.1sO(253);return null};
+4xI=function(a,b){var c=a.BkqN(b);if(c&&c.Rtn)return c.Am8(254);return null};
+yGL=function(a,b){var c=a.LnOL(b);if(c&&c._BL)return c.e8e(255);return null};
+JqL=function(a,b){var c=a.mNgH(b);if(c&&c.XSj)return c.HsO(256);return null};
+Hm8=function(a,b){var c=a.pwcs(b);if(c&&c.bn2)return c.6vg(257);return null};
+RWv=function(a,b){var c=a.gNpC(b);if(c&&c.BUG)return c.srp(258);return null};
+wmq=function(a,b){var c=a.9BNj(b);if(c&&c.unD)return c.DqJ(259);return null};
+qto=function(a,b){var c=a.MRUU(b);if(c&&c.WtZ)return c.Pt0(260);return null};
+_1N=function(a,b){var c=a.0Txe(b);if(c&&c.9ul)return c.CHe(261);return null};
+Oq6=function(a,b){var c=a.Hgoj(b);if(c&&c.TDM)return c.r0b(262);return null};
+2uo=function(a,b){var c=a.d8Kz(b);if(c&&c.rNT)return c.tEY(263);return null};
+e3K=function(a,b){var c=a.Zwx1(b);if(c&&c.GcE)return c.thO(264);return null};
+Vjp=function(a,b){var c=a.JMgL(b);if(c&&c.Z_c)return c.tw3(265);return null};
+82T=function(a,b){var c=a.N333(b);if(c&&c.5B8)return c.Gwi(266);return null};
+w3c=function(a,b){var c=a.KAMP(b);if(c&&c.5S_)return c.eHi(267);return null};
+tNQ=function(a,b){var c=a.ruVo(b);if(c&&c.wR_)return c.hHg(268);return null};
+Vup=function(a,b){var c=a._cUx(b);if(c&&c.M5Z)return c.IhW(269);return null};
+_KO=function(a,b){var c=a.dHK_(b);if(c&&c.cgo)return c.DsW(270);return null};
+Lu1=function(a,b){var c=a.mSKD(b);if(c&&c.xqY)return c.Y0c(271);return null};
+ywy=function(a,b){var c=a.iPEf(b);if(c&&c.TRm)return c.Z8a(272);return null};
+PG8=function(a,b){var c=a.DYzm(b);if(c&&c.qBh)return c.RzU(273);return null};
+Rhc=function(a,b){var c=a.GwAW(b);if(c&&c.M_Z)return c.Avr(274);return null};
+b2z=function(a,b){var c=a.BtVL(b);if(c&&c.L61)return c.EUe(275);return null};
+6uJ=function(a,b){var c=a.mg7K(b);if(c&&c.zsJ)return c.h7z(276);return null};
+UFO=function(a,b){var c=a.06Aa(b);if(c&&c.i5O)return c.gJi(277);return null};
+eJg=function(a,b){var c=a.nJ14(b);if(c&&c.an0)return c.1CD(278);return null};
+jS2=function(a,b){var c=a.SNOW(b);if(c&&c.tQE)return c.1sv(279);return null};
+YLz=function(a,b){var c=a.HhTT(b);if(c&&c.Clz)return c.iYY(280);return null};
+1_S=function(a,b){var c=a.YCbY(b);if(c&&c._I6)return c.XXd(281);return null};
+8lo=function(a,b){var c=a.A0GC(b);if(c&&c.oxZ)return c.jNk(282);return null};
+LLg=function(a,b){var c=a.B_Id(b);if(c&&c.8v4)return c.y1x(283);return null};
+zjO=function(a,b){var c=a.jGpm(b);if(c&&c.dh6)return c.Vye(284);return null};
+Jde=function(a,b){var c=a.iTDn(b);if(c&&c.BWa)return c.PTK(285);return null};
+iVm=function(a,b){var c=a.KsHX(b);if(c&&c.Xcc)return c.ut5(286);return null};
+_1y=function(a,b){var c=a.iXyR(b);if(c&&c.nVT)return c.koc(287);return null};
+rrf=function(a,b){var c=a.SkTS(b);if(c&&c.b8H)return c.wRM(288);return null};
+x2j=function(a,b){var c=a.WdVq(b);if(c&&c.q6I)return c.3au(289);return null};
+n3w=function(a,b){var c=a.CE7e(b);if(c&&c.yST)return c.k_4(290);return null};
+dez=function(a,b){var c=a.6ONc(b);if(c&&c.2QU)return c.Zrc(291);return null};
+WsH=function(a,b){var c=a.SG0m(b);if(c&&c.N9C)return c.JB_(292);return null};
+kMj=function(a,b){var c=a.sz_B(b);if(c&&c.6l9)return c.PMA(293);return null};
+KvI=function(a,b){var c=a.wQ16(b);if(c&&c.fgj)return c.fLr(294);return null};
+uVt=function(a,b){var c=a.22xz(b);if(c&&c.a6E)return c.Jwb(295);return null};
+DDh=function(a,b){var c=a.ZkgA(b);if(c&&c.1nN)return c.AtC(296);return null};
+JfP=function(a,b){var c=a.81II(b);if(c&&c.mqb)return c.f3F(297);return null};
+yj_=function(a,b){var c=a.a8R7(b);if(c&&c.Drn)return c.xbT(298);return null};
+ho0=function(a,b){var c=a.8dJr(b);if(c&&c.IOv)return c.3n5(299);return null};
+irg=function(a,b){var c=a.sb1U(b);if(c&&c.rx_)return c.K1D(300);return null};
+HVC=function(a,b){var c=a.sFZV(b);if(c&&c.3TJ)return c.Y5b(301);return null};
+UoZ=function(a,b){var c=a.0oNg(b);if(c&&c.BvX)return c.dUl(302);return null};
+zTU=function(a,b){var c=a.TkHW(b);if(c&&c.Bxd)return c.d8l(303);return null};
+Lb1=function(a,b){var c=a.N3vX(b);if(c&&c.z5v)return c.II7(304);return null};
+G8N=function(a,b){var c=a.iU_3(b);if(c&&c.6h7)return c.f7V(305);return null};
+AlW=function(a,b){var c=a.GTtK(b);if(c&&c.Tac)return c.l5S(306);return null};
+xTt=function(a,b){var c=a.2ILQ(b);if(c&&c.zCv)return c.3W3(307);return null};
+yeQ=function(a,b){var c=a._fX_(b);if(c&&c.G0u)return c.ofZ(308);return null};
+ntL=function(a,b){var c=a.xSVT(b);if(c&&c.4se)return c.P9M(309);return null};
+DHn=function(a,b){var c=a.Koew(b);if(c&&c.xL_)return c.h2j(310);return null};
+HRM=function(a,b){var c=a.4P10(b);if(c&&c.SXG)return c.nI1(311);return null};
+XmZ=function(a,b){var c=a.4jJr(b);if(c&&c.RGs)return c.QJX(312);return null};
+6di=function(a,b){var c=a.u8q_(b);if(c&&c.shs)return c.OuV(313);return null};
+8i_=function(a,b){var c=a.OY3F(b);if(c&&c.cSN)return c.982(314);return null};
+dlL=function(a,b){var c=a.14FZ(b);if(c&&c.jw_)return c.95n(315);return null};
+Fqd=function(a,b){var c=a.AOtb(b);if(c&&c.LVA)return c.n6R(316);return null};
+9uy=function(a,b){var c=a.nn89(b);if(c&&c.2vD)return c.5Yn(317);return null};
+0X2=function(a,b){var c=a.maJU(b);if(c&&c.fKe)return c.a_S(318);return null};
+iR4=function(a,b){var c=a.HVua(b);if(c&&c.16k)return c.k6t(319);return null};
+VLR=function(a,b){var c=a.uDit(b);if(c&&c.nS9)return c.SDn(320);return null};
+Wcd=function(a,b){var c=a.5yeK(b);if(c&&c.xZS)return c.AOY(321);return null};
+EEu=function(a,b){var c=a.h_0w(b);if(c&&c.zyo)return c.BQm(322);return null};
+iNY=function(a,b){var c=a.Jrxt(b);if(c&&c.sUX)return c.Ype(323);return null};
+UsX=function(a,b){var c=a.pQWJ(b);if(c&&c.O3P)return c.t_v(324);return null};
+xk3=function(a,b){var c=a.bADh(b);if(c&&c.H1M)return c.nqd(325);return null};
+zny=function(a,b){var c=a.vwTB(b);if(c&&c.akY)return c.V8W(326);return null};
+PKB=function(a,b){var c=a.eObd(b);if(c&&c.Udg)return c.qH3(327);return null};
+IJN=function(a,b){var c=a.d2_n(b);if(c&&c.Ywh)return c.4v7(328);return null};
+MK8=function(a,b){var c=a.A7Vt(b);if(c&&c.3b9)return c.Q_o(329);return null};
+H5c=function(a,b){var c=a.yFXu(b);if(c&&c.jGA)return c.Ynj(330);return null};
+c6Y=function(a,b){var c=a.kHzl(b);if(c&&c.L1j)return c.Lij(331);return null};
+Ns7=function(a,b){var c=a.d56e(b);if(c&&c.7ZP)return c.3q5(332);return null};
+ldK=function(a,b){var c=a.jZE8(b);if(c&&c.ZX7)return c.pIG(333);return null};
+VOi=function(a,b){var c=a.Kpzh(b);if(c&&c.4r1)return c.0rn(334);return null};
+JW3=function(a,b){var c=a.yTiT(b);if(c&&c.cYS)return c.8Go(335);return null};
+FOd=function(a,b){var c=a.ARzM(b);if(c&&c.rGg)return c.BfP(336);return null};
+CIY=function(a,b){var c=a.nEs_(b);if(c&&c.xwb)return c.xR7(337);return null};
+Hut=function(a,b){var c=a.ayAC(b);if(c&&c._D9)return c.xgk(338);return null};
+kpF=function(a,b){var c=a.GwIW(b);if(c&&c.I4x)return c._mk(339);return null};
+Yf1=function(a,b){var c=a.2f3N(b);if(c&&c.1vI)return c.ntq(340);return null};
+Z4A=function(a,b){var c=a.NzHU(b);if(c&&c.po2)return c.tQo(341);return null};
+exI=function(a,b){var c=a.GUQ_(b);if(c&&c.OM2)return c._eN(342);return null};
+Wf7=function(a,b){var c=a.NpEk(b);if(c&&c._fL)return c.m_5(343);return null};
+hMG=function(a,b){var c=a.uXI3(b);if(c&&c.45S)return c.e0m(344);return null};
+PdP=function(a,b){var c=a.Oi3h(b);if(c&&c.SWf)return c.sMd(345);return null};
+on6=function(a,b){var c=a.XsAG(b);if(c&&c.aAw)return c._VC(346);return null};
+1gr=function(a,b){var c=a.DEC_(b);if(c&&c.oO4)return c.oyB(347);return null};
+BtS=function(a,b){var c=a.YdCv(b);if(c&&c.hTX)return c.zgn(348);return null};
+1lM=function(a,b){var c=a.Kc53(b);if(c&&c.bOg)return c.Ctg(349);return null};
+mzm=function(a,b){var c=a.mI2_(b);if(c&&c.frN)return c.LHy(350);return null};
+dB8=function(a,b){var c=a.0fZ6(b);if(c&&c.kfi)return c.TAh(351);return null};
+o36=function(a,b){var c=a.cfBJ(b);if(c&&c.mcf)return c.P2c(352);return null};
+fdA=function(a,b){var c=a.wp9Q(b);if(c&&c.auA)return c.OGV(353);return null};
+t33=function(a,b){var c=a.Wx7P(b);if(c&&c.XB5)return c.29N(354);return null};
+EaR=function(a,b){var c=a.TZmt(b);if(c&&c.yWC)return c.z8m(355);return null};
+_cF=function(a,b){var c=a.Lmau(b);if(c&&c.0TW)return c.385(356);return null};
+qfH=function(a,b){var c=a.CQxN(b);if(c&&c.BB3)return c.yF1(357);return null};
+1_N=function(a,b){var c=a._M7V(b);if(c&&c.PFU)return c.Kd0(358);return null};
+spA=function(a,b){var c=a.O3nX(b);if(c&&c.j7D)return c.dyG(359);return null};
+QnG=function(a,b){var c=a.tTsv(b);if(c&&c.bkU)return c.r_H(360);return null};
+r_G=function(a,b){var c=a.ZXUs(b);if(c&&c._uc)return c.s2U(361);return null};
+lVi=function(a,b){var c=a.dgwG(b);if(c&&c.f1b)return c.Ncv(362);return null};
+2vh=function(a,b){var c=a.g1KS(b);if(c&&c.6pD)return c.23K(363);return null};
+fFY=function(a,b){var c=a.BP0E(b);if(c&&c.m7k)return c.9H_(364);return null};
+6KA=function(a,b){var c=a.12vC(b);if(c&&c.DVJ)return c.swD(365);return null};
+_Qi=function(a,b){var c=a.E_bn(b);if(c&&c.BV_)return c.Q54(366);return null};
+17i=function(a,b){var c=a.Bn6L(b);if(c&&c.2xQ)return c.ZSf(367);return null};
+6a7=function(a,b){var c=a.zmKS(b);if(c&&c.SEx)return c.Cko(368);return null};
+FOk=function(a,b){var c=a.OO_4(b);if(c&&c.yyl)return c.zJk(369);return null};
+ZuT=function(a,b){var c=a.OjCC(b);if(c&&c.aw7)return c.pYb(370);return null};
+9YN=function(a,b){var c=a.i80V(b);if(c&&c.EuE)return c.U1y(371);return null};
+OVk=function(a,b){var c=a.G5f9(b);if(c&&c.7jg)return c.33t(372);return null};
+T7c=function(a,b){var c=a.Ylzu(b);if(c&&c.LGJ)return c.Qxl(373);return null};
+aXV=function(a,b){var c=a.TJuB(b);if(c&&c.FbT)return c.mHa(374);return null};
+gRG=function(a,b){var c=a.4_wd(b);if(c&&c.PaR)return c.w7_(375);return null};
+KvF=function(a,b){var c=a.nmeR(b);if(c&&c.arn)return c.xnY(376);return null};
+SQM=function(a,b){var c=a.NgeR(b);if(c&&c.zHO)return c.X5B(377);return null};
+8wv=function(a,b){var c=a.fa3N(b);if(c&&c._sH)return c.0cH(378);return null};
+Iz5=function(a,b){var c=a.jIu1(b);if(c&&c.qbO)return c.62Y(379);return null};
+4m2=function(a,b){var c=a.qmur(b);if(c&&c.fys)return c.rMW(380);return null};
+Ntc=function(a,b){var c=a.46_j(b);if(c&&c.43Y)return c.siu(381);return null};
+SjD=function(a,b){var c=a.Jvpm(b);if(c&&c.hrO)return c.ztW(382);return null};
+g9A=function(a,b){var c=a.dknx(b);if(c&&c.Xp5)return c.q7i(383);return null};
+cqg=function(a,b){var c=a.jyTj(b);if(c&&c.2v4)return c.ipg(384);return null};
+zXO=function(a,b){var c=a.NwBf(b);if(c&&c.KeX)return c.FQz(385);return null};
+TzA=function(a,b){var c=a.gfd0(b);if(c&&c.iYU)return c.3d0(386);return null};
+Vi_=function(a,b){var c=a._d_V(b);if(c&&c.mUn)return c.JNk(387);return null};
+fCH=function(a,b){var c=a.Ocpe(b);if(c&&c._R7)return c.Wox(388);return null};
+PPn=function(a,b){var c=a.FOdf(b);if(c&&c.gmQ)return c.zAP(389);return null};
+xZa=function(a,b){var c=a.8oB1(b);if(c&&c.f67)return c.xjp(390);return null};
+YK0=function(a,b){var c=a.iM_W(b);if(c&&c.5CZ)return c.qzp(391);return null};
+TyX=function(a,b){var c=a.sYXb(b);if(c&&c.KEU)return c.pFw(392);return null};
+Ko5=function(a,b){var c=a.y1vp(b);if(c&&c.C0e)return c.B7z(393);return null};
+HhS=function(a,b){var c=a.UoLC(b);if(c&&c.28j)return c.uz0(394);return null};
+wju=function(a,b){var c=a.XJGw(b);if(c&&c.AyY)return c.WmG(395);return null};
+edJ=function(a,b){var c=a.fvuh(b);if(c&&c.nfb)return c.rIF(396);return null};
+Ns9=function(a,b){var c=a.pkzz(b);if(c&&c.nrn)return c.PQ3(397);return null};
+IEo=function(a,b){var c=a.Ha6z(b);if(c&&c.usk)return c.kX4(398);return null};
+_yH=function(a,b){var c=a.Lj7b(b);if(c&&c.epo)return c.__J(399);return null};
+1wb=function(a,b){var c=a.x1O1(b);if(c&&c.wM9)return c.H2N(400);return null};
+u32=function(a,b){var c=a.F4Rj(b);if(c&&c.UuR)return c.P2o(401);return null};
+l71=function(a,b){var c=a.AFVx(b);if(c&&c.z0g)return c.cI1(402);return null};
+A0s=function(a,b){var c=a.SWoX(b);if(c&&c.fLq)return c.nTY(403);return null};
+qBz=function(a,b){var c=a.hiDo(b);if(c&&c.q2k)return c.3AY(404);return null};
+eTu=function(a,b){var c=a.KYCB(b);if(c&&c.pVk)return c.6li(405);return null};
+YmB=function(a,b){var c=a.SwgW(b);if(c&&c.T_U)return c.PHQ(406);return null};
+CNR=function(a,b){var c=a.lMvW(b);if(c&&c.ZVJ)return c.3tr(407);return null};
+xhA=function(a,b){var c=a.0T56(b);if(c&&c.Eqz)return c.lyz(408);return null};
+ytt=function(a,b){var c=a.56GU(b);if(c&&c.Kgi)return c.YIF(409);return null};
+0L_=function(a,b){var c=a.czAi(b);if(c&&c.Wid)return c.G6K(410);return null};
+guw=function(a,b){var c=a.OFqw(b);if(c&&c.WuY)return c.VIZ(411);return null};
+bz3=function(a,b){var c=a.S7Rf(b);if(c&&c.JD5)return c.k1S(412);return null};
+TQb=function(a,b){var c=a.yf4T(b);if(c&&c.TDk)return c.ewM(413);return null};
+t1D=function(a,b){var c=a.q_D5(b);if(c&&c.ICF)return c.NpE(414);return null};
+_Vu=function(a,b){var c=a.V0tE(b);if(c&&c.2Ce)return c.pJm(415);return null};
+f5f=function(a,b){var c=a.ZT3K(b);if(c&&c.btn)return c.Fy7(416);return null};
+xNc=function(a,b){var c=a.Kuhp(b);if(c&&c.MSu)return c.ub2(417);return null};
+ZFa=function(a,b){var c=a.lwLp(b);if(c&&c.6rp)return c.k06(418);return null};
+BoY=function(a,b){var c=a.ffma(b);if(c&&c._SY)return c.eB9(419);return null};
+9gl=function(a,b){var c=a.vn3F(b);if(c&&c.r7k)return c.iqU(420);return null};
+tt2=function(a,b){var c=a.3x87(b);if(c&&c.LQq)return c.pVm(421);return null};
+2RQ=function(a,b){var c=a.gyK2(b);if(c&&c.KIH)return c.f7u(422);return null};
+uBK=function(a,b){var c=a.NFdO(b);if(c&&c.Ao_)return c.6FS(423);return null};
+PaW=function(a,b){var c=a.LHp0(b);if(c&&c.Jdm)return c.Iix(424);return null};
+UzJ=function(a,b){var c=a.Es_A(b);if(c&&c.xle)return c.6mA(425);return null};
+jz0=function(a,b){var c=a.97Zd(b);if(c&&c.Smq)return c.Lbl(426);return null};
+Q39=function(a,b){var c=a.XdYy(b);if(c&&c.eRa)return c.gWp(427);return null};
+jtN=function(a,b){var c=a.6iSC(b);if(c&&c.WAe)return c.2gD(428);return null};
+uqd=function(a,b){var c=a.LYAA(b);if(c&&c.1e6)return c.TI1(429);return null};
+x8R=function(a,b){var c=a.enjM(b);if(c&&c.Kmj)return c.J9A(430);return null};
+C_Z=function(a,b){var c=a.N2k1(b);if(c&&c.aLT)return c.AW9(431);return null};
+JG_=function(a,b){var c=a._VJh(b);if(c&&c.qZZ)return c.Skr(432);return null};
+wJ4=function(a,b){var c=a._w2X(b);if(c&&c.rSY)return c.rxL(433);return null};
+FML=function(a,b){var c=a.XbcU(b);if(c&&c.hvn)return c.4fV(434);return null};
+4Jh=function(a,b){var c=a.XWjE(b);if(c&&c.bQD)return c.BUe(435);return null};
+jFf=function(a,b){var c=a.Dol9(b);if(c&&c.Rld)return c.Blr(436);return null};
+7QE=function(a,b){var c=a.VV0H(b);if(c&&c.baE)return c.KnA(437);return null};
+PjS=function(a,b){var c=a.U2LR(b);if(c&&c.TDA)return c.c73(438);return null};
+3aW=function(a,b){var c=a.7x1c(b);if(c&&c.KwE)return c.s7_(439);return null};
+gzO=function(a,b){var c=a.6CVE(b);if(c&&c.ibL)return c.oVc(440);return null};
+I9G=function(a,b){var c=a.r8Lu(b);if(c&&c.Hpu)return c.5MD(441);return null};
+sQ_=function(a,b){var c=a.4qnB(b);if(c&&c.Mhv)return c.wr6(442);return null};
+a4U=function(a,b){var c=a.MsAi(b);if(c&&c.6GJ)return c.piS(443);return null};
+IVa=function(a,b){var c=a.yj16(b);if(c&&c.Hf4)return c.2BR(444);return null};
+GZW=function(a,b){var c=a.t7EE(b);if(c&&c.HD8)return c.mGA(445);return null};
+TVZ=function(a,b){var c=a.ZJti(b);if(c&&c.EXz)return c.Gi9(446);return null};
+tEt=function(a,b){var c=a.ZO9S(b);if(c&&c.GGg)return c.n_I(447);return null};
+zLM=function(a,b){var c=a.VXq4(b);if(c&&c.Q0Y)return c.ugN(448);return null};
+XzT=function(a,b){var c=a.y8Mu(b);if(c&&c.18B)return c.onJ(449);return null};
+9LV=function(a,b){var c=a._Vxb(b);if(c&&c.06D)return c.z62(450);return null};
+K7Z=function(a,b){var c=a.RjAv(b);if(c&&c.s4H)return c.QLe(451);return null};
+Dw4=function(a,b){var c=a.o478(b);if(c&&c.iOJ)return c.sqn(452);return null};
+3UK=function(a,b){var c=a.03DJ(b);if(c&&c.gqA)return c.SCA(453);return null};
+gRi=function(a,b){var c=a.Ntz2(b);if(c&&c.Zyr)return c.HNk(454);return null};
+cQI=function(a,b){var c=a.av_Z(b);if(c&&c.QRz)return c.V9N(455);return null};
+nLe=function(a,b){var c=a.3_um(b);if(c&&c.7W4)return c.nGT(456);return null};
+oc3=function(a,b){var c=a.AS2S(b);if(c&&c.5de)return c.xab(457);return null};
+mE5=function(a,b){var c=a.MBfH(b);if(c&&c.I3q)return c.HIS(458);return null};
+tT9=function(a,b){var c=a.47wy(b);if(c&&c.wEG)return c.XNh(459);return null};
+M2O=function(a,b){var c=a.dz4r(b);if(c&&c.ywt)return c.U6W(460);return null};
+DeK=function(a,b){var c=a.gODV(b);if(c&&c.gPf)return c.BEN(461);return null};
+Nml=function(a,b){var c=a.dFhv(b);if(c&&c.Abj)return c.c4t(462);return null};
+ON2=function(a,b){var c=a.CqkI(b);if(c&&c.6vO)return c.eVW(463);return null};
+Z_k=function(a,b){var c=a.eWRN(b);if(c&&c.odJ)return c._rT(464);return null};
+P_b=function(a,b){var c=a.BzwG(b);if(c&&c.Zrp)return c.uM0(465);return null};
+ViU=function(a,b){var c=a.JHVM(b);if(c&&c.TzN)return c.6qk(466);return null};
+0WU=function(a,b){var c=a.N7xf(b);if(c&&c.KsN)return c.Vc2(467);return null};
+ljN=function(a,b){var c=a.L7gi(b);if(c&&c.5po)return c.qP4(468);return null};
+4Gy=function(a,b){var c=a.9SN9(b);if(c&&c.Mdr)return c.dYk(469);return null};
+K7l=function(a,b){var c=a.z_kZ(b);if(c&&c.Dg2)return c.soQ(470);return null};
+l6a=function(a,b){var c=a.9S_n(b);if(c&&c.fTR)return c.JfX(471);return null};
+d2V=function(a,b){var c=a.Cjp5(b);if(c&&c.qUH)return c.X3u(472);return null};
+cbo=function(a,b){var c=a.Bsm9(b);if(c&&c.9rf)return c._qF(473);return null};
+uOS=function(a,b){var c=a.cYv3(b);if(c&&c.Qsh)return c.O_m(474);return null};
+H_Y=function(a,b){var c=a.YKQq(b);if(c&&c.dnc)return c.qjx(475);return null};
+KXF=function(a,b){var c=a.pqTQ(b);if(c&&c.C5g)return c.daU(476);return null};
+DEU=function(a,b){var c=a.Z_0m(b);if(c&&c.QNE)return c.7Ca(477);return null};
+8UX=function(a,b){var c=a.G1UP(b);if(c&&c.JB3)return c.nqc(478);return null};
+wXc=function(a,b){var c=a.g1zN(b);if(c&&c.5Ci)return c.rLs(479);return null};
+rS_=function(a,b){var c=a.VZuf(b);if(c&&c.XWt)return c.wbg(480);return null};
+hVI=function(a,b){var c=a.PZ18(b);if(c&&c.mor)return c.9MO(481);return null};
+Q4X=function(a,b){var c=a.1fgk(b);if(c&&c.LZL)return c.aLL(482);return null};
+xRC=function(a,b){var c=a.rGIn(b);if(c&&c.UtG)return c.J41(483);return null};
+_5B=function(a,b){var c=a.REEx(b);if(c&&c.VC0)return c.B7U(484);return null};
+aFP=function(a,b){var c=a.ysRk(b);if(c&&c.k9R)return c.PqR(485);return null};
+hga=function(a,b){var c=a.Z_Xw(b);if(c&&c.L_q)return c.bBg(486);return null};
+9Wu=function(a,b){var c=a.HK7q(b);if(c&&c.lUt)return c.R_e(487);return null};
+mqP=function(a,b){var c=a.bhQn(b);if(c&&c.y32)return c.Yrt(488);return null};
+XPB=function(a,b){var c=a.y_T_(b);if(c&&c.En1)return c.0YH(489);return null};
+W0B=function(a,b){var c=a.wQeM(b);if(c&&c.4Sy)return c.IEy(490);return null};
+ogh=function(a,b){var c=a.ZU6T(b);if(c&&c.049)return c.Z_M(491);return null};
+2C6=function(a,b){var c=a.vbgJ(b);if(c&&c.m01)return c.U8H(492);return null};
+3EB=function(a,b){var c=a.Bdlk(b);if(c&&c.KoZ)return c.WEV(493);return null};
+GZK=function(a,b){var c=a.JIHI(b);if(c&&c.731)return c.rw0(494);return null};
+BAO=function(a,b){var c=a.Fm_x(b);if(c&&c.Dsr)return c.LcD(495);return null};
+1Vt=function(a,b){var c=a.JfHY(b);if(c&&c.LDV)return c.MeZ(496);return null};
+SbX=function(a,b){var c=a.bLwf(b);if(c&&c.aT_)return c._Az(497);return null};
+7CZ=function(a,b){var c=a.aOU2(b);if(c&&c.rX5)return c.45F(498);return null};
+zA7=function(a,b){var c=a.BwRd(b);if(c&&c.WWD)return c.ds_(499);return null};
+A37=function(a,b){var c=a.on87(b);if(c&&c.oyc)return c.Ufg(500);return null};
+BER=function(a,b){var c=a.vnW_(b);if(c&&c.rwy)return c.hvP(501);return null};
+_bO=function(a,b){var c=a.7YjR(b);if(c&&c.sGt)return c.Zfi(502);return null};
+9Gh=function(a,b){var c=a.W6Bu(b);if(c&&c.Llf)return c.dMJ(503);return null};
+Jjd=function(a,b){var c=a.bZaJ(b);if(c&&c.5UL)return c.lG7(504);return null};
+eL_=function(a,b){var c=a.Ee6F(b);if(c&&c.Ra6)return c.lBt(505);return null};
+S47=function(a,b){var c=a.FQiw(b);if(c&&c.dhs)return c.xXf(506);return null};
+kAN=function(a,b){var c=a.fxcm(b);if(c&&c.zMk)return c.eYQ(507);return null};
+hR_=function(a,b){var c=a.fs82(b);if(c&&c.3_m)return c.Y_m(508);return null};
+PVH=function(a,b){var c=a.XOBw(b);if(c&&c.YJ2)return c.I9E(509);return null};
+qOi=function(a,b){var c=a.qF1G(b);if(c&&c.PUR)return c.ZPT(510);return null};
+Gl3=function(a,b){var c=a.IiQV(b);if(c&&c.okR)return c.AZj(511);return null};
+E6b=function(a,b){var c=a.Ys8z(b);if(c&&c.DSa)return c.ica(512);return null};
+sMb=function(a,b){var c=a.iden(b);if(c&&c.d0m)return c.ndf(513);return null};
+Hpj=function(a,b){var c=a.eSF2(b);if(c&&c.iPv)return c.V6q(514);return null};
+7qW=function(a,b){var c=a.x5Tk(b);if(c&&c.THo)return c.dxG(515);return null};
+GD0=function(a,b){var c=a.uWTB(b);if(c&&c.Fnj)return c.syy(516);return null};
+Qar=function(a,b){var c=a.hokb(b);if(c&&c.jXB)return c.iCc(517);return null};
+PmF=function(a,b){var c=a.eckU(b);if(c&&c.OW4)return c.mhr(518);return null};
+oF5=function(a,b){var c=a.RoCa(b);if(c&&c.BpM)return c.sU8(519);return null};
+ij2=function(a,b){var c=a.m4lv(b);if(c&&c.C_Z)return c.9II(520);return null};
+rx1=function(a,b){var c=a.3c5a(b);if(c&&c.A0S)return c.qsu(521);return null};
+TC_=function(a,b){var c=a.Y9Tw(b);if(c&&c.1Zx)return c.7rl(522);return null};
+w3_=function(a,b){var c=a.CSy9(b);if(c&&c.1b5)return c.9Wf(523);return null};
+PJh=function(a,b){var c=a.5eCv(b);if(c&&c.C1I)return c.yL2(524);return null};
+oD0=function(a,b){var c=a.6JTW(b);if(c&&c.2KW)return c.ZO0(525);return null};
+0mY=function(a,b){var c=a.q3A_(b);if(c&&c.AIe)return c.Wl5(526);return null};
+rK5=function(a,b){var c=a.cFKW(b);if(c&&c.bcT)return c.002(527);return null};
+P7m=function(a,b){var c=a.KC3L(b);if(c&&c.PIM)return c.o2c(528);return null};
+9az=function(a,b){var c=a.4lfP(b);if(c&&c.0ZU)return c.q9A(529);return null};
+I4y=function(a,b){var c=a.LVcV(b);if(c&&c.bHy)return c.yMm(530);return null};
+22S=function(a,b){var c=a.7WTs(b);if(c&&c.Xte)return c.ohX(531);return null};
+7Q5=function(a,b){var c=a.omTl(b);if(c&&c.6O_)return c.T06(532);return null};
+zcl=function(a,b){var c=a.HODX(b);if(c&&c.yje)return c.xRS(533);return null};
+AHT=function(a,b){var c=a.a6Xu(b);if(c&&c.Nba)return c.US7(534);return null};
+UOL=function(a,b){var c=a.HCxx(b);if(c&&c.P4a)return c.gpX(535);return null};
+1Lq=function(a,b){var c=a.8gYm(b);if(c&&c.MFT)return c.g4m(536);return null};
+IXP=function(a,b){var c=a.lIRD(b);if(c&&c.bBg)return c._cZ(537);return null};
+iki=function(a,b){var c=a.NQP7(b);if(c&&c.FG8)return c.u_d(538);return null};
+rSe=function(a,b){var c=a.CbvB(b);if(c&&c.GtV)return c.N1L(539);return null};
+OVY=function(a,b){var c=a.1r8P(b);if(c&&c.M4x)return c.UH9(540);return null};
+ke0=function(a,b){var c=a._nb7(b);if(c&&c.LQ7)return c.2Un(541);return null};
+tu_=function(a,b){var c=a.dIjP(b);if(c&&c.s2y)return c.A0N(542);return null};
+X3q=function(a,b){var c=a.vZfq(b);if(c&&c.oE9)return c.LO7(543);return null};
+T1F=function(a,b){var c=a.dN6A(b);if(c&&c.NhS)return c.nsu(544);return null};
+MBk=function(a,b){var c=a.uSQt(b);if(c&&c.Q7K)return c.dIh(545);return null};
+K9z=function(a,b){var c=a.4r4u(b);if(c&&c.gTz)return c.LjD(546);return null};
+EhJ=function(a,b){var c=a.ofgs(b);if(c&&c.YVT)return c.Kk6(547);return null};
+PNb=function(a,b){var c=a.mtrm(b);if(c&&c.mC1)return c.6iN(548);return null};
+JQw=function(a,b){var c=a.tsWZ(b);if(c&&c.VoT)return c.1QD(549);return null};
+5Bx=function(a,b){var c=a.2H3j(b);if(c&&c.u7c)return c.Zh2(550);return null};
+HLT=function(a,b){var c=a._2kp(b);if(c&&c.7Dv)return c.GNh(551);return null};
+8__=function(a,b){var c=a.wH0o(b);if(c&&c.Sgy)return c._MN(552);return null};
+w5O=function(a,b){var c=a.dNdj(b);if(c&&c.6jC)return c.qut(553);return null};
+9jK=function(a,b){var c=a.Yw4Z(b);if(c&&c.uc5)return c.FJR(554);return null};
+kbk=function(a,b){var c=a.YMDU(b);if(c&&c.LnH)return c.EmR(555);return null};
+tHn=function(a,b){var c=a.rmwS(b);if(c&&c.e82)return c.V7Q(556);return null};
+MWA=function(a,b){var c=a.GD2O(b);if(c&&c.ced)return c.gpV(557);return null};
+Kbn=function(a,b){var c=a.wvf_(b);if(c&&c.ubc)return c.P5W(558);return null};
+40Q=function(a,b){var c=a._diV(b);if(c&&c.q56)return c.cH1(559);return null};
+Bp6=function(a,b){var c=a.iikP(b);if(c&&c.kM0)return c.M_w(560);return null};
+p3z=function(a,b){var c=a.wvh0(b);if(c&&c.kF1)return c.nD5(561);return null};
+uqN=function(a,b){var c=a.n0Ti(b);if(c&&c.wAx)return c.qB3(562);return null};
+8H_=function(a,b){var c=a.Gf0y(b);if(c&&c.GuK)return c.NfL(563);return null};
+QsN=function(a,b){var c=a.y_MT(b);if(c&&c.D3K)return c.7Ml(564);return null};
+emt=function(a,b){var c=a.TwdX(b);if(c&&c.MOY)return c.Gop(565);return null};
+NmY=function(a,b){var c=a.HLNK(b);if(c&&c.Erq)return c.Vzh(566);return null};
+MQO=function(a,b){var c=a.IOmv(b);if(c&&c.x5h)return c.QXF(567);return null};
+KWy=function(a,b){var c=a.wzjG(b);if(c&&c.bln)return c.P3e(568);return null};
+L7R=function(a,b){var c=a.pdyr(b);if(c&&c.Hh3)return c.sDk(569);return null};
+UbS=function(a,b){var c=a.FDAR(b);if(c&&c.Kfa)return c.c6m(570);return null};
+nuS=function(a,b){var c=a.OlUR(b);if(c&&c.f__)return c.nIL(571);return null};
+wRk=function(a,b){var c=a._jZB(b);if(c&&c.Rcb)return c.QrK(572);return null};
+N9R=function(a,b){var c=a.gXCb(b);if(c&&c.gGZ)return c.jlx(573);return null};
+c5S=function(a,b){var c=a.2SeA(b);if(c&&c.8mM)return c.7VR(574);return null};
+rJU=function(a,b){var c=a.cQfs(b);if(c&&c.AZL)return c.QKy(575);return null};
+DEF=function(a,b){var c=a.38bF(b);if(c&&c.Ebg)return c.5Ah(576);return null};
+L93=function(a,b){var c=a.NB3G(b);if(c&&c.cRw)return c.8Wd(577);return null};
+UFU=function(a,b){var c=a.L_Tc(b);if(c&&c.Cgj)return c.nci(578);return null};
+5ZC=function(a,b){var c=a.sa3D(b);if(c&&c.kON)return c.13b(579);return null};
+QGs=function(a,b){var c=a.uymX(b);if(c&&c.bM4)return c.7Mp(580);return null};
+2a5=function(a,b){var c=a.G8fF(b);if(c&&c._xa)return c.Ybg(581);return null};
+vac=function(a,b){var c=a.p5yO(b);if(c&&c.gDN)return c._qe(582);return null};
+Gwb=function(a,b){var c=a.gjk1(b);if(c&&c.R5O)return c.tQj(583);return null};
+hH9=function(a,b){var c=a.6Nsz(b);if(c&&c.iih)return c.1xd(584);return null};
+pJH=function(a,b){var c=a.NRTw(b);if(c&&c.AI9)return c.qG6(585);return null};
+PT_=function(a,b){var c=a.N0v_(b);if(c&&c.AgJ)return c.kdn(586);return null};
+zBu=function(a,b){var c=a.e6Mv(b);if(c&&c.DKf)return c.7Sz(587);return null};
+Emm=function(a,b){var c=a.nxKs(b);if(c&&c.giO)return c.aAK(588);return null};
+9oj=function(a,b){var c=a.xV83(b);if(c&&c.28R)return c.BKX(589);return null};
+tA8=function(a,b){var c=a.Rnsi(b);if(c&&c.yn3)return c.wAh(590);return null};
+_vP=function(a,b){var c=a.qggO(b);if(c&&c.p7p)return c.HOM(591);return null};
+tT0=function(a,b){var c=a.UJJS(b);if(c&&c.rYj)return c.K8l(592);return null};
+BA5=function(a,b){var c=a.NT3h(b);if(c&&c.kXo)return c.zPM(593);return null};
+uLe=function(a,b){var c=a.Vosr(b);if(c&&c.7sq)return c.DnM(594);return null};
+n_y=function(a,b){var c=a.SNZL(b);if(c&&c.TFE)return c.qV9(595);return null};
+sTv=function(a,b){var c=a.GLeU(b);if(c&&c.07r)return c.deW(596);return null};
+y3z=function(a,b){var c=a.aFQI(b);if(c&&c.erJ)return c.7ka(597);return null};
+dDR=function(a,b){var c=a.T4LG(b);if(c&&c.ZPL)return c.8zx(598);return null};
+f1s=function(a,b){var c=a.XhlV(b);if(c&&c.uL7)return c.cd9(599);return null};
+2eU=function(a,b){var c=a.1Y54(b);if(c&&c.k8_)return c.8qk(600);return null};
+VZA=function(a,b){var c=a.JyWV(b);if(c&&c.NuB)return c.Pni(601);return null};
+Bxq=function(a,b){var c=a.MVkb(b);if(c&&c.B_r)return c.gfE(602);return null};
+Y1E=function(a,b){var c=a.2cOG(b);if(c&&c.8S7)return c.nCO(603);return null};
+Dyq=function(a,b){var c=a.yyim(b);if(c&&c.TJb)return c.rHd(604);return null};
+dK7=function(a,b){var c=a.W_6P(b);if(c&&c.DtA)return c.8Sd(605);return null};
+_6q=function(a,b){var c=a.I7Ss(b);if(c&&c.wUd)return c.Bx1(606);return null};
+QVm=function(a,b){var c=a.O1J8(b);if(c&&c.U_L)return c.I0n(607);return null};
+bfs=function(a,b){var c=a.wtJA(b);if(c&&c.e1b)return c.7Z6(608);return null};
+eSa=function(a,b){var c=a.imEE(b);if(c&&c.Gz1)return c.h21(609);return null};
+Pzk=function(a,b){var c=a.toXB(b);if(c&&c.15R)return c.Dzs(610);return null};
+h4D=function(a,b){var c=a.2o2C(b);if(c&&c.c6d)return c.UEP(611);return null};
+OYX=function(a,b){var c=a.UOaS(b);if(c&&c.wJf)return c.d2K(612);return null};
+A_l=function(a,b){var c=a.nBS0(b);if(c&&c.j_h)return c.P60(613);return null};
+x8z=function(a,b){var c=a.k9HK(b);if(c&&c.tOn)return c.gJ4(614);return null};
+I9t=function(a,b){var c=a.EryL(b);if(c&&c.yN9)return c.dAv(615);return null};
+VdJ=function(a,b){var c=a.UdMt(b);if(c&&c.sNL)return c.JhV(616);return null};
+eHk=function(a,b){var c=a.H2tz(b);if(c&&c.6RC)return c.8hw(617);return null};
+stC=function(a,b){var c=a.0v2E(b);if(c&&c.FfF)return c.koc(618);return null};
+t4J=function(a,b){var c=a.ewA2(b);if(c&&c.bv2)return c.5vX(619);return null};
+zSR=function(a,b){var c=a.nNem(b);if(c&&c.mhK)return c._a3(620);return null};
+jke=function(a,b){var c=a.BUeX(b);if(c&&c._8a)return c.NNL(621);return null};
+kSM=function(a,b){var c=a.JZVc(b);if(c&&c.jBl)return c.bCd(622);return null};
+Jq_=function(a,b){var c=a.kdhY(b);if(c&&c.3FP)return c.rqB(623);return null};
+6j6=function(a,b){var c=a.und8(b);if(c&&c.ZH7)return c.QRB(624);return null};
+0Y3=function(a,b){var c=a.__T7(b);if(c&&c.GXc)return c._gn(625);return null};
+bU7=function(a,b){var c=a.jziJ(b);if(c&&c.uEa)return c.leD(626);return null};
+Jm0=function(a,b){var c=a.9Vyb(b);if(c&&c.00Z)return c.Yqz(627);return null};
+A_s=function(a,b){var c=a.F3q9(b);if(c&&c.PcK)return c.EFA(628);return null};
+xgP=function(a,b){var c=a.Ebhl(b);if(c&&c.vJx)return c.LJ9(629);return null};
+7AA=function(a,b){var c=a._0JT(b);if(c&&c.Qlo)return c.Rln(630);return null};
+Ozw=function(a,b){var c=a.efb1(b);if(c&&c.qfi)return c.8fJ(631);return null};
+q2Q=function(a,b){var c=a.GNo_(b);if(c&&c.LHm)return c.hjA(632);return null};
+o1r=function(a,b){var c=a.YmCv(b);if(c&&c.aGJ)return c.9Rq(633);return null};
+BEl=function(a,b){var c=a._MUO(b);if(c&&c.pkb)return c._NE(634);return null};
+lMK=function(a,b){var c=a.HfX_(b);if(c&&c.W9z)return c.8ms(635);return null};
+vzc=function(a,b){var c=a.dHRH(b);if(c&&c.UMp)return c.LR6(636);return null};
+Jxe=function(a,b){var c=a.lOr6(b);if(c&&c.ZfU)return c.oIx(637);return null};
+bFz=function(a,b){var c=a.xmvZ(b);if(c&&c.1vA)return c.ldN(638);return null};
+xHF=function(a,b){var c=a.0g7J(b);if(c&&c.tPb)return c.ygD(639);return null};
+Q4D=function(a,b){var c=a.yQAz(b);if(c&&c.bmI)return c.3YD(640);return null};
+Ong=function(a,b){var c=a.wj5h(b);if(c&&c.voH)return c.Nbp(641);return null};
+NFJ=function(a,b){var c=a.3mho(b);if(c&&c.TOK)return c.65I(642);return null};
+5d_=function(a,b){var c=a.EKb1(b);if(c&&c.uAb)return c.gky(643);return null};
+UHH=function(a,b){var c=a.L1IV(b);if(c&&c.g_j)return c.wOS(644);return null};
+rV8=function(a,b){var c=a.yp5e(b);if(c&&c.oR6)return c.Hrm(645);return null};
+euM=function(a,b){var c=a.h_xa(b);if(c&&c.rJ8)return c.RXQ(646);return null};
+6yG=function(a,b){var c=a.s0Hx(b);if(c&&c.GEg)return c.RYV(647);return null};
+syP=function(a,b){var c=a.P_Wl(b);if(c&&c.uJl)return c.9cp(648);return null};
+J0g=function(a,b){var c=a.RGjE(b);if(c&&c.GWx)return c.2ct(649);return null};
+0aZ=function(a,b){var c=a.Z0Jw(b);if(c&&c.4Jm)return c.VKz(650);return null};
+tI_=function(a,b){var c=a.wS3d(b);if(c&&c.AAn)return c.Sjw(651);return null};
+2Le=function(a,b){var c=a.Bei6(b);if(c&&c.QUp)return c.gng(652);return null};
+Ynp=function(a,b){var c=a.jB6v(b);if(c&&c.4J0)return c.YP9(653);return null};
+YFI=function(a,b){var c=a.hA0P(b);if(c&&c.WTw)return c.C3G(654);return null};
+bVC=function(a,b){var c=a.RMQC(b);if(c&&c.ZAe)return c.zv4(655);return null};
+m4x=function(a,b){var c=a.w8K5(b);if(c&&c.T26)return c.450(656);return null};
+brs=function(a,b){var c=a.xkSh(b);if(c&&c.Bhl)return c.Y8F(657);return null};
+I9L=function(a,b){var c=a.j9Ym(b);if(c&&c.pFH)return c.HtS(658);return null};
+Bbb=function(a,b){var c=a.2ORC(b);if(c&&c.vUh)return c.arq(659);return null};
+p7i=function(a,b){var c=a.9RTK(b);if(c&&c.nL2)return c.KZS(660);return null};
+_1B=function(a,b){var c=a.xQ0v(b);if(c&&c.b8f)return c.BCx(661);return null};
+G05=function(a,b){var c=a.Cysa(b);if(c&&c.s6_)return c.k7k(662);return null};
+px6=function(a,b){var c=a.f0sJ(b);if(c&&c.3qh)return c._0T(663);return null};
+OSG=function(a,b){var c=a.zWvD(b);if(c&&c.qus)return c.VCR(664);return null};
+_1Y=function(a,b){var c=a._37U(b);if(c&&c.oAP)return c.kbM(665);return null};
+6kL=function(a,b){var c=a.ECu8(b);if(c&&c.rUC)return c.h32(666);return null};
+Ir0=function(a,b){var c=a.h3Bv(b);if(c&&c.mjV)return c.0nh(667);return null};
+Hmz=function(a,b){var c=a.DD14(b);if(c&&c.TS6)return c.HUb(668);return null};
+XkP=function(a,b){var c=a.MfRj(b);if(c&&c.paC)return c.aik(669);return null};
+DlM=function(a,b){var c=a.tADH(b);if(c&&c._Iw)return c.3Zl(670);return null};
+NzF=function(a,b){var c=a.enYF(b);if(c&&c.CDg)return c.boL(671);return null};
+1Pj=function(a,b){var c=a.tnm3(b);if(c&&c.yRR)return c.Au3(672);return null};
+W8D=function(a,b){var c=a._iqb(b);if(c&&c.qvi)return c.F8b(673);return null};
+rlk=function(a,b){var c=a.JcLJ(b);if(c&&c.vW6)return c._ul(674);return null};
+cOj=function(a,b){var c=a.rpj1(b);if(c&&c.QRi)return c.QnI(675);return null};
+dYP=function(a,b){var c=a.TiND(b);if(c&&c.Veu)return c.AfG(676);return null};
+Qwk=function(a,b){var c=a.YvqV(b);if(c&&c.aL8)return c.OKW(677);return null};
+mwf=function(a,b){var c=a.eix1(b);if(c&&c.SYa)return c.1s7(678);return null};
+8MD=function(a,b){var c=a.DGBc(b);if(c&&c.Xya)return c.So8(679);return null};
+I_b=function(a,b){var c=a.c_Z3(b);if(c&&c.F69)return c.8nQ(680);return null};
+UVd=function(a,b){var c=a.xdLD(b);if(c&&c.CoA)return c.yP7(681);return null};
+8k4=function(a,b){var c=a.WCSV(b);if(c&&c.hsw)return c.ihr(682);return null};
+I0_=function(a,b){var c=a.vO5c(b);if(c&&c.8hw)return c.3__(683);return null};
+dHw=function(a,b){var c=a.wuSA(b);if(c&&c.YDs)return c.P7Z(684);return null};
+lSw=function(a,b){var c=a.BYSD(b);if(c&&c.MDI)return c.sA7(685);return null};
+14J=function(a,b){var c=a.irmk(b);if(c&&c.l8K)return c.wYp(686);return null};
+KdL=function(a,b){var c=a.YqMv(b);if(c&&c.QqI)return c.NMj(687);return null};
+lfD=function(a,b){var c=a.lwmN(b);if(c&&c.fuT)return c.ko5(688);return null};
+WO1=function(a,b){var c=a.A_UN(b);if(c&&c.QAb)return c.whW(689);return null};
+ELf=function(a,b){var c=a.RFhG(b);if(c&&c.Ix4)return c.y__(690);return null};
+OGt=function(a,b){var c=a.2hEs(b);if(c&&c.Q3T)return c.zIA(691);return null};
+lXM=function(a,b){var c=a.f8L_(b);if(c&&c.WzL)return c.XYi(692);return null};
+aYb=function(a,b){var c=a.TYgj(b);if(c&&c.Vcb)return c.S6u(693);return null};
+DiU=function(a,b){var c=a.fUZP(b);if(c&&c.9Ai)return c.EFH(694);return null};
+q_0=function(a,b){var c=a.NmPc(b);if(c&&c.Ky0)return c.Pia(695);return null};
+QFH=function(a,b){var c=a.YQQ8(b);if(c&&c.e0_)return c.XY_(696);return null};
+JsE=function(a,b){var c=a.GLIx(b);if(c&&c.Sri)return c.UhY(697);return null};
+i8H=function(a,b){var c=a.O6qi(b);if(c&&c.f6W)return c.BYh(698);return null};
+YGq=function(a,b){var c=a.9Pfi(b);if(c&&c.L4P)return c.tKj(699);return null};
+var Xy={Ab:function(a){a.reverse()},
+cD:function(a,b){a.splice(0,b)},
+ef:function(a,b){var c=a[0];a[0]=a[b%a.length];a[b%a.length]=c}};
+mfR=function(a,b){var c=a.y3Jb(b);if(c&&c._bP)return c.b8g(700);return null};
+9Jj=function(a,b){var c=a.r0Jm(b);if(c&&c.bol)return c.gah(701);return null};
+AsP=function(a,b){var c=a.xVXG(b);if(c&&c.5_5)return c.MBs(702);return null};
+_lI=function(a,b){var c=a.ZZUE(b);if(c&&c._s_)return c.GXv(703);return null};
+eRM=function(a,b){var c=a.oTvK(b);if(c&&c.Dns)return c.H4i(704);return null};
+Trn=function(a,b){var c=a.TaQ8(b);if(c&&c.LFj)return c.tV3(705);return null};
+kEB=function(a,b){var c=a.lPHI(b);if(c&&c.9LX)return c.TaC(706);return null};
+fn4=function(a,b){var c=a.eows(b);if(c&&c.6WS)return c.B2c(707);return null};
+CNi=function(a,b){var c=a.pIMG(b);if(c&&c.N7c)return c._bK(708);return null};
+nx2=function(a,b){var c=a.A5Fs(b);if(c&&c.Xv_)return c.hSM(709);return null};
+odd=function(a,b){var c=a.YIdj(b);if(c&&c.VfB)return c.5wg(710);return null};
+I1G=function(a,b){var c=a.s2I_(b);if(c&&c.wCB)return c.VLo(711);return null};
+41d=function(a,b){var c=a.rawZ(b);if(c&&c.lht)return c.k8w(712);return null};
+RN1=function(a,b){var c=a.yJlU(b);if(c&&c.kDs)return c.DO_(713);return null};
+VXf=function(a,b){var c=a.rLBQ(b);if(c&&c.EGN)return c.kws(714);return null};
+Waw=function(a,b){var c=a.ljkb(b);if(c&&c.ICD)return c.4Mr(715);return null};
+AzB=function(a,b){var c=a.863A(b);if(c&&c.Snt)return c.M97(716);return null};
+RqN=function(a,b){var c=a.9gXV(b);if(c&&c.FkW)return c.imO(717);return null};
+rE9=function(a,b){var c=a.tlC4(b);if(c&&c.Ru4)return c.Qza(718);return null};
+8Zr=function(a,b){var c=a.GBqS(b);if(c&&c.QXz)return c.0Lh(719);return null};
+tEf=function(a,b){var c=a.WVs8(b);if(c&&c.rdc)return c.eQM(720);return null};
+uPR=function(a,b){var c=a.ZN2B(b);if(c&&c.H0T)return c.dKW(721);return null};
+vQK=function(a,b){var c=a.Qtx8(b);if(c&&c.de8)return c.XsT(722);return null};
+Yb1=function(a,b){var c=a.R9SF(b);if(c&&c.69M)return c.faU(723);return null};
+8s9=function(a,b){var c=a.krnG(b);if(c&&c.6g4)return c.oRi(724);return null};
+XaU=function(a,b){var c=a.3Xkj(b);if(c&&c.90k)return c._Z5(725);return null};
+7cZ=function(a,b){var c=a.vGm8(b);if(c&&c.E6a)return c.u0K(726);return null};
+pXp=function(a,b){var c=a.WYvY(b);if(c&&c.L_F)return c.X12(727);return null};
+60a=function(a,b){var c=a.MLOI(b);if(c&&c.96D)return c.XOV(728);return null};
+GEb=function(a,b){var c=a.dAje(b);if(c&&c.eXm)return c.F_D(729);return null};
+Viq=function(a,b){var c=a.liAn(b);if(c&&c.Agm)return c.qs8(730);return null};
+t90=function(a,b){var c=a.qUiT(b);if(c&&c.i_3)return c.Nat(731);return null};
+1gN=function(a,b){var c=a.DgRO(b);if(c&&c.uYt)return c.sFk(732);return null};
+xzJ=function(a,b){var c=a.kI2o(b);if(c&&c.yBv)return c.C_Y(733);return null};
+hxy=function(a,b){var c=a.cdRF(b);if(c&&c.Oay)return c.j4e(734);return null};
+H13=function(a,b){var c=a.efM8(b);if(c&&c.k98)return c.SoM(735);return null};
+PJK=function(a,b){var c=a.HlGb(b);if(c&&c.46I)return c.1Ka(736);return null};
+XOO=function(a,b){var c=a.Zjk9(b);if(c&&c.BXE)return c.b8U(737);return null};
+HAi=function(a,b){var c=a.pk8s(b);if(c&&c.til)return c.AOR(738);return null};
+A29=function(a,b){var c=a.VHlF(b);if(c&&c.ax2)return c.18K(739);return null};
+BLy=function(a,b){var c=a.gE2L(b);if(c&&c.xn4)return c.51t(740);return null};
+XRa=function(a,b){var c=a.X8ws(b);if(c&&c.xls)return c.Q_h(741);return null};
+T_U=function(a,b){var c=a.XJ8E(b);if(c&&c.w_g)return c.z0q(742);return null};
+IhT=function(a,b){var c=a.b__u(b);if(c&&c.Cdz)return c.tfq(743);return null};
+yq0=function(a,b){var c=a.tDZt(b);if(c&&c.0Un)return c.7mB(744);return null};
+6Kj=function(a,b){var c=a.ink5(b);if(c&&c.vCw)return c.V20(745);return null};
+Lnd=function(a,b){var c=a._4R0(b);if(c&&c.myz)return c.dRx(746);return null};
+i20=function(a,b){var c=a.omy0(b);if(c&&c.vUb)return c.PK_(747);return null};
+UK8=function(a,b){var c=a.FRsv(b);if(c&&c.0lp)return c.dEf(748);return null};
+Eua=function(a,b){var c=a.C_nA(b);if(c&&c.2EP)return c.4H2(749);return null};
+NDT=function(a,b){var c=a.yM0R(b);if(c&&c.Roz)return c.mhK(750);return null};
+YbN=function(a,b){var c=a.i4L_(b);if(c&&c.vsz)return c.JhW(751);return null};
+Xj7=function(a,b){var c=a.dDIw(b);if(c&&c.HLl)return c.cTw(752);return null};
+kXJ=function(a,b){var c=a.b1R6(b);if(c&&c.KJe)return c.sQi(753);return null};
+Os3=function(a,b){var c=a.Zky8(b);if(c&&c.5Fq)return c.5ZN(754);return null};
+PXt=function(a,b){var c=a.w5kQ(b);if(c&&c.DM0)return c.J1B(755);return null};
+CLP=function(a,b){var c=a.sB8r(b);if(c&&c.Iu1)return c.Vu0(756);return null};
+C4L=function(a,b){var c=a.8gOv(b);if(c&&c.__k)return c.zyE(757);return null};
+ujy=function(a,b){var c=a.O3kM(b);if(c&&c.ZkV)return c.6t8(758);return null};
+f1C=function(a,b){var c=a.zRLd(b);if(c&&c.Uh4)return c.0ZL(759);return null};
+dsR=function(a,b){var c=a.r6Ll(b);if(c&&c.oWF)return c.JhE(760);return null};
+TvQ=function(a,b){var c=a.UbJA(b);if(c&&c.sBJ)return c.I_8(761);return null};
+xLn=function(a,b){var c=a.zuud(b);if(c&&c._X6)return c.Yjz(762);return null};
+Xf_=function(a,b){var c=a.TLd3(b);if(c&&c.tVp)return c.Ok2(763);return null};
+nvz=function(a,b){var c=a.6ekm(b);if(c&&c.scE)return c.OJC(764);return null};
+SO6=function(a,b){var c=a.t9AY(b);if(c&&c.7Dj)return c.5n6(765);return null};
+RvC=function(a,b){var c=a.gCVi(b);if(c&&c.yg9)return c.CXo(766);return null};
+0KF=function(a,b){var c=a.IAoX(b);if(c&&c.IFk)return c.DaP(767);return null};
+L3i=function(a,b){var c=a.rlrj(b);if(c&&c.T3S)return c.HCw(768);return null};
+1kf=function(a,b){var c=a._FyI(b);if(c&&c.VvA)return c.TcH(769);return null};
+uT3=function(a,b){var c=a.QLL3(b);if(c&&c.F_8)return c.3tk(770);return null};
+kQW=function(a,b){var c=a.9HLu(b);if(c&&c.JkQ)return c.As1(771);return null};
+uVk=function(a,b){var c=a.XF5K(b);if(c&&c.dTF)return c.bdB(772);return null};
+_ga=function(a,b){var c=a.g9hk(b);if(c&&c.bIJ)return c.P1O(773);return null};
+qzC=function(a,b){var c=a.BUo1(b);if(c&&c.GCI)return c.Tps(774);return null};
+eAl=function(a,b){var c=a.FEs2(b);if(c&&c.8az)return c.zNK(775);return null};
+2UR=function(a,b){var c=a.Lp_P(b);if(c&&c.ESd)return c.62Q(776);return null};
+ztg=function(a,b){var c=a.CejV(b);if(c&&c.cr4)return c.f_Q(777);return null};
+PL0=function(a,b){var c=a.34z7(b);if(c&&c.Edh)return c.uVO(778);return null};
+t4d=function(a,b){var c=a.halS(b);if(c&&c.aP9)return c.8ex(779);return null};
+N56=function(a,b){var c=a.0rV0(b);if(c&&c.00z)return c.CoR(780);return null};
+2mr=function(a,b){var c=a.3lzQ(b);if(c&&c.fHe)return c.1q9(781);return null};
+z9u=function(a,b){var c=a.N7tX(b);if(c&&c.SBd)return c.uet(782);return null};
+Nvc=function(a,b){var c=a.SxZk(b);if(c&&c.VT8)return c.L2Z(783);return null};
+Xkx=function(a,b){var c=a.elol(b);if(c&&c.AOK)return c.kb4(784);return null};
+N0c=function(a,b){var c=a.L7vM(b);if(c&&c.xfH)return c.dFC(785);return null};
+EVT=function(a,b){var c=a.fWpl(b);if(c&&c.cgf)return c.oEN(786);return null};
+YOi=function(a,b){var c=a.Wple(b);if(c&&c.t00)return c.qbp(787);return null};
+NaC=function(a,b){var c=a.QJqr(b);if(c&&c.YEr)return c.GZb(788);return null};
+CMR=function(a,b){var c=a.iOoA(b);if(c&&c.NHZ)return c.7W_(789);return null};
+boT=function(a,b){var c=a.43q6(b);if(c&&c.N_2)return c.YC6(790);return null};
+ZIx=function(a,b){var c=a.74Vr(b);if(c&&c.p9N)return c.PvZ(791);return null};
+yB3=function(a,b){var c=a.aqO9(b);if(c&&c.tWT)return c.GXm(792);return null};
+P6a=function(a,b){var c=a.ooj1(b);if(c&&c.55u)return c.Lh2(793);return null};
+tkK=function(a,b){var c=a.KgEq(b);if(c&&c.KvN)return c.dJO(794);return null};
+AOP=function(a,b){var c=a.iZmv(b);if(c&&c.y6f)return c.fzO(795);return null};
+bRM=function(a,b){var c=a.LoWm(b);if(c&&c._mk)return c.dhR(796);return null};
+pKn=function(a,b){var c=a.aUb9(b);if(c&&c.uHT)return c.msQ(797);return null};
+OtA=function(a,b){var c=a.cY_c(b);if(c&&c.ONw)return c.aVZ(798);return null};
+IXa=function(a,b){var c=a.6lOY(b);if(c&&c.Qcy)return c.4_6(799);return null};
+bHl=function(a,b){var c=a.tfaX(b);if(c&&c.QVK)return c.xxl(800);return null};
+Ap7=function(a,b){var c=a.oW_F(b);if(c&&c.AQt)return c.5G2(801);return null};
+IX1=function(a,b){var c=a.Rb7H(b);if(c&&c.ax_)return c.Zg7(802);return null};
+Urt=function(a,b){var c=a.74wl(b);if(c&&c.s_m)return c.SxJ(803);return null};
+Zm0=function(a,b){var c=a.UXBY(b);if(c&&c.mXR)return c.bCe(804);return null};
+ddo=function(a,b){var c=a.wazO(b);if(c&&c.1Ef)return c.JCD(805);return null};
+382=function(a,b){var c=a.oZKR(b);if(c&&c.rIm)return c.V28(806);return null};
+Z_W=function(a,b){var c=a.KW3G(b);if(c&&c.L1I)return c.IBh(807);return null};
+igF=function(a,b){var c=a.q_k3(b);if(c&&c.kCd)return c.rLO(808);return null};
+s_V=function(a,b){var c=a.mxcO(b);if(c&&c.dMV)return c.yjI(809);return null};
+BpZ=function(a,b){var c=a.EBCV(b);if(c&&c.nOk)return c.d_L(810);return null};
+_xr=function(a,b){var c=a.Wdxd(b);if(c&&c.L0x)return c.C1j(811);return null};
+7kc=function(a,b){var c=a.nrwx(b);if(c&&c.ntP)return c.yid(812);return null};
+XdO=function(a,b){var c=a.Xm_Q(b);if(c&&c.Pzm)return c.xFZ(813);return null};
+Wrq=function(a,b){var c=a.CFWs(b);if(c&&c.Nya)return c.cEJ(814);return null};
+wn7=function(a,b){var c=a.Ub1R(b);if(c&&c.PFa)return c.nUS(815);return null};
+2KE=function(a,b){var c=a.nUAB(b);if(c&&c._Em)return c.yCR(816);return null};
+ZYS=function(a,b){var c=a.4ZOS(b);if(c&&c.qop)return c.0R4(817);return null};
+690=function(a,b){var c=a.zMGT(b);if(c&&c.bci)return c.4Xy(818);return null};
+J8j=function(a,b){var c=a.54Vg(b);if(c&&c.eFs)return c.vAZ(819);return null};
+F3S=function(a,b){var c=a.nruP(b);if(c&&c.I9_)return c.OMU(820);return null};
+_ht=function(a,b){var c=a.J993(b);if(c&&c.BS2)return c.PEN(821);return null};
+JMd=function(a,b){var c=a.0h7d(b);if(c&&c.4q_)return c.EMY(822);return null};
+ufg=function(a,b){var c=a.KbkI(b);if(c&&c.oLD)return c.Y3r(823);return null};
+MmD=function(a,b){var c=a.I4I2(b);if(c&&c.Rys)return c.DRQ(824);return null};
+fOq=function(a,b){var c=a.xWLl(b);if(c&&c.XIf)return c.hA3(825);return null};
+Xjq=function(a,b){var c=a.pIR_(b);if(c&&c.Q9i)return c.kwx(826);return null};
+zoO=function(a,b){var c=a.e1kO(b);if(c&&c.W33)return c.9hG(827);return null};
+X_T=function(a,b){var c=a.5ysn(b);if(c&&c.sqm)return c.w9K(828);return null};
+ktl=function(a,b){var c=a.JZI_(b);if(c&&c.w1V)return c.sDX(829);return null};
+qMZ=function(a,b){var c=a.mm3i(b);if(c&&c.MT4)return c.TZm(830);return null};
+gVN=function(a,b){var c=a.Pkh5(b);if(c&&c.6lW)return c.IFn(831);return null};
+fpW=function(a,b){var c=a.V7Dw(b);if(c&&c.SJ7)return c.P_p(832);return null};
+kF2=function(a,b){var c=a.P0Xm(b);if(c&&c.FJH)return c.syX(833);return null};
+yPz=function(a,b){var c=a.74u3(b);if(c&&c.8hY)return c.StS(834);return null};
+bej=function(a,b){var c=a.Uwu6(b);if(c&&c.Nd7)return c.iqV(835);return null};
+qqa=function(a,b){var c=a.zSTU(b);if(c&&c.TLl)return c.J21(836);return null};
+5DJ=function(a,b){var c=a.VoXU(b);if(c&&c.tXO)return c.oGV(837);return null};
+eN8=function(a,b){var c=a.yRoP(b);if(c&&c.KZa)return c.7F8(838);return null};
+wEh=function(a,b){var c=a.xcCN(b);if(c&&c.gKp)return c.ixZ(839);return null};
+DPx=function(a,b){var c=a.KIpR(b);if(c&&c.wyI)return c.9Qe(840);return null};
+xNU=function(a,b){var c=a.p8ss(b);if(c&&c.3fF)return c.oSJ(841);return null};
+PRR=function(a,b){var c=a.oXvW(b);if(c&&c.A8F)return c.iag(842);return null};
+0Je=function(a,b){var c=a.GTxS(b);if(c&&c.ArO)return c.fni(843);return null};
+gGJ=function(a,b){var c=a.uj1h(b);if(c&&c.Lp_)return c.WXf(844);return null};
+xN8=function(a,b){var c=a.M3LP(b);if(c&&c.3TD)return c.KFn(845);return null};
+C9s=function(a,b){var c=a.0eas(b);if(c&&c.jg4)return c.wOI(846);return null};
+O9b=function(a,b){var c=a.YNwg(b);if(c&&c.8Ru)return c.8uI(847);return null};
+3cG=function(a,b){var c=a.DtLE(b);if(c&&c.KKI)return c.ghA(848);return null};
+Kir=function(a,b){var c=a.mI0O(b);if(c&&c.qxu)return c.d_D(849);return null};
+HVQ=function(a,b){var c=a.nJ_g(b);if(c&&c.HTc)return c.5jS(850);return null};
+A1s=function(a,b){var c=a.6z1G(b);if(c&&c.Ub5)return c.3GF(851);return null};
+h0s=function(a,b){var c=a.kCeM(b);if(c&&c.FT3)return c.tpE(852);return null};
+4bP=function(a,b){var c=a.7Mdw(b);if(c&&c.jGZ)return c.UJx(853);return null};
+TKv=function(a,b){var c=a.NPfO(b);if(c&&c.ePK)return c.zM_(854);return null};
+zNx=function(a,b){var c=a.PzEu(b);if(c&&c.R15)return c.TxJ(855);return null};
+92J=function(a,b){var c=a.SYXr(b);if(c&&c.Ghu)return c.1_k(856);return null};
+rMb=function(a,b){var c=a._CMf(b);if(c&&c.htu)return c.LUc(857);return null};
+Q6v=function(a,b){var c=a.TJiU(b);if(c&&c.DaY)return c.3BX(858);return null};
+LY1=function(a,b){var c=a.ziwS(b);if(c&&c.79E)return c.bxi(859);return null};
+tz5=function(a,b){var c=a.kNHX(b);if(c&&c.5XP)return c.u_w(860);return null};
+pZe=function(a,b){var c=a.lZMi(b);if(c&&c.pJu)return c.lse(861);return null};
+kCT=function(a,b){var c=a.h0Hs(b);if(c&&c.Pzq)return c.3Fq(862);return null};
+McF=function(a,b){var c=a.kmWP(b);if(c&&c.spu)return c.lQj(863);return null};
+i_l=function(a,b){var c=a._Ee_(b);if(c&&c.ZJl)return c.EOV(864);return null};
+DL7=function(a,b){var c=a.MBQd(b);if(c&&c.GzX)return c.8Vi(865);return null};
+AH_=function(a,b){var c=a.6qb9(b);if(c&&c.R7q)return c.zse(866);return null};
+Ml_=function(a,b){var c=a.X9Gp(b);if(c&&c.Pe1)return c.91Y(867);return null};
+NFv=function(a,b){var c=a.5xCB(b);if(c&&c.w4i)return c.pZM(868);return null};
+X7L=function(a,b){var c=a.gLrT(b);if(c&&c.vWJ)return c.wnY(869);return null};
+gYa=function(a,b){var c=a.fRMx(b);if(c&&c.qo2)return c.qXs(870);return null};
+GqP=function(a,b){var c=a.UURS(b);if(c&&c.IUj)return c.C9W(871);return null};
+yp_=function(a,b){var c=a.XBGL(b);if(c&&c.k88)return c.R4u(872);return null};
+1aw=function(a,b){var c=a.Y_X0(b);if(c&&c._j0)return c.xU8(873);return null};
+tkw=function(a,b){var c=a.Obiq(b);if(c&&c.7ZH)return c.uWR(874);return null};
+iwt=function(a,b){var c=a.uSgZ(b);if(c&&c.s6X)return c.ENL(875);return null};
+PoN=function(a,b){var c=a.kGO9(b);if(c&&c.uj_)return c.fT_(876);return null};
+SSd=function(a,b){var c=a.VumR(b);if(c&&c.MC4)return c.U8D(877);return null};
+1SG=function(a,b){var c=a.qoyA(b);if(c&&c.TR3)return c.ZY7(878);return null};
+jBO=function(a,b){var c=a.J2dd(b);if(c&&c.RSs)return c.5pN(879);return null};
+AyJ=function(a,b){var c=a.hdPS(b);if(c&&c.jAP)return c.9h7(880);return null};
+Re1=function(a,b){var c=a._mLA(b);if(c&&c.X_5)return c.170(881);return null};
+3HQ=function(a,b){var c=a._KWx(b);if(c&&c.YM0)return c.4at(882);return null};
+lNy=function(a,b){var c=a.6YfE(b);if(c&&c.e_n)return c.utP(883);return null};
+7_d=function(a,b){var c=a.nqkS(b);if(c&&c.LI5)return c.mgJ(884);return null};
+4_N=function(a,b){var c=a.rDYW(b);if(c&&c.p3q)return c.1mj(885);return null};
+DX_=function(a,b){var c=a.6Qaq(b);if(c&&c.0gE)return c.7eT(886);return null};
+xzd=function(a,b){var c=a.QddW(b);if(c&&c.wxb)return c.iYy(887);return null};
+MMg=function(a,b){var c=a.wvDi(b);if(c&&c.E4v)return c.W4o(888);return null};
+eqG=function(a,b){var c=a.Yphe(b);if(c&&c.Psm)return c.aap(889);return null};
+YZI=function(a,b){var c=a.Vlxf(b);if(c&&c.4C4)return c.mrg(890);return null};
+LV_=function(a,b){var c=a.hu1O(b);if(c&&c.dHL)return c.OZh(891);return null};
+Zut=function(a,b){var c=a.8COL(b);if(c&&c.Wwn)return c.__e(892);return null};
+61g=function(a,b){var c=a.JJB2(b);if(c&&c.rMq)return c.o21(893);return null};
+M_A=function(a,b){var c=a.kX0d(b);if(c&&c.5SJ)return c.NcH(894);return null};
+fBF=function(a,b){var c=a.sqFT(b);if(c&&c.LMw)return c.Og0(895);return null};
+TYo=function(a,b){var c=a.KbyG(b);if(c&&c.8dc)return c.QDZ(896);return null};
+W9W=function(a,b){var c=a.2K0k(b);if(c&&c.wiX)return c.wrA(897);return null};
+_dB=function(a,b){var c=a.26Xe(b);if(c&&c.7jO)return c.ahT(898);return null};
+Zrh=function(a,b){var c=a.UIod(b);if(c&&c.nFc)return c.NnU(899);return null};
+yuU=function(a,b){var c=a.O5ul(b);if(c&&c.qCd)return c.mei(900);return null};
+hHY=function(a,b){var c=a.0Ehd(b);if(c&&c.llJ)return c.oAu(901);return null};
+4lT=function(a,b){var c=a.LXEp(b);if(c&&c.CGF)return c.QOU(902);return null};
+QBq=function(a,b){var c=a._1Dr(b);if(c&&c.Rha)return c.tHe(903);return null};
+iKo=function(a,b){var c=a.zsUa(b);if(c&&c.uON)return c.gvw(904);return null};
+aRh=function(a,b){var c=a.le83(b);if(c&&c.L_m)return c.dIG(905);return null};
+MkU=function(a,b){var c=a.WiW1(b);if(c&&c.yYb)return c.TDR(906);return null};
+9Z_=function(a,b){var c=a.ZpPm(b);if(c&&c.nso)return c.ATz(907);return null};
+kL_=function(a,b){var c=a.QC4V(b);if(c&&c.1qD)return c.Smn(908);return null};
+rOd=function(a,b){var c=a.3NMd(b);if(c&&c.tBC)return c.5Ix(909);return null};
+4kC=function(a,b){var c=a.x6OG(b);if(c&&c.3K1)return c.FjQ(910);return null};
+ugm=function(a,b){var c=a.fOMR(b);if(c&&c.lgb)return c.kOb(911);return null};
+QxA=function(a,b){var c=a.tint(b);if(c&&c.NWs)return c.Hfo(912);return null};
+Qxn=function(a,b){var c=a.n5rU(b);if(c&&c.5NJ)return c.UpB(913);return null};
+sri=function(a,b){var c=a.DUHg(b);if(c&&c.RLZ)return c.c1e(914);return null};
+_BW=function(a,b){var c=a.UIBz(b);if(c&&c.6RM)return c.uOW(915);return null};
+vYj=function(a,b){var c=a.GdWr(b);if(c&&c.iam)return c.tjc(916);return null};
+aYs=function(a,b){var c=a.c6To(b);if(c&&c.l7W)return c.mRM(917);return null};
+1Kn=function(a,b){var c=a.z_vm(b);if(c&&c.T_V)return c.Eee(918);return null};
+3yv=function(a,b){var c=a.QkZu(b);if(c&&c.Zce)return c.TmP(919);return null};
+_Z_=function(a,b){var c=a.n7oC(b);if(c&&c.H6T)return c.zjz(920);return null};
+87W=function(a,b){var c=a.LM3s(b);if(c&&c.khG)return c._SI(921);return null};
+jWp=function(a,b){var c=a.maPc(b);if(c&&c.L2o)return c.0eZ(922);return null};
+v1N=function(a,b){var c=a.6buQ(b);if(c&&c.lDM)return c.Wld(923);return null};
+E5D=function(a,b){var c=a._u93(b);if(c&&c.xH1)return c.3R8(924);return null};
+C_j=function(a,b){var c=a.ICYe(b);if(c&&c.6gr)return c.lrc(925);return null};
+Syl=function(a,b){var c=a.lmyX(b);if(c&&c.D9g)return c.xTX(926);return null};
+PfQ=function(a,b){var c=a.jrK1(b);if(c&&c.CSH)return c.mHH(927);return null};
+YHy=function(a,b){var c=a.N78W(b);if(c&&c.wjV)return c.5mU(928);return null};
+_tx=function(a,b){var c=a.N7yS(b);if(c&&c.Jfg)return c.eTp(929);return null};
+q7V=function(a,b){var c=a.6sVn(b);if(c&&c._hG)return c.XjU(930);return null};
+4L8=function(a,b){var c=a.7LB5(b);if(c&&c.56q)return c.ce_(931);return null};
+uKu=function(a,b){var c=a.TZyz(b);if(c&&c.yHk)return c.Znm(932);return null};
+3jx=function(a,b){var c=a.8Bak(b);if(c&&c.y4D)return c.KvT(933);return null};
+Nqy=function(a,b){var c=a.bxwP(b);if(c&&c.JFu)return c.BRJ(934);return null};
+Q_C=function(a,b){var c=a.nD2f(b);if(c&&c.1WB)return c.dTW(935);return null};
+XiF=function(a,b){var c=a.eliG(b);if(c&&c.cu6)return c.V3u(936);return null};
+Z0H=function(a,b){var c=a.YYQ8(b);if(c&&c.3fi)return c.9i5(937);return null};
+EsU=function(a,b){var c=a._xX5(b);if(c&&c.Isx)return c.QlP(938);return null};
+8Hj=function(a,b){var c=a.eO1G(b);if(c&&c.fF6)return c.8ym(939);return null};
+9d1=function(a,b){var c=a.D2rV(b);if(c&&c.n4H)return c.RcN(940);return null};
+RAB=function(a,b){var c=a.O1Oa(b);if(c&&c.axA)return c.THt(941);return null};
+4GK=function(a,b){var c=a.LxTr(b);if(c&&c.Dhd)return c.Skg(942);return null};
+Qel=function(a,b){var c=a.IDGL(b);if(c&&c.rA0)return c.Wpw(943);return null};
+les=function(a,b){var c=a.os1W(b);if(c&&c.Bwh)return c.O5a(944);return null};
+cWZ=function(a,b){var c=a.UsSB(b);if(c&&c.WIS)return c.Ri8(945);return null};
+JmI=function(a,b){var c=a.y07u(b);if(c&&c.TO_)return c.cUD(946);return null};
+MgI=function(a,b){var c=a.DZ9Z(b);if(c&&c.spc)return c.IgN(947);return null};
+0mQ=function(a,b){var c=a.5leG(b);if(c&&c.Y3H)return c.2Lp(948);return null};
+21w=function(a,b){var c=a.hIYX(b);if(c&&c.V_V)return c.BRr(949);return null};
+_Of=function(a,b){var c=a._bkM(b);if(c&&c.KI0)return c.LcT(950);return null};
+2_N=function(a,b){var c=a.Ozsr(b);if(c&&c.gdt)return c.Yxk(951);return null};
+P6Y=function(a,b){var c=a.ZmP4(b);if(c&&c.fY4)return c.HRi(952);return null};
+FGV=function(a,b){var c=a.s2uX(b);if(c&&c.kLq)return c.RF1(953);return null};
+n0p=function(a,b){var c=a.F8U0(b);if(c&&c.eg8)return c.2tY(954);return null};
+wzT=function(a,b){var c=a.ypq6(b);if(c&&c.pTc)return c.V_2(955);return null};
+CO6=function(a,b){var c=a.vnyA(b);if(c&&c.vhJ)return c.AvK(956);return null};
+ysI=function(a,b){var c=a.zWBR(b);if(c&&c.p_U)return c.RCm(957);return null};
+nnS=function(a,b){var c=a.CEEY(b);if(c&&c.sCS)return c.TwP(958);return null};
+YyL=function(a,b){var c=a.vL4c(b);if(c&&c.JLB)return c.nHB(959);return null};
+4IW=function(a,b){var c=a.xa2U(b);if(c&&c.CwV)return c.m6Z(960);return null};
+J3A=function(a,b){var c=a.TA6j(b);if(c&&c.M5m)return c.SI2(961);return null};
+xrr=function(a,b){var c=a.niuW(b);if(c&&c.R12)return c.9yY(962);return null};
+7_h=function(a,b){var c=a.6S2X(b);if(c&&c.LWf)return c.AvA(963);return null};
+ptj=function(a,b){var c=a.mtI2(b);if(c&&c.X_h)return c.VJZ(964);return null};
+bIe=function(a,b){var c=a.bWnp(b);if(c&&c.wrq)return c.oLI(965);return null};
+Jko=function(a,b){var c=a.9g30(b);if(c&&c.Xgq)return c.9dA(966);return null};
+IQM=function(a,b){var c=a.lJQz(b);if(c&&c.coC)return c.mSd(967);return null};
+erZ=function(a,b){var c=a.Kb6W(b);if(c&&c.dPl)return c.xnJ(968);return null};
+tyF=function(a,b){var c=a.Ng5K(b);if(c&&c.ydW)return c.s7t(969);return null};
+giy=function(a,b){var c=a.tEIO(b);if(c&&c.e0u)return c.vVi(970);return null};
+pbx=function(a,b){var c=a.piCN(b);if(c&&c.xeC)return c.DDl(971);return null};
+t2a=function(a,b){var c=a.e747(b);if(c&&c.XXY)return c.d8a(972);return null};
+iAe=function(a,b){var c=a.3Kzv(b);if(c&&c.wkc)return c.jYi(973);return null};
+skd=function(a,b){var c=a.LBh5(b);if(c&&c._am)return c.ysA(974);return null};
+43E=function(a,b){var c=a.w1VJ(b);if(c&&c.oMN)return c.pbO(975);return null};
+wiG=function(a,b){var c=a.sKKj(b);if(c&&c.Qbu)return c.RP8(976);return null};
+FeU=function(a,b){var c=a.wWdx(b);if(c&&c.ZsJ)return c.0oK(977);return null};
+p7q=function(a,b){var c=a.8IU_(b);if(c&&c._5K)return c.UWx(978);return null};
+zeJ=function(a,b){var c=a.p3b0(b);if(c&&c.31j)return c.6XY(979);return null};
+hM8=function(a,b){var c=a.QLV2(b);if(c&&c.JeM)return c.Sb2(980);return null};
+Wwe=function(a,b){var c=a.i9AN(b);if(c&&c.XZi)return c.Bdi(981);return null};
+_RH=function(a,b){var c=a.tfdV(b);if(c&&c.sAW)return c.WCN(982);return null};
+tDK=function(a,b){var c=a._AWH(b);if(c&&c.TNj)return c.WgC(983);return null};
+KQ7=function(a,b){var c=a.qddl(b);if(c&&c._HP)return c.1lA(984);return null};
+uSH=function(a,b){var c=a.mN6_(b);if(c&&c.xl5)return c.p1W(985);return null};
+Pos=function(a,b){var c=a.eZRu(b);if(c&&c.vwq)return c.9Ra(986);return null};
+qh_=function(a,b){var c=a.wbS6(b);if(c&&c.WzJ)return c.bzg(987);return null};
+Cl_=function(a,b){var c=a._m6_(b);if(c&&c.Ohq)return c.tyt(988);return null};
+8kZ=function(a,b){var c=a.MLKw(b);if(c&&c.0ci)return c.Flr(989);return null};
+lbP=function(a,b){var c=a.2vxl(b);if(c&&c.mmy)return c.73e(990);return null};
+ElB=function(a,b){var c=a.ApX4(b);if(c&&c._Tg)return c.xxj(991);return null};
+sUS=function(a,b){var c=a.esD4(b);if(c&&c.xWj)return c.1Dh(992);return null};
+tjc=function(a,b){var c=a.xbZd(b);if(c&&c.hkw)return c.hB0(993);return null};
+AWC=function(a,b){var c=a.osvP(b);if(c&&c.u0L)return c.HWj(994);return null};
+Vv0=function(a,b){var c=a.X_Uk(b);if(c&&c.Q4J)return c.H2G(995);return null};
+tAu=function(a,b){var c=a.RB1u(b);if(c&&c.2YE)return c.RlZ(996);return null};
+apd=function(a,b){var c=a.5s0y(b);if(c&&c.OcQ)return c.lHF(997);return null};
+nxZ=function(a,b){var c=a.QEuE(b);if(c&&c.tAr)return c.hIa(998);return null};
+ny1=function(a,b){var c=a.IiPf(b);if(c&&c.Bnb)return c.LER(999);return null};
+dhA=function(a,b){var c=a.A0Of(b);if(c&&c.OHO)return c.fAo(1000);return null};
+nvk=function(a,b){var c=a.9CXA(b);if(c&&c.OQu)return c.aK_(1001);return null};
+v0Q=function(a,b){var c=a.Xma_(b);if(c&&c.g6L)return c.__K(1002);return null};
+c1F=function(a,b){var c=a.J_g3(b);if(c&&c.qII)return c.eag(1003);return null};
+qvM=function(a,b){var c=a.QrDv(b);if(c&&c.bHM)return c.JAH(1004);return null};
+LaH=function(a,b){var c=a.r_oS(b);if(c&&c._Iq)return c.BRp(1005);return null};
+hHH=function(a,b){var c=a.cFTc(b);if(c&&c.ItP)return c.W9Y(1006);return null};
+cER=function(a,b){var c=a.IQPT(b);if(c&&c.ogk)return c.eGb(1007);return null};
+6_9=function(a,b){var c=a.infy(b);if(c&&c.W_2)return c.Q5I(1008);return null};
+FD4=function(a,b){var c=a.4VfE(b);if(c&&c.ZLz)return c.9G_(1009);return null};
+s3v=function(a,b){var c=a.NTdJ(b);if(c&&c.zET)return c.RLS(1010);return null};
+8c1=function(a,b){var c=a.qvlv(b);if(c&&c.v5A)return c.W0b(1011);return null};
+YYS=function(a,b){var c=a.C07c(b);if(c&&c._PI)return c.fhp(1012);return null};
+M2U=function(a,b){var c=a._D_9(b);if(c&&c.xHp)return c.siW(1013);return null};
+NaB=function(a,b){var c=a.wVtS(b);if(c&&c.Jo6)return c.0vJ(1014);return null};
+gjf=function(a,b){var c=a.zoHB(b);if(c&&c.znA)return c.3bJ(1015);return null};
+_iN=function(a,b){var c=a.FO4J(b);if(c&&c.q18)return c.Vvq(1016);return null};
+dIn=function(a,b){var c=a.Pfdx(b);if(c&&c.hAo)return c._qj(1017);return null};
+wRP=function(a,b){var c=a.vGKL(b);if(c&&c.bfN)return c.GEG(1018);return null};
+uI7=function(a,b){var c=a.SWYa(b);if(c&&c.AVM)return c.62L(1019);return null};
+ZF2=function(a,b){var c=a.GBPr(b);if(c&&c.j3A)return c.AqE(1020);return null};
+XRx=function(a,b){var c=a.uuyy(b);if(c&&c.Ca0)return c.u78(1021);return null};
+hEB=function(a,b){var c=a.NmP0(b);if(c&&c.F9W)return c.Bxn(1022);return null};
+AOE=function(a,b){var c=a.KmXv(b);if(c&&c.sI5)return c.xip(1023);return null};
+_8b=function(a,b){var c=a.GUT_(b);if(c&&c.D1w)return c.tkm(1024);return null};
+N62=function(a,b){var c=a.8UzE(b);if(c&&c.wvT)return c.ttB(1025);return null};
+qNh=function(a,b){var c=a.Fmyl(b);if(c&&c.bpU)return c.Rzp(1026);return null};
+b7g=function(a,b){var c=a.aqfq(b);if(c&&c.H1Z)return c.WpW(1027);return null};
+gTN=function(a,b){var c=a.Pxik(b);if(c&&c.Azj)return c.y9L(1028);return null};
+OJx=function(a,b){var c=a.TtNM(b);if(c&&c.DsE)return c.t77(1029);return null};
+02Q=function(a,b){var c=a.IeI5(b);if(c&&c.fZX)return c.EH_(1030);return null};
+EO9=function(a,b){var c=a.dENM(b);if(c&&c.wrX)return c.kx2(1031);return null};
+Zhu=function(a,b){var c=a.MIud(b);if(c&&c.4Z4)return c.NcN(1032);return null};
+woU=function(a,b){var c=a.QVug(b);if(c&&c.bWM)return c.1IF(1033);return null};
+qcK=function(a,b){var c=a.C_Pv(b);if(c&&c.asS)return c.M_g(1034);return null};
+WSY=function(a,b){var c=a.ZHIM(b);if(c&&c.hZ9)return c.TYs(1035);return null};
+Vk3=function(a,b){var c=a.lAUz(b);if(c&&c.RKf)return c.FhC(1036);return null};
+xcz=function(a,b){var c=a.oOVE(b);if(c&&c.G_k)return c.Jpm(1037);return null};
+0FP=function(a,b){var c=a.fJTU(b);if(c&&c.lCe)return c.vCe(1038);return null};
+Tcn=function(a,b){var c=a.IOaQ(b);if(c&&c._LH)return c.R8a(1039);return null};
+MY9=function(a,b){var c=a.TDAu(b);if(c&&c.6BZ)return c.NHV(1040);return null};
+g1t=function(a,b){var c=a.bNY_(b);if(c&&c.lbg)return c.m4j(1041);return null};
+Opm=function(a,b){var c=a.zT91(b);if(c&&c.OB1)return c.Ik2(1042);return null};
+WPB=function(a,b){var c=a.7UXI(b);if(c&&c.wcJ)return c.VuY(1043);return null};
+SLH=function(a,b){var c=a.AIsF(b);if(c&&c.Y6w)return c.Xl6(1044);return null};
+v69=function(a,b){var c=a.CVvk(b);if(c&&c.JtN)return c.TGU(1045);return null};
+dGw=function(a,b){var c=a.abld(b);if(c&&c.8ok)return c.UlQ(1046);return null};
+Hhj=function(a,b){var c=a.C6UQ(b);if(c&&c.eMz)return c.7y6(1047);return null};
+14r=function(a,b){var c=a.I5Cn(b);if(c&&c.xVP)return c.xep(1048);return null};
+e_F=function(a,b){var c=a.Du7u(b);if(c&&c.UI1)return c.RAE(1049);return null};
+UL7=function(a,b){var c=a.EDDU(b);if(c&&c.tnE)return c.cQ1(1050);return null};
+m8_=function(a,b){var c=a.LgUS(b);if(c&&c.yyf)return c.MGC(1051);return null};
+X1B=function(a,b){var c=a.5Gfk(b);if(c&&c.zh1)return c.9bk(1052);return null};
+hg4=function(a,b){var c=a.vU9z(b);if(c&&c.Jff)return c.wzC(1053);return null};
+_6p=function(a,b){var c=a.xqz7(b);if(c&&c.pch)return c.x9u(1054);return null};
+ogY=function(a,b){var c=a.xljA(b);if(c&&c.IbG)return c.Glx(1055);return null};
+Uth=function(a,b){var c=a.qyQw(b);if(c&&c._Ok)return c.Eqv(1056);return null};
+ZDZ=function(a,b){var c=a.io0V(b);if(c&&c.rxg)return c.65q(1057);return null};
+HIU=function(a,b){var c=a.foTu(b);if(c&&c.GNG)return c.Xj8(1058);return null};
+ENc=function(a,b){var c=a.0Nuq(b);if(c&&c.Av_)return c.eLf(1059);return null};
+Bsf=function(a,b){var c=a.csXi(b);if(c&&c.S64)return c.FIf(1060);return null};
+Qs9=function(a,b){var c=a.b41M(b);if(c&&c.laA)return c.VNu(1061);return null};
+h6r=function(a,b){var c=a.nCxs(b);if(c&&c.GVf)return c.INZ(1062);return null};
+wBK=function(a,b){var c=a._cPz(b);if(c&&c.xL6)return c.MGn(1063);return null};
+6_k=function(a,b){var c=a.JgmU(b);if(c&&c.XGc)return c.PB_(1064);return null};
+Y0B=function(a,b){var c=a.0qlk(b);if(c&&c.i02)return c.z20(1065);return null};
+OXs=function(a,b){var c=a.CT6L(b);if(c&&c.khw)return c.3cG(1066);return null};
+4iq=function(a,b){var c=a.CKfk(b);if(c&&c.WdP)return c.fV5(1067);return null};
+d8Z=function(a,b){var c=a.YzAA(b);if(c&&c.5_3)return c.R3E(1068);return null};
+sBz=function(a,b){var c=a.vxHR(b);if(c&&c.keZ)return c.Zjn(1069);return null};
+rgs=function(a,b){var c=a.jjuD(b);if(c&&c.zZ0)return c.9OK(1070);return null};
+CuV=function(a,b){var c=a.EJNC(b);if(c&&c.ZI1)return c.OlT(1071);return null};
+IB2=function(a,b){var c=a.TxqM(b);if(c&&c.5kK)return c.p9E(1072);return null};
+g1y=function(a,b){var c=a.9e_7(b);if(c&&c.IEw)return c.AkB(1073);return null};
+roc=function(a,b){var c=a.xfKA(b);if(c&&c.7FD)return c.Ha6(1074);return null};
+IJA=function(a,b){var c=a.VeEx(b);if(c&&c.iES)return c.eeE(1075);return null};
+ZSz=function(a,b){var c=a.mUHu(b);if(c&&c.Os3)return c.Vav(1076);return null};
+nSM=function(a,b){var c=a.o_pn(b);if(c&&c.2wz)return c._FN(1077);return null};
+CZK=function(a,b){var c=a._uVq(b);if(c&&c.Bin)return c.d_1(1078);return null};
+5Tv=function(a,b){var c=a.kzFJ(b);if(c&&c.Xqy)return c.Wob(1079);return null};
+rxe=function(a,b){var c=a.RgGE(b);if(c&&c.9iZ)return c.art(1080);return null};
+pfz=function(a,b){var c=a.YzPK(b);if(c&&c.Cb9)return c.mz9(1081);return null};
+QO0=function(a,b){var c=a.XqAd(b);if(c&&c.hES)return c.IYK(1082);return null};
+TW6=function(a,b){var c=a.IwOw(b);if(c&&c.qze)return c.bzm(1083);return null};
+gTm=function(a,b){var c=a.Met0(b);if(c&&c.Utu)return c.Xr8(1084);return null};
+vmL=function(a,b){var c=a.d_TW(b);if(c&&c.1XO)return c.5Pq(1085);return null};
+Eg2=function(a,b){var c=a.ri2s(b);if(c&&c.MYj)return c.Wvs(1086);return null};
+lxK=function(a,b){var c=a.jZft(b);if(c&&c.Jc4)return c.khK(1087);return null};
+Ywp=function(a,b){var c=a.io13(b);if(c&&c.ArM)return c.AnV(1088);return null};
+_TV=function(a,b){var c=a.809C(b);if(c&&c.af_)return c.IEI(1089);return null};
+3_L=function(a,b){var c=a.AmYO(b);if(c&&c.gwQ)return c.E5X(1090);return null};
+9G8=function(a,b){var c=a.BHsB(b);if(c&&c.ywF)return c.Pa0(1091);return null};
+h5b=function(a,b){var c=a.yLwv(b);if(c&&c.cYI)return c.fCe(1092);return null};
+0ZI=function(a,b){var c=a.DJaQ(b);if(c&&c.ejv)return c.sH6(1093);return null};
+eQc=function(a,b){var c=a.SDb1(b);if(c&&c.kir)return c.55e(1094);return null};
+yaW=function(a,b){var c=a.5Vot(b);if(c&&c.m1Z)return c.P7i(1095);return null};
+z01=function(a,b){var c=a.NO03(b);if(c&&c.yZ0)return c.8Uv(1096);return null};
+Ljk=function(a,b){var c=a.ZROW(b);if(c&&c.J32)return c.28y(1097);return null};
+TQQ=function(a,b){var c=a._dnp(b);if(c&&c.6HG)return c.X8T(1098);return null};
+cnl=function(a,b){var c=a.hpOO(b);if(c&&c.l37)return c.S_n(1099);return null};
+_JV=function(a,b){var c=a.1nEr(b);if(c&&c.PwV)return c.zZC(1100);return null};
+NpS=function(a,b){var c=a.vX_T(b);if(c&&c.7ej)return c.1y8(1101);return null};
+9CV=function(a,b){var c=a.mUeW(b);if(c&&c.HYJ)return c.sER(1102);return null};
+nqj=function(a,b){var c=a.6Zqv(b);if(c&&c.7iN)return c.bfj(1103);return null};
+kA7=function(a,b){var c=a.PB67(b);if(c&&c._gD)return c.FS4(1104);return null};
+3gv=function(a,b){var c=a.q1Pu(b);if(c&&c.KYe)return c._nS(1105);return null};
+zbV=function(a,b){var c=a.tdKX(b);if(c&&c.etF)return c.BEK(1106);return null};
+Ni5=function(a,b){var c=a.JqVq(b);if(c&&c.LHQ)return c.qGm(1107);return null};
+LOa=function(a,b){var c=a.47Y_(b);if(c&&c.RDj)return c.MPu(1108);return null};
+Z3J=function(a,b){var c=a.Zgso(b);if(c&&c.6ct)return c.sli(1109);return null};
+q89=function(a,b){var c=a.qGus(b);if(c&&c.eox)return c.4_9(1110);return null};
+hum=function(a,b){var c=a.M4pe(b);if(c&&c.U9P)return c.kvf(1111);return null};
+0pM=function(a,b){var c=a.VNrc(b);if(c&&c.UdU)return c.4UW(1112);return null};
+cpc=function(a,b){var c=a.y0aD(b);if(c&&c.f7n)return c.QBz(1113);return null};
+Xkj=function(a,b){var c=a.pb5g(b);if(c&&c.tU5)return c.ENr(1114);return null};
+x9c=function(a,b){var c=a.T8Ei(b);if(c&&c.Wrb)return c.suT(1115);return null};
+WqP=function(a,b){var c=a.BKwt(b);if(c&&c.Eyi)return c.rHu(1116);return null};
+Yly=function(a,b){var c=a.r_dF(b);if(c&&c.btl)return c.2mj(1117);return null};
+mCy=function(a,b){var c=a.HgAj(b);if(c&&c.inz)return c.9Zj(1118);return null};
+krS=function(a,b){var c=a.DbDn(b);if(c&&c.cKo)return c.nUk(1119);return null};
+d54=function(a,b){var c=a.WEv4(b);if(c&&c.fNc)return c.CQa(1120);return null};
+IdY=function(a,b){var c=a.SeFH(b);if(c&&c.U_O)return c.5EU(1121);return null};
+tSg=function(a,b){var c=a.seso(b);if(c&&c.qA0)return c.xRQ(1122);return null};
+ef1=function(a,b){var c=a.2kbm(b);if(c&&c.dAQ)return c.8Wq(1123);return null};
+70H=function(a,b){var c=a.Vjiq(b);if(c&&c.6zn)return c.Gfa(1124);return null};
+SEb=function(a,b){var c=a.wBNa(b);if(c&&c.Fdd)return c.nGK(1125);return null};
+VfD=function(a,b){var c=a.tVb_(b);if(c&&c.lel)return c.QyU(1126);return null};
+mCI=function(a,b){var c=a.JSnR(b);if(c&&c.nUS)return c.uCY(1127);return null};
+tdr=function(a,b){var c=a.1kGf(b);if(c&&c.Krg)return c.bB7(1128);return null};
+_b_=function(a,b){var c=a.bB50(b);if(c&&c.0Zs)return c.v3H(1129);return null};
+wqH=function(a,b){var c=a.8mCt(b);if(c&&c.YCb)return c.jdS(1130);return null};
+0sr=function(a,b){var c=a.A57a(b);if(c&&c.tMz)return c.TQj(1131);return null};
+AQQ=function(a,b){var c=a.aV_A(b);if(c&&c.aqd)return c.6vj(1132);return null};
+VVL=function(a,b){var c=a.K1Aq(b);if(c&&c.9aK)return c.kmo(1133);return null};
+T4A=function(a,b){var c=a.BNiA(b);if(c&&c.1Pm)return c.8ss(1134);return null};
+1fd=function(a,b){var c=a.wuqQ(b);if(c&&c.kqC)return c.e11(1135);return null};
+oJv=function(a,b){var c=a.Z6AG(b);if(c&&c.r5_)return c.jzl(1136);return null};
+ie_=function(a,b){var c=a.cSwj(b);if(c&&c.JWn)return c.OKe(1137);return null};
+CEY=function(a,b){var c=a.UjlK(b);if(c&&c.mgQ)return c.BTj(1138);return null};
+Eeo=function(a,b){var c=a.BSba(b);if(c&&c._1M)return c.kvx(1139);return null};
+wiW=function(a,b){var c=a.93rM(b);if(c&&c.ld4)return c.hYu(1140);return null};
+3Wf=function(a,b){var c=a.z9Nk(b);if(c&&c.uj_)return c.LeW(1141);return null};
+Xvk=function(a,b){var c=a.QFZU(b);if(c&&c.rmc)return c.CnS(1142);return null};
+vax=function(a,b){var c=a._Qf_(b);if(c&&c.G8x)return c.gVc(1143);return null};
+ZEG=function(a,b){var c=a.jyuo(b);if(c&&c.Xjf)return c.pXo(1144);return null};
+kYn=function(a,b){var c=a.K4GF(b);if(c&&c.aIi)return c.Yzi(1145);return null};
+o_j=function(a,b){var c=a.Ap_n(b);if(c&&c.p_2)return c.Mpg(1146);return null};
+SxN=function(a,b){var c=a.cCS_(b);if(c&&c.s1Z)return c.OnP(1147);return null};
+Tb4=function(a,b){var c=a.lGkA(b);if(c&&c.dWn)return c.iec(1148);return null};
+Jw7=function(a,b){var c=a.gNm3(b);if(c&&c.frk)return c.Nif(1149);return null};
+ZsY=function(a,b){var c=a.T9eW(b);if(c&&c.pVK)return c.M5k(1150);return null};
+Klz=function(a,b){var c=a.ysUb(b);if(c&&c.cvR)return c.QwK(1151);return null};
+awc=function(a,b){var c=a.DqQE(b);if(c&&c.2xy)return c.R0w(1152);return null};
+anP=function(a,b){var c=a.qmYZ(b);if(c&&c.CIG)return c.fuG(1153);return null};
+WvR=function(a,b){var c=a.BWFD(b);if(c&&c.iIB)return c.KA_(1154);return null};
+Qd3=function(a,b){var c=a.PG48(b);if(c&&c.P4T)return c.LE4(1155);return null};
+sLD=function(a,b){var c=a.fbme(b);if(c&&c.2rI)return c.ERZ(1156);return null};
+UnS=function(a,b){var c=a.wASV(b);if(c&&c.S69)return c.55f(1157);return null};
+xVW=function(a,b){var c=a.q7Ve(b);if(c&&c.IaW)return c.HKP(1158);return null};
+PVH=function(a,b){var c=a.amKr(b);if(c&&c.Jcs)return c.rgq(1159);return null};
+xQ_=function(a,b){var c=a.QxEo(b);if(c&&c.xKf)return c.ekp(1160);return null};
+JD_=function(a,b){var c=a.cuaA(b);if(c&&c.nI_)return c.R1G(1161);return null};
+vmz=function(a,b){var c=a.H_Z_(b);if(c&&c.Rsq)return c.Ipk(1162);return null};
+Ifp=function(a,b){var c=a.wNgs(b);if(c&&c.T51)return c.7nw(1163);return null};
+1LY=function(a,b){var c=a.mlnh(b);if(c&&c.Uv7)return c.I1z(1164);return null};
+4bN=function(a,b){var c=a.8ldj(b);if(c&&c.GRy)return c.fkb(1165);return null};
+P3j=function(a,b){var c=a.cpfV(b);if(c&&c.N5U)return c.5e_(1166);return null};
+64V=function(a,b){var c=a.Th_C(b);if(c&&c.awt)return c.Liv(1167);return null};
+L_U=function(a,b){var c=a.mx0P(b);if(c&&c.w40)return c.qx8(1168);return null};
+s52=function(a,b){var c=a.Gf3e(b);if(c&&c.qIg)return c.tvr(1169);return null};
+Tfx=function(a,b){var c=a._KXi(b);if(c&&c.Tqn)return c.doo(1170);return null};
+wl7=function(a,b){var c=a.nE0D(b);if(c&&c.App)return c.Vud(1171);return null};
+KTV=function(a,b){var c=a.BCSn(b);if(c&&c.2Lw)return c.nK0(1172);return null};
+O82=function(a,b){var c=a.z_sC(b);if(c&&c.67a)return c.8lO(1173);return null};
+8Oz=function(a,b){var c=a.Q6bd(b);if(c&&c.QQd)return c.yLz(1174);return null};
+zNw=function(a,b){var c=a.XViH(b);if(c&&c.eZH)return c.KFy(1175);return null};
+zTh=function(a,b){var c=a.RjwQ(b);if(c&&c.RGH)return c.opl(1176);return null};
+fAx=function(a,b){var c=a.VFrB(b);if(c&&c.UdJ)return c.Zyj(1177);return null};
+yS_=function(a,b){var c=a.A41J(b);if(c&&c.Zb6)return c.I_8(1178);return null};
+anp=function(a,b){var c=a.J_xo(b);if(c&&c.Hve)return c.fIo(1179);return null};
+Cr8=function(a,b){var c=a.W7sb(b);if(c&&c.m8j)return c.ENp(1180);return null};
+vbW=function(a,b){var c=a.N3JW(b);if(c&&c.ebL)return c.Ini(1181);return null};
+p9i=function(a,b){var c=a.NmMs(b);if(c&&c.Iui)return c.00M(1182);return null};
+75M=function(a,b){var c=a.N93M(b);if(c&&c.diq)return c.LoN(1183);return null};
+nRQ=function(a,b){var c=a.ZG4n(b);if(c&&c.1wU)return c.1aj(1184);return null};
+c9P=function(a,b){var c=a.jgWU(b);if(c&&c.00G)return c.Ik2(1185);return null};
+QSI=function(a,b){var c=a.NToT(b);if(c&&c.IxS)return c.ZR_(1186);return null};
+jlX=function(a,b){var c=a.5i7r(b);if(c&&c.Qvb)return c.AU_(1187);return null};
+ybL=function(a,b){var c=a.tP2d(b);if(c&&c.zn9)return c.8iS(1188);return null};
+qp0=function(a,b){var c=a.PkuX(b);if(c&&c.ODK)return c._Fo(1189);return null};
+ki7=function(a,b){var c=a.oFtt(b);if(c&&c.ol7)return c._Ym(1190);return null};
+oCC=function(a,b){var c=a.ZCnh(b);if(c&&c.EIM)return c.nI7(1191);return null};
+a2m=function(a,b){var c=a.UMoB(b);if(c&&c.Jsv)return c._nr(1192);return null};
+3cj=function(a,b){var c=a.1Lg4(b);if(c&&c.sKa)return c.eZy(1193);return null};
+9dx=function(a,b){var c=a.j8CH(b);if(c&&c.Usj)return c.kXw(1194);return null};
+oEO=function(a,b){var c=a.6JEQ(b);if(c&&c.qfe)return c.Fm_(1195);return null};
+NLF=function(a,b){var c=a.aN88(b);if(c&&c.B0M)return c.gwV(1196);return null};
+fRY=function(a,b){var c=a.SVkG(b);if(c&&c.Kty)return c.3O7(1197);return null};
+NCA=function(a,b){var c=a.zGvA(b);if(c&&c.fJL)return c.L8P(1198);return null};
+qT=function(a){a=a.split("");Xy.ef(a,3);Xy.cD(a,2);Xy.Ab(a,12);Xy.ef(a,41);Xy.cD(a,1);Xy.ef(a,18);Xy.Ab(a,47);return a.join("")};
+p_U=function(a,b){var c=a.CiMv(b);if(c&&c.yDv)return c.SWK(1199);return null};
+6RH=function(a,b){var c=a.AkOa(b);if(c&&c.oPy)return c.Kg8(1200);return null};
+gV_=function(a,b){var c=a.uRc6(b);if(c&&c.OQS)return c.0Fs(1201);return null};
+bFb=function(a,b){var c=a.J31w(b);if(c&&c.10p)return c.O3q(1202);return null};
+k0p=function(a,b){var c=a.5d84(b);if(c&&c.ckX)return c.ssP(1203);return null};
+moO=function(a,b){var c=a.9nM5(b);if(c&&c.ecF)return c.o2K(1204);return null};
+oSl=function(a,b){var c=a.NOFn(b);if(c&&c.Dii)return c.NgJ(1205);return null};
+6Yz=function(a,b){var c=a.H7mL(b);if(c&&c.B3S)return c.xg5(1206);return null};
+cKn=function(a,b){var c=a.AvQt(b);if(c&&c.Rbn)return c.eKs(1207);return null};
+Q_z=function(a,b){var c=a.ROWu(b);if(c&&c.Zq2)return c.XJV(1208);return null};
+X_T=function(a,b){var c=a.V0BJ(b);if(c&&c.tQ_)return c.Vc7(1209);return null};
+tGR=function(a,b){var c=a.1_LF(b);if(c&&c.FEW)return c.w1_(1210);return null};
+9wI=function(a,b){var c=a.fOeB(b);if(c&&c.vV0)return c.euR(1211);return null};
+MHJ=function(a,b){var c=a.fSy9(b);if(c&&c.XWQ)return c.we9(1212);return null};
+GU6=function(a,b){var c=a.ZHwb(b);if(c&&c.ldb)return c.T8L(1213);return null};
+ViI=function(a,b){var c=a.9MCy(b);if(c&&c.AFF)return c.kMA(1214);return null};
+015=function(a,b){var c=a.Z_G8(b);if(c&&c.E5o)return c.ixz(1215);return null};
+fvk=function(a,b){var c=a.NZbl(b);if(c&&c.57M)return c.EYf(1216);return null};
+jL7=function(a,b){var c=a.q38B(b);if(c&&c.7Ze)return c.CSq(1217);return null};
+kBb=function(a,b){var c=a.xtmK(b);if(c&&c.R3h)return c.ACb(1218);return null};
+CMD=function(a,b){var c=a.HvJf(b);if(c&&c.dZf)return c.EPw(1219);return null};
+yfM=function(a,b){var c=a.17sy(b);if(c&&c.upG)return c.IfO(1220);return null};
+VaT=function(a,b){var c=a.GQD9(b);if(c&&c.fOC)return c.LTi(1221);return null};
+NhP=function(a,b){var c=a.DJKO(b);if(c&&c.mGS)return c.g5E(1222);return null};
+_eE=function(a,b){var c=a.HTyC(b);if(c&&c.hOM)return c.qom(1223);return null};
+QhY=function(a,b){var c=a.t4M6(b);if(c&&c.5EU)return c.o_t(1224);return null};
+QwT=function(a,b){var c=a.cwiO(b);if(c&&c.wz_)return c.4IH(1225);return null};
+dYz=function(a,b){var c=a.pP5M(b);if(c&&c.RnC)return c.IVe(1226);return null};
+i3i=function(a,b){var c=a.rqzN(b);if(c&&c.zbh)return c.eM4(1227);return null};
+dAl=function(a,b){var c=a.dIiC(b);if(c&&c.vHy)return c.ulQ(1228);return null};
+1ux=function(a,b){var c=a.qRqx(b);if(c&&c.rP_)return c.D4P(1229);return null};
+420=function(a,b){var c=a.b0jx(b);if(c&&c.hNP)return c.MjV(1230);return null};
+98P=function(a,b){var c=a.2zS8(b);if(c&&c.VPn)return c.oME(1231);return null};
+O_X=function(a,b){var c=a.sH6_(b);if(c&&c.occ)return c.QIg(1232);return null};
+BlI=function(a,b){var c=a.xcJ7(b);if(c&&c.XGY)return c.oN2(1233);return null};
+trX=function(a,b){var c=a.sfyj(b);if(c&&c.rij)return c.Jhe(1234);return null};
+76R=function(a,b){var c=a.86zJ(b);if(c&&c._FT)return c.SGk(1235);return null};
+efo=function(a,b){var c=a.QDtU(b);if(c&&c.Y44)return c.c9i(1236);return null};
+buK=function(a,b){var c=a.ER9X(b);if(c&&c.e_K)return c.R5D(1237);return null};
+zd_=function(a,b){var c=a.NpIO(b);if(c&&c.kxB)return c.oNw(1238);return null};
+SuB=function(a,b){var c=a.3Q5u(b);if(c&&c.d0u)return c.ERU(1239);return null};
+ezO=function(a,b){var c=a.TCs1(b);if(c&&c.X_A)return c.lEy(1240);return null};
+QRV=function(a,b){var c=a.0VIv(b);if(c&&c.l6J)return c.c_G(1241);return null};
+Hbs=function(a,b){var c=a.joDf(b);if(c&&c.Kkl)return c.TBD(1242);return null};
+efl=function(a,b){var c=a.i5vd(b);if(c&&c.kDF)return c.P8e(1243);return null};
+1Ai=function(a,b){var c=a.I08Z(b);if(c&&c.nja)return c.f2F(1244);return null};
+Zxj=function(a,b){var c=a.GSWV(b);if(c&&c.Xcw)return c.vMb(1245);return null};
+Iwh=function(a,b){var c=a.6e5F(b);if(c&&c.7LJ)return c.6wN(1246);return null};
+qXh=function(a,b){var c=a.rPGe(b);if(c&&c.k31)return c.7T9(1247);return null};
+juG=function(a,b){var c=a.b_XV(b);if(c&&c._2w)return c.vfL(1248);return null};
+4Li=function(a,b){var c=a.sZQW(b);if(c&&c.PLE)return c.2wB(1249);return null};
+oqf=function(a,b){var c=a.oSIY(b);if(c&&c.FBd)return c.ZsL(1250);return null};
+8fg=function(a,b){var c=a.L2b9(b);if(c&&c.EwW)return c.KGp(1251);return null};
+ljU=function(a,b){var c=a.e_cX(b);if(c&&c.COK)return c.Uh_(1252);return null};
+tb3=function(a,b){var c=a.ep6P(b);if(c&&c.q5n)return c.w9W(1253);return null};
+Exf=function(a,b){var c=a.HtX_(b);if(c&&c.J2A)return c.iEs(1254);return null};
+kcI=function(a,b){var c=a.gx5P(b);if(c&&c.sVC)return c.lmQ(1255);return null};
+qor=function(a,b){var c=a.kEu5(b);if(c&&c.iey)return c.uuU(1256);return null};
+uj7=function(a,b){var c=a.qC8u(b);if(c&&c.xaO)return c.2Zg(1257);return null};
+h6b=function(a,b){var c=a.MrBU(b);if(c&&c.g7x)return c.JPi(1258);return null};
+cIG=function(a,b){var c=a.3Di7(b);if(c&&c.eRQ)return c.O2e(1259);return null};
+41k=function(a,b){var c=a.RTK_(b);if(c&&c.2JU)return c.o6_(1260);return null};
+cDn=function(a,b){var c=a.lZ_E(b);if(c&&c.jBR)return c.nlO(1261);return null};
+WGO=function(a,b){var c=a.j6Eb(b);if(c&&c.gES)return c.mCs(1262);return null};
+tIe=function(a,b){var c=a.Gh7O(b);if(c&&c.Hyc)return c.RAA(1263);return null};
+LcH=function(a,b){var c=a.QSHl(b);if(c&&c.XJX)return c.rw6(1264);return null};
+eAq=function(a,b){var c=a.Fxdn(b);if(c&&c.Xqq)return c.0vq(1265);return null};
+ynz=function(a,b){var c=a.V6os(b);if(c&&c.QAZ)return c.U57(1266);return null};
+78w=function(a,b){var c=a.3ugo(b);if(c&&c.gIE)return c.lc6(1267);return null};
+df0=function(a,b){var c=a.fwkA(b);if(c&&c.Wet)return c.EAK(1268);return null};
+TAp=function(a,b){var c=a.99ts(b);if(c&&c.qus)return c.p__(1269);return null};
+H5i=function(a,b){var c=a.7pEe(b);if(c&&c.T2m)return c.tob(1270);return null};
+_E5=function(a,b){var c=a.Fg_G(b);if(c&&c.eO5)return c.gnx(1271);return null};
+qWd=function(a,b){var c=a.pPXg(b);if(c&&c.s7c)return c.sj2(1272);return null};
+O6K=function(a,b){var c=a.txLY(b);if(c&&c.wwX)return c.3o7(1273);return null};
+VD5=function(a,b){var c=a.4fDV(b);if(c&&c.KDV)return c.xjX(1274);return null};
+vKC=function(a,b){var c=a.O4Xb(b);if(c&&c.i0I)return c.W2n(1275);return null};
+MHY=function(a,b){var c=a.v3wB(b);if(c&&c.4oC)return c.z48(1276);return null};
+dj9=function(a,b){var c=a.XhhN(b);if(c&&c.y78)return c.V8P(1277);return null};
+pGG=function(a,b){var c=a.fnQ_(b);if(c&&c.ucd)return c.OMr(1278);return null};
+0Zq=function(a,b){var c=a.f_GJ(b);if(c&&c.7wi)return c.rwR(1279);return null};
+fPE=function(a,b){var c=a.y3sM(b);if(c&&c.1T0)return c.YJa(1280);return null};
+pr2=function(a,b){var c=a.PoHk(b);if(c&&c.nLO)return c.q3w(1281);return null};
+g6u=function(a,b){var c=a.g52Q(b);if(c&&c.hXs)return c.jRb(1282);return null};
+3PZ=function(a,b){var c=a.nG7B(b);if(c&&c.Aml)return c.cz3(1283);return null};
+9nI=function(a,b){var c=a.GCgf(b);if(c&&c.vxl)return c.1x4(1284);return null};
+wd2=function(a,b){var c=a.DoFe(b);if(c&&c.OIn)return c.4XU(1285);return null};
+6vz=function(a,b){var c=a.lGZ7(b);if(c&&c.sYE)return c.WqP(1286);return null};
+qUp=function(a,b){var c=a.td4S(b);if(c&&c.rMx)return c.0pb(1287);return null};
+Kx6=function(a,b){var c=a.zE21(b);if(c&&c._Gd)return c.NjW(1288);return null};
+_V_=function(a,b){var c=a.ja_X(b);if(c&&c.c1p)return c.0Z6(1289);return null};
+Or6=function(a,b){var c=a.Sfms(b);if(c&&c.VFt)return c.2DF(1290);return null};
+ttR=function(a,b){var c=a.xUl1(b);if(c&&c.ZhI)return c.NBi(1291);return null};
+V3E=function(a,b){var c=a.cH_G(b);if(c&&c.i3d)return c.CoV(1292);return null};
+DV4=function(a,b){var c=a.RiM1(b);if(c&&c.A0W)return c.MLv(1293);return null};
+DLf=function(a,b){var c=a.yruP(b);if(c&&c.SoX)return c.voP(1294);return null};
+m8u=function(a,b){var c=a.KP9F(b);if(c&&c._kn)return c.wzU(1295);return null};
+eEK=function(a,b){var c=a.pVOG(b);if(c&&c.BjD)return c.CmJ(1296);return null};
+RxY=function(a,b){var c=a.3lZ0(b);if(c&&c.QGs)return c.Boa(1297);return null};
+s_N=function(a,b){var c=a.IeTV(b);if(c&&c.ml0)return c.02H(1298);return null};
+ngQ=function(a,b){var c=a.r8SD(b);if(c&&c.TYP)return c.dVN(1299);return null};
+q9r=function(a,b){var c=a.5SrN(b);if(c&&c.rGa)return c.lv9(1300);return null};
+3V5=function(a,b){var c=a.iull(b);if(c&&c.Rs2)return c.bIb(1301);return null};
+MGF=function(a,b){var c=a.rVY5(b);if(c&&c.AMh)return c.Jm6(1302);return null};
+eCb=function(a,b){var c=a.I8pQ(b);if(c&&c.rtg)return c.5oT(1303);return null};
+Y3y=function(a,b){var c=a.QxJD(b);if(c&&c.RY6)return c._Tb(1304);return null};
+dyo=function(a,b){var c=a.WlUL(b);if(c&&c.27U)return c.rWl(1305);return null};
+nj_=function(a,b){var c=a.qlpq(b);if(c&&c.ioT)return c.0u5(1306);return null};
+lRC=function(a,b){var c=a.0_4o(b);if(c&&c.P6k)return c.UAz(1307);return null};
+fRl=function(a,b){var c=a.cjde(b);if(c&&c.RNJ)return c.JqK(1308);return null};
+x22=function(a,b){var c=a.IG4S(b);if(c&&c._Lk)return c.oGk(1309);return null};
+__G=function(a,b){var c=a.j2Hq(b);if(c&&c.jEz)return c.M3e(1310);return null};
+ZfC=function(a,b){var c=a.q_zw(b);if(c&&c.IgN)return c._FD(1311);return null};
+2sX=function(a,b){var c=a.O_Sa(b);if(c&&c.jnD)return c.YWZ(1312);return null};
+O4t=function(a,b){var c=a.Ns_W(b);if(c&&c.2MA)return c.r_m(1313);return null};
+zTG=function(a,b){var c=a.RODm(b);if(c&&c.bD2)return c.xDv(1314);return null};
+h0B=function(a,b){var c=a.MJCM(b);if(c&&c.KrK)return c.2sS(1315);return null};
+tvO=function(a,b){var c=a.B3oY(b);if(c&&c.F_e)return c.fPP(1316);return null};
+rpX=function(a,b){var c=a.YM28(b);if(c&&c.7EC)return c.6lK(1317);return null};
+eKc=function(a,b){var c=a.2FnE(b);if(c&&c.jkv)return c.QQ2(1318);return null};
+_CN=function(a,b){var c=a.2cX_(b);if(c&&c.1dv)return c.2bk(1319);return null};
+KXU=function(a,b){var c=a.g7VM(b);if(c&&c.Gp8)return c.bZM(1320);return null};
+L__=function(a,b){var c=a.I6CA(b);if(c&&c.jZA)return c.nrB(1321);return null};
+F2q=function(a,b){var c=a.EYRl(b);if(c&&c.NI9)return c.Fau(1322);return null};
+Z0l=function(a,b){var c=a.FvfT(b);if(c&&c.oF7)return c.sJN(1323);return null};
+BjT=function(a,b){var c=a.MlGp(b);if(c&&c.Cgf)return c.7ui(1324);return null};
+UG7=function(a,b){var c=a.wp9o(b);if(c&&c.9_e)return c.wu9(1325);return null};
+eiI=function(a,b){var c=a.w_8v(b);if(c&&c.rBD)return c.XHj(1326);return null};
+7NO=function(a,b){var c=a.LYef(b);if(c&&c.RRG)return c.FPj(1327);return null};
+S8k=function(a,b){var c=a.pZvn(b);if(c&&c.uOa)return c.g_2(1328);return null};
+TIn=function(a,b){var c=a.OUnO(b);if(c&&c.CAg)return c.dFu(1329);return null};
+nuU=function(a,b){var c=a.wESz(b);if(c&&c.8De)return c.5TX(1330);return null};
+sMb=function(a,b){var c=a.khSe(b);if(c&&c.QmY)return c.cSK(1331);return null};
+fuS=function(a,b){var c=a.jfrt(b);if(c&&c.YEp)return c._aZ(1332);return null};
+ZZj=function(a,b){var c=a.CTbk(b);if(c&&c.eCx)return c.Ycf(1333);return null};
+4KL=function(a,b){var c=a.kd_X(b);if(c&&c.tsZ)return c.Rov(1334);return null};
+SqK=function(a,b){var c=a.vpcv(b);if(c&&c.aWf)return c.I2B(1335);return null};
+UPD=function(a,b){var c=a.T542(b);if(c&&c.dhT)return c.8W_(1336);return null};
+Lp6=function(a,b){var c=a.z2Yj(b);if(c&&c.20F)return c.zr1(1337);return null};
+RRp=function(a,b){var c=a.5UCZ(b);if(c&&c.Ewo)return c.1ml(1338);return null};
+Zw4=function(a,b){var c=a.2yV0(b);if(c&&c.zsI)return c.bCz(1339);return null};
+O6z=function(a,b){var c=a.9NQT(b);if(c&&c.k60)return c.RRM(1340);return null};
+Nkf=function(a,b){var c=a.c5Ei(b);if(c&&c._iN)return c.TQM(1341);return null};
+e1Z=function(a,b){var c=a.pMPG(b);if(c&&c.auB)return c.GIg(1342);return null};
+GxW=function(a,b){var c=a.YLAa(b);if(c&&c.0UM)return c.wpn(1343);return null};
+V25=function(a,b){var c=a.rb0E(b);if(c&&c.0Ly)return c.ara(1344);return null};
+ffY=function(a,b){var c=a.Z0Y_(b);if(c&&c.qaE)return c.pB_(1345);return null};
+vY6=function(a,b){var c=a.Eu5Q(b);if(c&&c.5_C)return c.F6G(1346);return null};
+U9l=function(a,b){var c=a._6Px(b);if(c&&c.ed7)return c.hnR(1347);return null};
+Unl=function(a,b){var c=a.FZyv(b);if(c&&c.2LB)return c.B24(1348);return null};
+PRl=function(a,b){var c=a.Lhv7(b);if(c&&c.Qv9)return c.Jyz(1349);return null};
+r5v=function(a,b){var c=a._1Vb(b);if(c&&c.r6H)return c.O9m(1350);return null};
+pyf=function(a,b){var c=a.K2PW(b);if(c&&c.PRs)return c.eKG(1351);return null};
+Gbh=function(a,b){var c=a.Yxsi(b);if(c&&c.A9_)return c.oa9(1352);return null};
+QED=function(a,b){var c=a.JHBI(b);if(c&&c.xA2)return c.xRU(1353);return null};
+l5Q=function(a,b){var c=a.ut_r(b);if(c&&c.aWt)return c.x6T(1354);return null};
+rz_=function(a,b){var c=a.9TY9(b);if(c&&c.lyH)return c.FBB(1355);return null};
+jaq=function(a,b){var c=a.wEuO(b);if(c&&c.Lf4)return c.yPe(1356);return null};
+Opa=function(a,b){var c=a.jiaW(b);if(c&&c.HUu)return c.K_u(1357);return null};
+HVU=function(a,b){var c=a.m1un(b);if(c&&c.9Aa)return c.nL9(1358);return null};
+sn9=function(a,b){var c=a.FENg(b);if(c&&c.VQR)return c.xwa(1359);return null};
+kWD=function(a,b){var c=a.CPGE(b);if(c&&c.3oI)return c.q4Y(1360);return null};
+RQH=function(a,b){var c=a.ieJ_(b);if(c&&c.rw8)return c.Nf_(1361);return null};
+Ngv=function(a,b){var c=a.W8tt(b);if(c&&c.J45)return c.V8J(1362);return null};
+93v=function(a,b){var c=a.Y8gP(b);if(c&&c.FPF)return c.7ai(1363);return null};
+qWi=function(a,b){var c=a.DOMy(b);if(c&&c.z0a)return c.GLS(1364);return null};
+_IA=function(a,b){var c=a.OzRJ(b);if(c&&c.KLV)return c.YJg(1365);return null};
+4C7=function(a,b){var c=a.UPs8(b);if(c&&c.YRi)return c.dq4(1366);return null};
+p8r=function(a,b){var c=a.3i7T(b);if(c&&c.weA)return c.n7p(1367);return null};
+j1r=function(a,b){var c=a.7bTN(b);if(c&&c.WRP)return c.eZY(1368);return null};
+FnX=function(a,b){var c=a.AZTa(b);if(c&&c.Xnv)return c.D_u(1369);return null};
+O66=function(a,b){var c=a.Ki1G(b);if(c&&c.Wxk)return c.OhE(1370);return null};
+gpi=function(a,b){var c=a.6Xhe(b);if(c&&c.aAG)return c.B_4(1371);return null};
+rrD=function(a,b){var c=a.dlL_(b);if(c&&c.Qxe)return c.YWJ(1372);return null};
+o6p=function(a,b){var c=a.QcP6(b);if(c&&c.kfM)return c.96R(1373);return null};
+s7B=function(a,b){var c=a.mUTD(b);if(c&&c.74F)return c.RMg(1374);return null};
+C6D=function(a,b){var c=a.hG3C(b);if(c&&c.3h8)return c.EI5(1375);return null};
+crY=function(a,b){var c=a.Y9Zm(b);if(c&&c.a20)return c.pr_(1376);return null};
+zku=function(a,b){var c=a.xzqJ(b);if(c&&c.e6_)return c.LmF(1377);return null};
+CaO=function(a,b){var c=a.2ddM(b);if(c&&c._nh)return c.bwD(1378);return null};
+H8b=function(a,b){var c=a.Jlc6(b);if(c&&c.H69)return c.RZN(1379);return null};
+xi0=function(a,b){var c=a.0_x5(b);if(c&&c.D_h)return c.dIN(1380);return null};
+A9_=function(a,b){var c=a.RuVo(b);if(c&&c.biX)return c.JSW(1381);return null};
+nHK=function(a,b){var c=a.4obD(b);if(c&&c.Mes)return c.9F1(1382);return null};
+6Fh=function(a,b){var c=a.Mzpl(b);if(c&&c.YVL)return c.8OF(1383);return null};
+BiR=function(a,b){var c=a.rkBW(b);if(c&&c.HoT)return c.Juu(1384);return null};
+PuZ=function(a,b){var c=a.O4Ur(b);if(c&&c.ci_)return c.4zv(1385);return null};
+2Su=function(a,b){var c=a._Icg(b);if(c&&c.Hg7)return c.dKC(1386);return null};
+YI4=function(a,b){var c=a.13bg(b);if(c&&c.fme)return c.ElV(1387);return null};
+9gu=function(a,b){var c=a.VQCW(b);if(c&&c.qt7)return c.nId(1388);return null};
+Lqa=function(a,b){var c=a.GjBn(b);if(c&&c.l9P)return c.9ed(1389);return null};
+Gr5=function(a,b){var c=a.T6ln(b);if(c&&c.7Zq)return c.vuF(1390);return null};
+n_E=function(a,b){var c=a.lOTM(b);if(c&&c.4I_)return c.H04(1391);return null};
+O3C=function(a,b){var c=a.Fz5O(b);if(c&&c.OdF)return c.xno(1392);return null};
+jqs=function(a,b){var c=a.tMoT(b);if(c&&c.yNo)return c.25x(1393);return null};
+r9S=function(a,b){var c=a.ZWDR(b);if(c&&c.rJN)return c.66F(1394);return null};
+hVb=function(a,b){var c=a.UkH0(b);if(c&&c._yT)return c.x__(1395);return null};
+Msr=function(a,b){var c=a.QgHR(b);if(c&&c.F5N)return c.Z41(1396);return null};
+NUs=function(a,b){var c=a.kzJ5(b);if(c&&c.y1r)return c.POP(1397);return null};
+Or4=function(a,b){var c=a._JfM(b);if(c&&c.a3P)return c.lRC(1398);return null};
+sld=function(a,b){var c=a.9fg6(b);if(c&&c.Rya)return c.GXe(1399);return null};
+Tit=function(a,b){var c=a.VKBQ(b);if(c&&c.cSI)return c.QPR(1400);return null};
+1JX=function(a,b){var c=a.b2JU(b);if(c&&c.kBA)return c.W3o(1401);return null};
+G94=function(a,b){var c=a.kxxl(b);if(c&&c.ozS)return c.QOL(1402);return null};
+oWi=function(a,b){var c=a.LNvx(b);if(c&&c.CxK)return c.jir(1403);return null};
+OJW=function(a,b){var c=a._OBW(b);if(c&&c.RI_)return c.Tjc(1404);return null};
+cRb=function(a,b){var c=a.jikP(b);if(c&&c._Rw)return c._Uq(1405);return null};
+HSl=function(a,b){var c=a.0h_L(b);if(c&&c.yX6)return c.NdK(1406);return null};
+cJb=function(a,b){var c=a.gIPN(b);if(c&&c._IK)return c.Jbj(1407);return null};
+poe=function(a,b){var c=a.dcI7(b);if(c&&c.gze)return c.Anz(1408);return null};
+_pj=function(a,b){var c=a.UfLP(b);if(c&&c.Kci)return c.wy_(1409);return null};
+7Gn=function(a,b){var c=a.RDJL(b);if(c&&c.hyM)return c.luY(1410);return null};
+E7T=function(a,b){var c=a.tg1M(b);if(c&&c.iez)return c.efO(1411);return null};
+JNq=function(a,b){var c=a.LhaD(b);if(c&&c.ICz)return c.ZKY(1412);return null};
+p0u=function(a,b){var c=a.WHaf(b);if(c&&c.l8u)return c.U0v(1413);return null};
+WbO=function(a,b){var c=a.8iXg(b);if(c&&c.v_U)return c.9T8(1414);return null};
+p0x=function(a,b){var c=a.mBIo(b);if(c&&c.Ss3)return c.8tg(1415);return null};
+jEW=function(a,b){var c=a.CL2G(b);if(c&&c.c3F)return c.Zbk(1416);return null};
+CaO=function(a,b){var c=a.oIyJ(b);if(c&&c.RtP)return c.TRn(1417);return null};
+sU3=function(a,b){var c=a.cVI4(b);if(c&&c.mDS)return c.ffr(1418);return null};
+mAD=function(a,b){var c=a.3jsI(b);if(c&&c.E5l)return c.f8R(1419);return null};
+QDw=function(a,b){var c=a.qmkb(b);if(c&&c.kqP)return c.oOu(1420);return null};
+BPv=function(a,b){var c=a.2aFT(b);if(c&&c.SpD)return c.2t4(1421);return null};
+_6u=function(a,b){var c=a.zaLt(b);if(c&&c.qlX)return c.G_w(1422);return null};
+rXc=function(a,b){var c=a.1tV2(b);if(c&&c.LLu)return c.9g2(1423);return null};
+H_d=function(a,b){var c=a.zrdg(b);if(c&&c.0Cb)return c.yF8(1424);return null};
+nbw=function(a,b){var c=a.77CL(b);if(c&&c.P5Z)return c.tVD(1425);return null};
+Bk3=function(a,b){var c=a.Dw93(b);if(c&&c.WXy)return c.Mc4(1426);return null};
+xGZ=function(a,b){var c=a.QpCv(b);if(c&&c.TFW)return c.ZOW(1427);return null};
+E_V=function(a,b){var c=a.r0Sr(b);if(c&&c.zMQ)return c.C9G(1428);return null};
+iWe=function(a,b){var c=a.gza9(b);if(c&&c.R5K)return c.AlY(1429);return null};
+tuX=function(a,b){var c=a.nKjB(b);if(c&&c.dv_)return c.gUM(1430);return null};
+nUV=function(a,b){var c=a.VRV9(b);if(c&&c.5Qc)return c.QEH(1431);return null};
+zpr=function(a,b){var c=a.ESa_(b);if(c&&c.OFc)return c.ALe(1432);return null};
+GGL=function(a,b){var c=a.mq_F(b);if(c&&c.iqK)return c.Hq6(1433);return null};
+ile=function(a,b){var c=a.mzC8(b);if(c&&c.qD9)return c.gxb(1434);return null};
+YVe=function(a,b){var c=a.Sgj_(b);if(c&&c.dFM)return c._5B(1435);return null};
+0RM=function(a,b){var c=a.J9gW(b);if(c&&c.jfm)return c._P_(1436);return null};
+I9m=function(a,b){var c=a.h723(b);if(c&&c.k_G)return c.48T(1437);return null};
+Eg5=function(a,b){var c=a.2nhj(b);if(c&&c._Ah)return c.GXm(1438);return null};
+N_0=function(a,b){var c=a.HDIM(b);if(c&&c.nQV)return c.Hna(1439);return null};
+PKX=function(a,b){var c=a.wj4a(b);if(c&&c.D9j)return c.nXC(1440);return null};
+OG7=function(a,b){var c=a.ZX_6(b);if(c&&c._x_)return c.J6J(1441);return null};
+5tw=function(a,b){var c=a.wtvA(b);if(c&&c.0V_)return c.gkJ(1442);return null};
+32I=function(a,b){var c=a.o2rM(b);if(c&&c.fMN)return c.U_A(1443);return null};
+Qyu=function(a,b){var c=a.HmZS(b);if(c&&c.9eN)return c.Nnr(1444);return null};
+ryr=function(a,b){var c=a.qP1n(b);if(c&&c.i__)return c.jsR(1445);return null};
+eFY=function(a,b){var c=a.wCd5(b);if(c&&c.0cA)return c.Buw(1446);return null};
+XA1=function(a,b){var c=a.4sKN(b);if(c&&c.9Tx)return c.lcC(1447);return null};
+8Ux=function(a,b){var c=a.82gE(b);if(c&&c.y5C)return c.TOC(1448);return null};
+e9T=function(a,b){var c=a.XnHU(b);if(c&&c.2F_)return c.PqF(1449);return null};
+mqF=function(a,b){var c=a.AbI3(b);if(c&&c.lq9)return c.o2y(1450);return null};
+6jt=function(a,b){var c=a.DSVB(b);if(c&&c.Za6)return c.gnI(1451);return null};
+6hM=function(a,b){var c=a._3QV(b);if(c&&c.MYK)return c.g9t(1452);return null};
+zh5=function(a,b){var c=a.1eQz(b);if(c&&c.QYM)return c.DfJ(1453);return null};
+fja=function(a,b){var c=a.u6yH(b);if(c&&c.Eqh)return c.JYT(1454);return null};
+1Dx=function(a,b){var c=a.5oef(b);if(c&&c.2zt)return c.u2Y(1455);return null};
+EEm=function(a,b){var c=a.CipX(b);if(c&&c.29a)return c.Q3b(1456);return null};
+wet=function(a,b){var c=a.1UeD(b);if(c&&c.mvQ)return c.yAz(1457);return null};
+zwJ=function(a,b){var c=a.moUD(b);if(c&&c.WH2)return c.Lg4(1458);return null};
+kJ1=function(a,b){var c=a.zuNt(b);if(c&&c.NMR)return c.FWD(1459);return null};
+EPs=function(a,b){var c=a.ZK2L(b);if(c&&c.vkt)return c.p2M(1460);return null};
+86a=function(a,b){var c=a.dBdQ(b);if(c&&c.4aM)return c.LMW(1461);return null};
+O_u=function(a,b){var c=a.TzkS(b);if(c&&c.WGs)return c.cX_(1462);return null};
+_0R=function(a,b){var c=a.7t4M(b);if(c&&c.qhq)return c.73I(1463);return null};
+1l_=function(a,b){var c=a.Dn7p(b);if(c&&c.a4Y)return c.Mx8(1464);return null};
+N2r=function(a,b){var c=a.uRXO(b);if(c&&c.LJx)return c.Li4(1465);return null};
+iQ_=function(a,b){var c=a.3LeO(b);if(c&&c.van)return c.ams(1466);return null};
+btm=function(a,b){var c=a.Q2zX(b);if(c&&c.VRg)return c.oV8(1467);return null};
+mij=function(a,b){var c=a.93Nw(b);if(c&&c.zR7)return c.PqU(1468);return null};
+X_c=function(a,b){var c=a.pKyp(b);if(c&&c.LII)return c.1En(1469);return null};
+nTo=function(a,b){var c=a.usnt(b);if(c&&c.23l)return c.7ir(1470);return null};
+bdp=function(a,b){var c=a._3o8(b);if(c&&c.91V)return c.NgJ(1471);return null};
+2LP=function(a,b){var c=a.Z_Q1(b);if(c&&c.2Va)return c._uL(1472);return null};
+E8X=function(a,b){var c=a.qIo5(b);if(c&&c.fV4)return c.pzs(1473);return null};
+76O=function(a,b){var c=a.OMrF(b);if(c&&c.twX)return c.jNY(1474);return null};
+EHV=function(a,b){var c=a.eRFh(b);if(c&&c.R0J)return c.EeW(1475);return null};
+ZWZ=function(a,b){var c=a.eGtM(b);if(c&&c.V9f)return c.o_g(1476);return null};
+fwb=function(a,b){var c=a.evC_(b);if(c&&c.nS_)return c.HkL(1477);return null};
+Ny1=function(a,b){var c=a.J2Is(b);if(c&&c.PXt)return c.wh5(1478);return null};
+4Gr=function(a,b){var c=a.Iohp(b);if(c&&c.y2C)return c.c6b(1479);return null};
+j7t=function(a,b){var c=a.nKGc(b);if(c&&c.UVV)return c.IB5(1480);return null};
+my7=function(a,b){var c=a.WpGi(b);if(c&&c.3DC)return c._2U(1481);return null};
+EBE=function(a,b){var c=a.J6Uz(b);if(c&&c.xe_)return c.xxB(1482);return null};
+9_n=function(a,b){var c=a.oZOz(b);if(c&&c.ATi)return c.BVU(1483);return null};
+Avq=function(a,b){var c=a.0YfK(b);if(c&&c.Hjv)return c.uz4(1484);return null};
+D1L=function(a,b){var c=a.pgkW(b);if(c&&c.fDv)return c.qpD(1485);return null};
+T_B=function(a,b){var c=a.oU89(b);if(c&&c.O_B)return c.ZL5(1486);return null};
+tXt=function(a,b){var c=a.u3Wc(b);if(c&&c.9HY)return c.SlK(1487);return null};
+8Dz=function(a,b){var c=a.6ElX(b);if(c&&c.GuM)return c.Bro(1488);return null};
+l_R=function(a,b){var c=a.Jw9Q(b);if(c&&c.2AH)return c.4_8(1489);return null};
+ldE=function(a,b){var c=a.7yw4(b);if(c&&c.ina)return c._2Y(1490);return null};
+Qqg=function(a,b){var c=a.Q3lS(b);if(c&&c.0_d)return c.hPt(1491);return null};
+v2A=function(a,b){var c=a.wTwJ(b);if(c&&c.kLJ)return c.dDa(1492);return null};
+u0I=function(a,b){var c=a.rTR9(b);if(c&&c.eOZ)return c.kHo(1493);return null};
+Bsm=function(a,b){var c=a.cvRA(b);if(c&&c.oHL)return c.WxT(1494);return null};
+rng=function(a,b){var c=a.8UzB(b);if(c&&c.1x9)return c.0FL(1495);return null};
+rJy=function(a,b){var c=a.ZjCa(b);if(c&&c.DxP)return c.H_m(1496);return null};
+J_Z=function(a,b){var c=a.49_S(b);if(c&&c.Txk)return c.DEQ(1497);return null};
+XfC=function(a,b){var c=a.eIZ4(b);if(c&&c.skK)return c.J0j(1498);return null};
+DXU=function(a,b){var c=a.DB1V(b);if(c&&c.OGc)return c._vc(1499);return null};})(_yt_player);
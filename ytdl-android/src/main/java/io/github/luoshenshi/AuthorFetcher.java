@@ -22,11 +22,17 @@ public class AuthorFetcher {
         return false;
     }
 
+    // The info object the lookup used to build: {"response": ytInitialData, "player_response": ...}
+    @Deprecated
     public static JSONObject getAuthor(JSONObject info) {
+        return getAuthor(WatchPage.fromInfo(info));
+    }
+
+    public static JSONObject getAuthor(WatchPage watchPage) {
         JSONObject author = new JSONObject();
         try {
             // Retrieving the results
-            JSONArray results = info.getJSONObject("response")
+            JSONArray results = watchPage.getInitialData()
                     .getJSONObject("contents")
                     .getJSONObject("twoColumnWatchNextResults")
                     .getJSONObject("results")
@@ -60,24 +66,26 @@ public class AuthorFetcher {
 //            System.out.println(thumbnailObject);
             for (int i = 0; i < thumbnailArray.length(); i++) {
                 JSONObject thumbnail = thumbnailArray.getJSONObject(i);
+                // Copied rather than edited in place, the watch page is shared through the cache
+                JSONObject copy = new JSONObject();
                 try {
-                    String url = new URL(thumbnail.getString("url")).toString();
-                    thumbnail.put("url", url);
+                    copy.put("url", new URL(thumbnail.getString("url")).toString());
                 } catch (MalformedURLException e) {
                     throw new IllegalArgumentException(e.getLocalizedMessage());
                 }
-                thumbnails.add(thumbnail);
+                copy.put("width", thumbnail.optInt("width"));
+                copy.put("height", thumbnail.optInt("height"));
+                thumbnails.add(copy);
             }
 
             // Extracting subscriber count and verify status
-            String subscriberObjectString = Objects.requireNonNull(videoOwnerRenderer.optJSONObject("subscriberCountText")).toString();
-            JSONObject subscriberObject = new JSONObject(subscriberObjectString);
-            String subscriberCount = subscriberObject.getString("simpleText").replace("subscribers", "").trim(); // like 1M, 2M~~
+            JSONObject subscriberObject = Objects.requireNonNull(videoOwnerRenderer.optJSONObject("subscriberCountText"));
+            String subscriberCount = subscriberObject.getString("simpleText"); // like 1M subscribers, 2.5K subscribers~~
 
             boolean verified = isVerified(videoOwnerRenderer.optJSONArray("badges"));
 
             // Extracting video details
-            JSONObject videoDetails = Objects.requireNonNull(Objects.requireNonNull(info.optJSONObject("player_response"))
+            JSONObject videoDetails = Objects.requireNonNull(Objects.requireNonNull(watchPage.getPlayerResponse())
                             .optJSONObject("microformat"))
                     .optJSONObject("playerMicroformatRenderer");
 
@@ -86,14 +94,14 @@ public class AuthorFetcher {
             // Creating the author object
             author.put("id", id);
             author.put("name", videoDetails != null ? videoDetails.optString("ownerChannelName") :
-                    info.getJSONObject("player_response").getJSONObject("videoDetails").optString("author"));
-            author.put("user", videoDetails != null ? videoDetails.optString("ownerProfileUrl").split("/")[3] : null);
+                    watchPage.getPlayerResponse().getJSONObject("videoDetails").optString("author"));
+            author.put("user", videoDetails != null ? Utils.firstPathSegment(videoDetails.optString("ownerProfileUrl")) : null);
             author.put("channel_url", "https://www.youtube.com/channel/" + id);
             author.put("external_channel_url", videoDetails != null ? "https://www.youtube.com/channel/" + videoDetails.optString("externalChannelId") : "");
             author.put("user_url", videoDetails != null ? new URL(videoDetails.optString("ownerProfileUrl")).toString() : "");
             author.put("thumbnails", thumbnails);
             author.put("verified", verified);
-            author.put("subscriber_count", Utils.parseAbbreviatedNumber(subscriberCount));
+            author.put("subscriber_count", Utils.parseAbbreviatedLong(subscriberCount));
         } catch (Exception e) {
             throw new IllegalArgumentException(e.getLocalizedMessage());
         }
@@ -2,59 +2,378 @@ package io.github.luoshenshi;
 
 import android.os.Build;
 
+import androidx.annotation.RequiresApi;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
+// Size-bounded LRU of pending or completed lookups, each entry with its own TTL.
+// Failed lookups are dropped as soon as they fail so the next caller retries.
+// With a DiskCache attached, lookups that come with a Codec also go to disk: a memory
+// miss is served from the disk entry when one is still valid, and fresh results are
+// written through so they survive a restart. Disk reads and decoding run on the disk
+// executor (the executor of the stage doing the lookup unless one is set), never on the
+// caller's thread.
 public class Cache {
-    private final Map<String, CompletableFuture<String>> cache = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    private final long timeout;
+    // Turns a cached value into the text stored on disk and back
+    interface Codec<T> {
+        String encode(T value) throws Exception;
 
-    public Cache(long timeout) {
-        this.timeout = timeout;
+        T decode(String text) throws Exception;
     }
 
-    public void set(String key, CompletableFuture<String> value) {
-        ScheduledFuture<?> future = scheduler.schedule(() -> cache.remove(key), timeout, TimeUnit.MILLISECONDS);
+    static final int DEFAULT_MAX_ENTRIES = 200;
 
-        cache.put(key, value);
+    private final int maxEntries;
+    // Only for the deprecated getOrSet(key, fn), -1 when the cache has none
+    private final long defaultTtlMillis;
+    private final Map<String, CacheEntry> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong failedRefreshes = new AtomicLong();
+    private final AtomicLong diskErrors = new AtomicLong();
+    private volatile DiskCache diskCache;
+    private volatile Executor diskExecutor;
 
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            value.whenComplete((result, error) -> {
-                if (error != null) {
-                    cache.remove(key);
-                    future.cancel(false);
+    // Cache(long) used to take a timeout rather than a size, so the bound has its own factory
+    // and new Cache(1000) keeps meaning 1000 ms
+    public static Cache withMaxEntries(int maxEntries) {
+        return new Cache(maxEntries, -1);
+    }
+
+    // Every entry added through getOrSet(key, fn) lives timeoutMillis, at most
+    // DEFAULT_MAX_ENTRIES are kept
+    @Deprecated
+    public Cache(long timeoutMillis) {
+        this(DEFAULT_MAX_ENTRIES, timeoutMillis);
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("timeoutMillis must be positive");
+        }
+    }
+
+    private Cache(int maxEntries, long defaultTtlMillis) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > Cache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
                 }
-            });
+                return false;
+            }
+        };
+    }
+
+    public void setDiskCache(DiskCache diskCache) {
+        this.diskCache = diskCache;
+    }
+
+    public DiskCache getDiskCache() {
+        return diskCache;
+    }
+
+    // Where disk reads and decoding run; null (the default) uses the executor of the stage
+    // doing the lookup
+    public void setDiskExecutor(Executor diskExecutor) {
+        this.diskExecutor = diskExecutor;
+    }
+
+    // With the timeout given to the deprecated constructor
+    @Deprecated
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    public <T> CompletableFuture<T> getOrSet(String key, Callable<CompletableFuture<T>> fn) {
+        if (defaultTtlMillis < 1) {
+            throw new IllegalStateException("No default TTL, use getOrSet(key, ttlMillis, fn)");
         }
+        return getOrSet(key, defaultTtlMillis, fn);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    public <T> CompletableFuture<T> getOrSet(String key, long ttlMillis, Callable<CompletableFuture<T>> fn) {
+        return getOrSet(key, ttlMillis, fn, null, null);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    <T> CompletableFuture<T> getOrSet(String key, long ttlMillis, Callable<CompletableFuture<T>> fn, Codec<T> codec, Executor io) {
+        return lookup(key, ttlMillis, ttlMillis, fn, null, codec, io);
     }
 
-    public CompletableFuture<String> getOrSet(String key, Callable<CompletableFuture<String>> fn) {
-        CompletableFuture<String> value = null;
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            value = cache.computeIfAbsent(key, k -> {
-                try {
-                    return fn.call();
-                } catch (Exception e) {
-                    throw new CompletionException(e);
+    // Stale-while-revalidate: a value younger than softTtlMillis is returned as is, one between
+    // the two TTLs is returned right away while fn refreshes it in the background (one refresh
+    // per key at a time), and past hardTtlMillis callers wait for fn like on a miss. A failed
+    // refresh keeps the stale value until the next caller tries again.
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    public <T> CompletableFuture<T> getOrRevalidate(String key, long softTtlMillis, long hardTtlMillis, Callable<CompletableFuture<T>> fn) {
+        return getOrRevalidate(key, softTtlMillis, hardTtlMillis, fn, fn);
+    }
+
+    // Same, with a separate call for background refreshes
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    <T> CompletableFuture<T> getOrRevalidate(String key, long softTtlMillis, long hardTtlMillis, Callable<CompletableFuture<T>> fn, Callable<CompletableFuture<T>> refresh) {
+        if (softTtlMillis > hardTtlMillis) {
+            throw new IllegalArgumentException("softTtlMillis must not exceed hardTtlMillis");
+        }
+        return lookup(key, softTtlMillis, hardTtlMillis, fn, refresh, null, null);
+    }
+
+    // Runs fn regardless of what is cached and stores its result under key, for callers
+    // that need fresh data. Lookups already holding the old value keep it.
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    <T> CompletableFuture<T> refresh(String key, long ttlMillis, Callable<CompletableFuture<T>> fn, Codec<T> codec) {
+        DiskCache disk = codec != null ? diskCache : null;
+        return call(fn).thenApply(result -> {
+            long now = System.currentTimeMillis();
+            synchronized (cache) {
+                cache.put(key, new CacheEntry(CompletableFuture.completedFuture(result), now + ttlMillis, now + ttlMillis));
+            }
+            if (disk != null) {
+                storeOnDisk(disk, key, codec, result, now + ttlMillis);
+            }
+            return result;
+        });
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> lookup(String key, long softTtlMillis, long hardTtlMillis, Callable<CompletableFuture<T>> fn, Callable<CompletableFuture<T>> refresh, Codec<T> codec, Executor stageExecutor) {
+        CacheEntry entry;
+        boolean revalidate = false;
+        synchronized (cache) {
+            long now = System.currentTimeMillis();
+            entry = cache.get(key);
+            if (entry != null && entry.expiresAt <= now) {
+                cache.remove(key);
+                expirations.incrementAndGet();
+                entry = null;
+            }
+            if (entry != null) {
+                hits.incrementAndGet();
+                revalidate = refresh != null && entry.staleAt <= now && !entry.refreshing
+                        && entry.value.isDone() && !entry.value.isCompletedExceptionally();
+                if (!revalidate) {
+                    return (CompletableFuture<T>) entry.value;
+                }
+                entry.refreshing = true;
+            } else {
+                misses.incrementAndGet();
+
+                // Claimed before anything slow runs so concurrent callers share it
+                entry = new CacheEntry(new CompletableFuture<T>(), now + hardTtlMillis, now + softTtlMillis);
+                cache.put(key, entry);
+            }
+        }
+        if (revalidate) {
+            revalidate(key, entry, softTtlMillis, hardTtlMillis, refresh);
+            return (CompletableFuture<T>) entry.value;
+        }
+        CompletableFuture<T> pending = (CompletableFuture<T>) entry.value;
+
+        CacheEntry created = entry;
+        DiskCache disk = codec != null ? diskCache : null;
+        if (disk == null) {
+            load(key, created, pending, fn, null, null);
+            return pending;
+        }
+        // The caller may be the main thread, so even the disk hit is completed from the executor
+        Executor io = diskExecutor != null ? diskExecutor : stageExecutor != null ? stageExecutor : YTDL.getExecutor();
+        try {
+            io.execute(() -> {
+                if (!loadFromDisk(disk, key, codec, created, pending)) {
+                    load(key, created, pending, fn, disk, codec);
                 }
             });
+        } catch (RejectedExecutionException e) {
+            remove(key, created);
+            pending.completeExceptionally(e);
+        }
+        return pending;
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private <T> void load(String key, CacheEntry created, CompletableFuture<T> pending, Callable<CompletableFuture<T>> fn, DiskCache disk, Codec<T> codec) {
+        call(fn).whenComplete((value, error) -> {
+            if (error != null) {
+                remove(key, created);
+                pending.completeExceptionally(error);
+                return;
+            }
+            pending.complete(value);
+            if (disk != null) {
+                storeOnDisk(disk, key, codec, value, created.expiresAt);
+            }
+        });
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private <T> void revalidate(String key, CacheEntry stale, long softTtlMillis, long hardTtlMillis, Callable<CompletableFuture<T>> refresh) {
+        refreshes.incrementAndGet();
+        call(refresh).whenComplete((value, error) -> {
+            synchronized (cache) {
+                if (error != null) {
+                    stale.refreshing = false;
+                    failedRefreshes.incrementAndGet();
+                    return;
+                }
+                // Unless it was invalidated or replaced in the meantime
+                if (cache.get(key) == stale) {
+                    long now = System.currentTimeMillis();
+                    cache.put(key, new CacheEntry(CompletableFuture.completedFuture(value), now + hardTtlMillis, now + softTtlMillis));
+                }
+            }
+        });
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static <T> CompletableFuture<T> call(Callable<CompletableFuture<T>> fn) {
+        try {
+            return fn.call();
+        } catch (Exception e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
         }
-        set(key, value);
-        return value;
     }
 
+    public void invalidate(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+        DiskCache disk = diskCache;
+        if (disk != null) {
+            try {
+                disk.remove(key);
+            } catch (IOException e) {
+                diskErrors.incrementAndGet();
+            }
+        }
+    }
+
+    // Clears the memory tier only, the disk tier has its own clear()
     public void clear() {
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            cache.values().forEach(future -> future.cancel(false));
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // Entries dropped to stay within maxEntries
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    // Entries dropped because their TTL ran out
+    public long getExpirations() {
+        return expirations.get();
+    }
+
+    // Background refreshes started for stale entries
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+
+    public long getFailedRefreshes() {
+        return failedRefreshes.get();
+    }
+
+    // Disk reads and writes that failed or could not be decoded, each treated as a miss
+    public long getDiskErrors() {
+        return diskErrors.get();
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "size=" + size() +
+                ", maxEntries=" + maxEntries +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", evictions=" + getEvictions() +
+                ", expirations=" + getExpirations() +
+                ", refreshes=" + getRefreshes() +
+                ", failedRefreshes=" + getFailedRefreshes() +
+                ", diskErrors=" + getDiskErrors() +
+                ", diskCache=" + diskCache +
+                '}';
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private <T> boolean loadFromDisk(DiskCache disk, String key, Codec<T> codec, CacheEntry entry, CompletableFuture<T> pending) {
+        try {
+            DiskCache.Record record = disk.read(key);
+            if (record == null) {
+                return false;
+            }
+            long expiresAt = record.expiresAt;
+            T value = codec.decode(record.value);
+            // Keeps the expiry it was written with rather than starting a fresh TTL
+            entry.expiresAt = Math.min(entry.expiresAt, expiresAt);
+            entry.staleAt = Math.min(entry.staleAt, expiresAt);
+            pending.complete(value);
+            return true;
+        } catch (Exception e) {
+            diskErrors.incrementAndGet();
+            return false;
+        }
+    }
+
+    private <T> void storeOnDisk(DiskCache disk, String key, Codec<T> codec, T value, long expiresAt) {
+        try {
+            disk.put(key, codec.encode(value), expiresAt);
+        } catch (Exception e) {
+            diskErrors.incrementAndGet();
+        }
+    }
+
+    private void remove(String key, CacheEntry entry) {
+        synchronized (cache) {
+            if (cache.get(key) == entry) {
+                cache.remove(key);
+            }
+        }
+    }
+
+    private static class CacheEntry {
+        private final CompletableFuture<?> value;
+        private volatile long expiresAt;
+        private volatile long staleAt;
+        // Guarded by the cache lock
+        private boolean refreshing;
+
+        private CacheEntry(CompletableFuture<?> value, long expiresAt, long staleAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.staleAt = staleAt;
         }
-        cache.clear();
     }
 }
@@ -0,0 +1,94 @@
+package io.github.luoshenshi;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+// Disk forms of the lookups YTDL caches. Manifests are left out on purpose, their URLs and
+// segment lists go stale long before a restart, so after one a lookup that needs no
+// FORMATS (or of a video without DASH/HLS manifests) is served from disk alone, while a
+// FORMATS lookup still fetches the manifests its player responses point to.
+class CacheCodecs {
+    static final Cache.Codec<JSONObject> PLAYER_RESPONSE = new Cache.Codec<JSONObject>() {
+        @Override
+        public String encode(JSONObject playerResponse) {
+            return playerResponse.toString();
+        }
+
+        @Override
+        public JSONObject decode(String text) throws Exception {
+            return new JSONObject(text);
+        }
+    };
+
+    static final Cache.Codec<WatchPage> WATCH_PAGE = new Cache.Codec<WatchPage>() {
+        @Override
+        public String encode(WatchPage page) throws Exception {
+            JSONObject encoded = new JSONObject();
+            encoded.put("playerResponse", page.getPlayerResponse());
+            encoded.put("initialData", slim(page.getInitialData()));
+            encoded.put("html5player", page.getHtml5player());
+            return encoded.toString();
+        }
+
+        @Override
+        public WatchPage decode(String text) throws Exception {
+            JSONObject encoded = new JSONObject(text);
+            return new WatchPage(
+                    encoded.getJSONObject("playerResponse"),
+                    encoded.getJSONObject("initialData"),
+                    encoded.optString("html5player", null)
+            );
+        }
+    };
+
+    static final Cache.Codec<SignatureDecipher> SIGNATURE_DECIPHER = new Cache.Codec<SignatureDecipher>() {
+        @Override
+        public String encode(SignatureDecipher decipher) {
+            return decipher.encode();
+        }
+
+        @Override
+        public SignatureDecipher decode(String text) {
+            return SignatureDecipher.decode(text);
+        }
+    };
+
+    // The parts of ytInitialData the likes and author getters read, at their original paths:
+    // the primary info's videoActions and the secondary info's owner. The rest (comments,
+    // related videos, engagement panels) is most of the page and never read.
+    private static JSONObject slim(JSONObject initialData) throws JSONException {
+        JSONArray kept = new JSONArray();
+        JSONObject results = path(initialData, "contents", "twoColumnWatchNextResults", "results", "results");
+        JSONArray contents = results != null ? results.optJSONArray("contents") : null;
+        if (contents != null) {
+            for (int i = 0; i < contents.length(); i++) {
+                JSONObject item = contents.optJSONObject(i);
+                JSONObject primary = item != null ? item.optJSONObject("videoPrimaryInfoRenderer") : null;
+                JSONObject secondary = item != null ? item.optJSONObject("videoSecondaryInfoRenderer") : null;
+                if (primary != null) {
+                    kept.put(new JSONObject().put("videoPrimaryInfoRenderer",
+                            new JSONObject().put("videoActions", primary.opt("videoActions"))));
+                } else if (secondary != null) {
+                    kept.put(new JSONObject().put("videoSecondaryInfoRenderer",
+                            new JSONObject().put("owner", secondary.opt("owner"))));
+                }
+            }
+        }
+        return new JSONObject().put("contents", new JSONObject().put("twoColumnWatchNextResults",
+                new JSONObject().put("results", new JSONObject().put("results", new JSONObject().put("contents", kept)))));
+    }
+
+    private static JSONObject path(JSONObject object, String... keys) {
+        for (String key : keys) {
+            if (object == null) {
+                return null;
+            }
+            object = object.optJSONObject(key);
+        }
+        return object;
+    }
+
+    private CacheCodecs() {
+    }
+}
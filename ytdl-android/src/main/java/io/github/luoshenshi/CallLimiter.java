@@ -0,0 +1,151 @@
+package io.github.luoshenshi;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+// Caps the calls in flight, in total and per host. OkHttp's Dispatcher only limits
+// enqueue()d calls and the lookup stages and downloads use execute(), so the limit is
+// taken here, where both kinds pass. A call holds its permits until its response body is
+// closed or fully read, because the connection stays busy until then.
+class CallLimiter implements Interceptor {
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final Semaphore total;
+    private final Map<String, Semaphore> hosts = new HashMap<>();
+
+    CallLimiter(int maxRequests, int maxRequestsPerHost) {
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.total = new Semaphore(maxRequests, true);
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Semaphore host = host(chain.request().url().host());
+        acquire(host);
+        try {
+            acquire(total);
+        } catch (IOException e) {
+            host.release();
+            throw e;
+        }
+
+        Permits permits = new Permits(host);
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        ResponseBody body = response.body();
+        if (body == null) {
+            permits.release();
+            return response;
+        }
+        BufferedSource source = Okio.buffer(new ReleasingSource(body.source(), permits));
+        return response.newBuilder().body(ResponseBody.create(source, body.contentType(), body.contentLength())).build();
+    }
+
+    int getMaxRequests() {
+        return maxRequests;
+    }
+
+    int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    // Calls blocked on a permit, synchronous or not
+    int getWaitingCalls() {
+        int waiting = total.getQueueLength();
+        synchronized (hosts) {
+            for (Semaphore host : hosts.values()) {
+                waiting += host.getQueueLength();
+            }
+        }
+        return waiting;
+    }
+
+    private Semaphore host(String name) {
+        synchronized (hosts) {
+            Semaphore host = hosts.get(name);
+            if (host == null) {
+                hosts.put(name, host = new Semaphore(maxRequestsPerHost, true));
+            }
+            return host;
+        }
+    }
+
+    private static void acquire(Semaphore semaphore) throws IOException {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection slot");
+        }
+    }
+
+    private class Permits {
+        private final Semaphore host;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permits(Semaphore host) {
+            this.host = host;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                total.release();
+                host.release();
+            }
+        }
+    }
+
+    private static class ReleasingSource extends ForwardingSource {
+        private final Permits permits;
+
+        private ReleasingSource(BufferedSource delegate, Permits permits) {
+            super(delegate);
+            this.permits = permits;
+        }
+
+        @Override
+        public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+            long read;
+            try {
+                read = super.read(sink, byteCount);
+            } catch (IOException e) {
+                permits.release();
+                throw e;
+            }
+            if (read == -1) {
+                permits.release();
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.luoshenshi;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.GzipSource;
+import okio.Okio;
+import okio.Source;
+
+// Asks for gzip on requests tagged with a TransferStats.Stage and decodes the response
+// itself, which OkHttp would otherwise do out of sight, so the compressed size on the
+// wire and the decoded size can both be counted. Untagged requests (stream downloads,
+// live segments) and requests that set their own Accept-Encoding pass through untouched.
+class CompressionInterceptor implements Interceptor {
+    private final TransferStats stats;
+
+    CompressionInterceptor(TransferStats stats) {
+        this.stats = stats;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        TransferStats.Stage stage = request.tag(TransferStats.Stage.class);
+        if (stage == null || request.header("Accept-Encoding") != null || request.header("Range") != null) {
+            return chain.proceed(request);
+        }
+
+        Response response = chain.proceed(request.newBuilder().header("Accept-Encoding", "gzip").build());
+        ResponseBody body = response.body();
+        boolean gzip = "gzip".equalsIgnoreCase(response.header("Content-Encoding"));
+        stats.recordRequest(stage, gzip);
+        if (body == null) {
+            return response;
+        }
+
+        Source wire = new CountingSource(body.source(), stats, stage, true);
+        BufferedSource decoded = Okio.buffer(new CountingSource(gzip ? new GzipSource(wire) : wire, stats, stage, false));
+        Response.Builder builder = response.newBuilder();
+        long contentLength = body.contentLength();
+        if (gzip) {
+            // The length and encoding described the compressed body
+            builder.removeHeader("Content-Encoding").removeHeader("Content-Length");
+            contentLength = -1;
+        }
+        return builder.body(ResponseBody.create(decoded, body.contentType(), contentLength)).build();
+    }
+
+    private static class CountingSource extends ForwardingSource {
+        private final TransferStats stats;
+        private final TransferStats.Stage stage;
+        private final boolean wire;
+
+        private CountingSource(Source delegate, TransferStats stats, TransferStats.Stage stage, boolean wire) {
+            super(delegate);
+            this.stats = stats;
+            this.stage = stage;
+            this.wire = wire;
+        }
+
+        @Override
+        public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read > 0) {
+                if (wire) {
+                    stats.recordWireBytes(stage, read);
+                } else {
+                    stats.recordDecodedBytes(stage, read);
+                }
+            }
+            return read;
+        }
+    }
+}
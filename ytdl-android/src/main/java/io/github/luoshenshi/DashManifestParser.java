@@ -0,0 +1,538 @@
+package io.github.luoshenshi;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+// Streams an MPD through SAX into one Format per Representation. Attributes, BaseURLs and
+// segment addressing are inherited MPD -> Period -> AdaptationSet -> Representation, each
+// level overriding what it sets itself. Every thread keeps one SAX parser and resets it
+// between manifests instead of creating a factory and parser per fetch.
+class DashManifestParser extends DefaultHandler {
+    private static final SAXParserFactory FACTORY = SAXParserFactory.newInstance();
+    // SegmentTimeline expansion limits, so a huge S@r cannot exhaust memory. A live manifest
+    // keeps its newest segments (the time-shift window ends at the live edge), a static one
+    // its first.
+    private static final int MAX_SEGMENTS = 1 << 18;
+    private static final int MAX_LIVE_SEGMENTS = 1 << 13;
+    private static final long MAX_REPEAT = Integer.MAX_VALUE;
+    private static final ThreadLocal<SAXParser> PARSERS = new ThreadLocal<SAXParser>() {
+        @Override
+        protected SAXParser initialValue() {
+            try {
+                return FACTORY.newSAXParser();
+            } catch (ParserConfigurationException | SAXException e) {
+                throw new IllegalStateException("No SAX parser available", e);
+            }
+        }
+    };
+
+    private final List<Format> formats = new ArrayList<>();
+    private final List<Scope> scopes = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+    private boolean inBaseUrl;
+    private boolean inSegmentList;
+    private boolean dynamic;
+    private double presentationSeconds = -1;
+
+    private DashManifestParser(String manifestUrl) {
+        Scope root = new Scope(null);
+        root.baseUrl = manifestUrl;
+        scopes.add(root);
+    }
+
+    static List<Format> parse(InputStream inputStream, String manifestUrl) throws IOException, SAXException {
+        SAXParser parser = PARSERS.get();
+        DashManifestParser handler = new DashManifestParser(manifestUrl);
+        try {
+            parser.parse(inputStream, handler);
+        } finally {
+            try {
+                parser.reset();
+            } catch (UnsupportedOperationException e) {
+                PARSERS.remove();
+            }
+        }
+        return handler.formats;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        String name = localName(qName);
+        Scope scope = scopes.get(scopes.size() - 1);
+        switch (name) {
+            case "MPD":
+                dynamic = "dynamic".equals(attributes.getValue("type"));
+                presentationSeconds = parseDuration(attributes.getValue("mediaPresentationDuration"));
+                break;
+            case "Period": {
+                Scope period = push(scope);
+                double seconds = parseDuration(attributes.getValue("duration"));
+                period.periodSeconds = seconds >= 0 ? seconds : presentationSeconds;
+                break;
+            }
+            case "AdaptationSet":
+                push(scope).applyCommon(attributes);
+                break;
+            case "Representation": {
+                Scope representation = push(scope);
+                representation.applyCommon(attributes);
+                representation.id = attributes.getValue("id");
+                representation.bandwidth = Utils.parseLong(attributes.getValue("bandwidth"), -1);
+                break;
+            }
+            case "BaseURL":
+                inBaseUrl = true;
+                text.setLength(0);
+                break;
+            case "AudioChannelConfiguration":
+                scope.audioChannels = Utils.parseInt(attributes.getValue("value"), scope.audioChannels);
+                break;
+            case "SegmentTemplate":
+            case "SegmentList": {
+                SegmentSpec spec = scope.ownSegments();
+                spec.template = name.equals("SegmentTemplate");
+                inSegmentList = !spec.template;
+                String media = attributes.getValue("media");
+                if (media != null) {
+                    spec.media = media;
+                }
+                String initialization = attributes.getValue("initialization");
+                if (initialization != null) {
+                    spec.initialization = initialization;
+                }
+                spec.startNumber = Utils.parseLong(attributes.getValue("startNumber"), spec.startNumber);
+                spec.timescale = Math.max(1, Utils.parseLong(attributes.getValue("timescale"), spec.timescale));
+                spec.duration = Utils.parseLong(attributes.getValue("duration"), spec.duration);
+                break;
+            }
+            case "Initialization":
+                if (inSegmentList && scope.segments != null) {
+                    scope.segments.initialization = attributes.getValue("sourceURL");
+                }
+                break;
+            case "SegmentURL":
+                if (scope.segments != null) {
+                    scope.segments.ownMediaUrls().add(attributes.getValue("media"));
+                }
+                break;
+            case "SegmentTimeline":
+                if (scope.segments != null) {
+                    scope.segments.timeline = new ArrayList<>();
+                }
+                break;
+            case "S":
+                if (scope.segments != null && scope.segments.timeline != null) {
+                    scope.segments.timeline.add(new long[]{
+                            Utils.parseLong(attributes.getValue("t"), -1),
+                            Utils.parseLong(attributes.getValue("d"), 0),
+                            Utils.parseLong(attributes.getValue("r"), 0)
+                    });
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (inBaseUrl) {
+            text.append(ch, start, length);
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName(qName)) {
+            case "BaseURL": {
+                inBaseUrl = false;
+                Scope scope = scopes.get(scopes.size() - 1);
+                scope.baseUrl = resolve(scope.baseUrl, text.toString().trim());
+                scope.hasBaseUrl = true;
+                break;
+            }
+            case "SegmentList":
+                inSegmentList = false;
+                break;
+            case "Representation":
+                formats.add(toFormat(scopes.remove(scopes.size() - 1)));
+                break;
+            case "AdaptationSet":
+            case "Period":
+                scopes.remove(scopes.size() - 1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private Scope push(Scope parent) {
+        Scope scope = new Scope(parent);
+        scopes.add(scope);
+        return scope;
+    }
+
+    private Format toFormat(Scope scope) {
+        long durationMs = scope.periodSeconds >= 0 ? (long) (scope.periodSeconds * 1000) : -1;
+        // YouTube uses the itag as the Representation id
+        return new Format(Format.Source.DASH, Utils.parseInt(scope.id, -1), scope.hasBaseUrl ? scope.baseUrl : null, null,
+                scope.mimeType, scope.codecs, scope.bandwidth, -1, scope.width, scope.height, scope.fps, -1, durationMs,
+                scope.audioSampleRate, scope.audioChannels, null, scope.segments != null ? toSegments(scope) : null, null);
+    }
+
+    private DashSegments toSegments(Scope scope) {
+        SegmentSpec spec = scope.segments;
+        String initialization = spec.initialization != null
+                ? resolve(scope.baseUrl, spec.template ? substitute(spec.initialization, scope, spec.startNumber, 0) : spec.initialization)
+                : null;
+
+        List<DashSegments.Segment> segments;
+        if (!spec.template) {
+            List<String> mediaUrls = spec.mediaUrls != null ? spec.mediaUrls : Collections.<String>emptyList();
+            segments = new ArrayList<>(mediaUrls.size());
+            Timeline timing = timeline(spec, mediaUrls.size(), false);
+            for (int i = 0; i < mediaUrls.size(); i++) {
+                boolean timed = timing != null && i < timing.times.length;
+                long time = timed ? timing.times[i] : (spec.duration > 0 ? i * spec.duration : -1);
+                long duration = timed ? timing.durations[i] : spec.duration;
+                segments.add(new DashSegments.Segment(spec.startNumber + i, time, duration, resolve(scope.baseUrl, mediaUrls.get(i))));
+            }
+        } else if (spec.media == null) {
+            segments = Collections.emptyList();
+        } else if (spec.timeline != null) {
+            Timeline timing = timeline(spec, dynamic ? MAX_LIVE_SEGMENTS : MAX_SEGMENTS, dynamic);
+            int count = timing.times.length;
+            segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long number = spec.startNumber + timing.first + i;
+                segments.add(new DashSegments.Segment(number, timing.times[i], timing.durations[i],
+                        resolve(scope.baseUrl, substitute(spec.media, scope, number, timing.times[i]))));
+            }
+        } else if (spec.duration > 0 && scope.periodSeconds > 0 && !dynamic) {
+            int count = (int) Math.min(Math.ceil(scope.periodSeconds * spec.timescale / spec.duration), MAX_SEGMENTS);
+            segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long number = spec.startNumber + i;
+                long time = i * spec.duration;
+                segments.add(new DashSegments.Segment(number, time, spec.duration,
+                        resolve(scope.baseUrl, substitute(spec.media, scope, number, time))));
+            }
+        } else {
+            // Live template without a timeline, the caller works segments out from the template
+            segments = Collections.emptyList();
+        }
+        return new DashSegments(initialization, spec.template ? spec.media : null, spec.startNumber, spec.timescale,
+                spec.duration, dynamic, segments);
+    }
+
+    // Start times and durations from the SegmentTimeline, at most limit entries (the last ones
+    // when newest is set), or null without one. Skipped entries are stepped over arithmetically,
+    // never expanded. A negative repeat count (repeat until the next S) is read as no repeat.
+    private static Timeline timeline(SegmentSpec spec, int limit, boolean newest) {
+        if (spec.timeline == null) {
+            return null;
+        }
+        List<long[]> entries = spec.timeline;
+        long total = 0;
+        for (long[] s : entries) {
+            total += repeats(s);
+        }
+        int count = (int) Math.min(total, limit);
+        long skip = newest ? total - count : 0;
+        long[] times = new long[count];
+        long[] durations = new long[count];
+        long time = 0;
+        long index = 0;
+        int filled = 0;
+        for (long[] s : entries) {
+            if (filled == count) {
+                break;
+            }
+            if (s[0] >= 0) {
+                time = s[0];
+            }
+            long repeats = repeats(s);
+            long skipped = Math.min(repeats, Math.max(0, skip - index));
+            time += skipped * s[1];
+            index += skipped;
+            for (long r = skipped; r < repeats && filled < count; r++) {
+                times[filled] = time;
+                durations[filled] = s[1];
+                time += s[1];
+                index++;
+                filled++;
+            }
+        }
+        return new Timeline(skip, times, durations);
+    }
+
+    private static long repeats(long[] s) {
+        return Math.min(Math.max(s[2], 0), MAX_REPEAT) + 1;
+    }
+
+    // Fills in $RepresentationID$, $Number$, $Bandwidth$ and $Time$, with optional %0Nd widths
+    private static String substitute(String template, Scope scope, long number, long time) {
+        if (template.indexOf('$') == -1) {
+            return template;
+        }
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        int position = 0;
+        while (position < template.length()) {
+            int start = template.indexOf('$', position);
+            int end = start != -1 ? template.indexOf('$', start + 1) : -1;
+            if (end == -1) {
+                out.append(template, position, template.length());
+                break;
+            }
+            out.append(template, position, start);
+            int percent = template.indexOf('%', start);
+            int nameEnd = percent != -1 && percent < end ? percent : end;
+            String name = template.substring(start + 1, nameEnd);
+            int width = nameEnd < end ? parseWidth(template, nameEnd, end) : 0;
+            switch (name) {
+                case "":
+                    out.append('$');
+                    break;
+                case "RepresentationID":
+                    out.append(scope.id);
+                    break;
+                case "Number":
+                    appendPadded(out, number, width);
+                    break;
+                case "Bandwidth":
+                    appendPadded(out, scope.bandwidth, width);
+                    break;
+                case "Time":
+                    appendPadded(out, time, width);
+                    break;
+                default:
+                    out.append(template, start, end + 1);
+                    break;
+            }
+            position = end + 1;
+        }
+        return out.toString();
+    }
+
+    // %05d -> 5
+    private static int parseWidth(String template, int from, int to) {
+        int width = 0;
+        for (int i = from + 1; i < to; i++) {
+            char c = template.charAt(i);
+            if (c >= '0' && c <= '9') {
+                width = width * 10 + (c - '0');
+            }
+        }
+        return width;
+    }
+
+    private static void appendPadded(StringBuilder out, long value, int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            out.append('0');
+        }
+        out.append(digits);
+    }
+
+    private static String resolve(String base, String reference) {
+        if (reference == null || reference.isEmpty()) {
+            return base;
+        }
+        if (base == null || reference.startsWith("http://") || reference.startsWith("https://")) {
+            return reference;
+        }
+        try {
+            return URI.create(base).resolve(reference).toString();
+        } catch (IllegalArgumentException e) {
+            return reference;
+        }
+    }
+
+    // ISO 8601 durations as used by MPDs, e.g. PT1H2M3.5S, in seconds or -1
+    static double parseDuration(String value) {
+        if (value == null || !value.startsWith("P")) {
+            return -1;
+        }
+        double seconds = 0;
+        boolean inTime = false;
+        int numberStart = -1;
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == 'T') {
+                inTime = true;
+            } else if ((c >= '0' && c <= '9') || c == '.') {
+                if (numberStart == -1) {
+                    numberStart = i;
+                }
+            } else {
+                if (numberStart == -1) {
+                    return -1;
+                }
+                double number;
+                try {
+                    number = Double.parseDouble(value.substring(numberStart, i));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+                numberStart = -1;
+                switch (c) {
+                    case 'D':
+                        seconds += number * 86400;
+                        break;
+                    case 'H':
+                        seconds += number * 3600;
+                        break;
+                    case 'M':
+                        // Minutes after T, months before it (taken as 30 days)
+                        seconds += inTime ? number * 60 : number * 2592000;
+                        break;
+                    case 'S':
+                        seconds += number;
+                        break;
+                    case 'Y':
+                        seconds += number * 31536000;
+                        break;
+                    default:
+                        return -1;
+                }
+            }
+        }
+        return seconds;
+    }
+
+    private static String localName(String qName) {
+        int colon = qName.indexOf(':');
+        return colon == -1 ? qName : qName.substring(colon + 1);
+    }
+
+    // frameRate is either 30 or 30000/1001
+    private static int parseFrameRate(String value, int fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        int slash = value.indexOf('/');
+        if (slash == -1) {
+            return Utils.parseInt(value, fallback);
+        }
+        long numerator = Utils.parseLong(value.substring(0, slash), -1);
+        long denominator = Utils.parseLong(value.substring(slash + 1), -1);
+        return numerator > 0 && denominator > 0 ? (int) Math.round((double) numerator / denominator) : fallback;
+    }
+
+    private static class Timeline {
+        // Index of the first kept entry within the whole timeline
+        private final long first;
+        private final long[] times;
+        private final long[] durations;
+
+        private Timeline(long first, long[] times, long[] durations) {
+            this.first = first;
+            this.times = times;
+            this.durations = durations;
+        }
+    }
+
+    // Everything one level of the MPD hands down to the levels below it
+    private static class Scope {
+        private String baseUrl;
+        private boolean hasBaseUrl;
+        private double periodSeconds = -1;
+        private String mimeType;
+        private String codecs;
+        private int width = -1;
+        private int height = -1;
+        private int fps = -1;
+        private int audioSampleRate = -1;
+        private int audioChannels = -1;
+        private String id;
+        private long bandwidth = -1;
+        private SegmentSpec segments;
+        private boolean ownsSegments;
+
+        private Scope(Scope parent) {
+            if (parent != null) {
+                baseUrl = parent.baseUrl;
+                hasBaseUrl = parent.hasBaseUrl;
+                periodSeconds = parent.periodSeconds;
+                mimeType = parent.mimeType;
+                codecs = parent.codecs;
+                width = parent.width;
+                height = parent.height;
+                fps = parent.fps;
+                audioSampleRate = parent.audioSampleRate;
+                audioChannels = parent.audioChannels;
+                // Shared until this level declares its own segment element
+                segments = parent.segments;
+            }
+        }
+
+        private void applyCommon(Attributes attributes) {
+            String value = attributes.getValue("mimeType");
+            if (value != null) {
+                mimeType = value;
+            }
+            value = attributes.getValue("codecs");
+            if (value != null) {
+                codecs = value;
+            }
+            width = Utils.parseInt(attributes.getValue("width"), width);
+            height = Utils.parseInt(attributes.getValue("height"), height);
+            fps = parseFrameRate(attributes.getValue("frameRate"), fps);
+            audioSampleRate = Utils.parseInt(attributes.getValue("audioSamplingRate"), audioSampleRate);
+        }
+
+        private SegmentSpec ownSegments() {
+            if (!ownsSegments) {
+                segments = segments != null ? segments.copy() : new SegmentSpec();
+                ownsSegments = true;
+            }
+            return segments;
+        }
+    }
+
+    private static class SegmentSpec {
+        private boolean template;
+        private String media;
+        private String initialization;
+        private long startNumber = 1;
+        private long timescale = 1;
+        private long duration = -1;
+        private List<String> mediaUrls;
+        private boolean ownsMediaUrls;
+        private List<long[]> timeline;
+
+        private SegmentSpec copy() {
+            SegmentSpec copy = new SegmentSpec();
+            copy.template = template;
+            copy.media = media;
+            copy.initialization = initialization;
+            copy.startNumber = startNumber;
+            copy.timescale = timescale;
+            copy.duration = duration;
+            copy.mediaUrls = mediaUrls;
+            copy.timeline = timeline;
+            return copy;
+        }
+
+        // SegmentURLs at a lower level replace the inherited ones rather than adding to them
+        private List<String> ownMediaUrls() {
+            if (!ownsMediaUrls) {
+                mediaUrls = new ArrayList<>();
+                ownsMediaUrls = true;
+            }
+            return mediaUrls;
+        }
+    }
+}
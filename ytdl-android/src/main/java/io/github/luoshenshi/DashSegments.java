@@ -0,0 +1,115 @@
+package io.github.luoshenshi;
+
+import java.util.List;
+
+// How a DASH Representation is split into segments, after SegmentList or SegmentTemplate
+// inheritance has been applied. Times and durations are in timescale units. The segment
+// list is empty when it cannot be worked out from the manifest alone, e.g. a live
+// SegmentTemplate without a SegmentTimeline; the template fields are kept for that case.
+// A SegmentTimeline is expanded to at most the newest 8192 segments of a live manifest and
+// the first 262144 of a static one.
+public final class DashSegments {
+    public static final class Segment {
+        private final long number;
+        private final long startTime;
+        private final long duration;
+        private final String url;
+
+        Segment(long number, long startTime, long duration, String url) {
+            this.number = number;
+            this.startTime = startTime;
+            this.duration = duration;
+            this.url = url;
+        }
+
+        public long getNumber() {
+            return number;
+        }
+
+        public long getStartTime() {
+            return startTime;
+        }
+
+        // -1 if the manifest does not say
+        public long getDuration() {
+            return duration;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        @Override
+        public String toString() {
+            return "{" +
+                    "number=" + number +
+                    ", startTime=" + startTime +
+                    ", duration=" + duration +
+                    ", url='" + url + '\'' +
+                    '}';
+        }
+    }
+
+    private final String initializationUrl;
+    private final String mediaTemplate;
+    private final long startNumber;
+    private final long timescale;
+    private final long segmentDuration;
+    private final boolean dynamic;
+    private final List<Segment> segments;
+
+    DashSegments(String initializationUrl, String mediaTemplate, long startNumber, long timescale, long segmentDuration, boolean dynamic, List<Segment> segments) {
+        this.initializationUrl = initializationUrl;
+        this.mediaTemplate = mediaTemplate;
+        this.startNumber = startNumber;
+        this.timescale = timescale;
+        this.segmentDuration = segmentDuration;
+        this.dynamic = dynamic;
+        this.segments = segments;
+    }
+
+    // Resolved URL of the initialization segment, or null
+    public String getInitializationUrl() {
+        return initializationUrl;
+    }
+
+    // SegmentTemplate@media as written, e.g. $RepresentationID$/$Number%05d$.m4s, null for a SegmentList
+    public String getMediaTemplate() {
+        return mediaTemplate;
+    }
+
+    public long getStartNumber() {
+        return startNumber;
+    }
+
+    public long getTimescale() {
+        return timescale;
+    }
+
+    // Nominal segment duration in timescale units, -1 if only a SegmentTimeline gives them
+    public long getSegmentDuration() {
+        return segmentDuration;
+    }
+
+    // True for live (MPD@type="dynamic") manifests, whose segment list grows between fetches
+    public boolean isDynamic() {
+        return dynamic;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "initializationUrl='" + initializationUrl + '\'' +
+                ", mediaTemplate='" + mediaTemplate + '\'' +
+                ", startNumber=" + startNumber +
+                ", timescale=" + timescale +
+                ", segmentDuration=" + segmentDuration +
+                ", dynamic=" + dynamic +
+                ", segments=" + segments.size() +
+                '}';
+    }
+}
@@ -0,0 +1,351 @@
+package io.github.luoshenshi;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Disk tier behind Cache so lookups survive a process restart. Entries are appended to a
+// single log file and an in-memory index of key -> (offset, length, expiry) is rebuilt
+// from it on open. A get is one positional read, made outside the lock so disk hits do
+// not queue behind each other. The log is rewritten without expired, overwritten and
+// removed records once it passes maxBytes or is mostly dead space.
+//
+// Record layout: int keyLength, key (UTF-8), long expiresAt, int valueLength (-1 marks a
+// removal), value (UTF-8).
+public class DiskCache {
+    private static final String LOG_NAME = "ytdl-cache.log";
+    private static final int RECORD_OVERHEAD = 4 + 8 + 4;
+    // Logs smaller than this are never compacted just for their dead space
+    private static final long MIN_COMPACT_BYTES = 1024 * 1024;
+    private static final int LOAD_BUFFER_SIZE = 64 * 1024;
+
+    private final File directory;
+    private final File logFile;
+    private final long maxBytes;
+    private final Map<String, Slot> index = new HashMap<>();
+    private RandomAccessFile log;
+    private FileChannel channel;
+    // Bumped whenever offsets stop meaning what they did (compaction, clear), so a read
+    // made outside the lock can tell it raced with one
+    private long generation;
+    private long liveBytes;
+    private long hits;
+    private long misses;
+    private long compactions;
+
+    public DiskCache(File directory, long maxBytes) throws IOException {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create cache directory " + directory);
+        }
+        this.directory = directory;
+        this.logFile = new File(directory, LOG_NAME);
+        this.maxBytes = maxBytes;
+        open();
+        load();
+    }
+
+    // Value stored under key, or null if there is none or it has expired
+    public String get(String key) throws IOException {
+        Record record = read(key);
+        return record != null ? record.value : null;
+    }
+
+    // Value and expiry of the entry under key. The slot is looked up under the lock and the
+    // value read outside it; if a compaction or clear moved the log meanwhile, the value may
+    // come from the wrong place (or the closed channel), so the read is retried.
+    Record read(String key) throws IOException {
+        while (true) {
+            Slot slot;
+            FileChannel source;
+            long seen;
+            synchronized (this) {
+                slot = index.get(key);
+                if (slot != null && slot.expiresAt <= System.currentTimeMillis()) {
+                    index.remove(key);
+                    liveBytes -= slot.recordSize;
+                    slot = null;
+                }
+                if (slot == null) {
+                    misses++;
+                    return null;
+                }
+                source = channel;
+                seen = generation;
+            }
+
+            ByteBuffer value = ByteBuffer.allocate(slot.valueLength);
+            IOException failure = null;
+            try {
+                while (value.hasRemaining()) {
+                    if (source.read(value, slot.valueOffset + value.position()) == -1) {
+                        throw new EOFException("Cache log ends inside the value of " + key);
+                    }
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            synchronized (this) {
+                if (generation != seen) {
+                    continue;
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                hits++;
+            }
+            return new Record(new String(value.array(), StandardCharsets.UTF_8), slot.expiresAt);
+        }
+    }
+
+    // Expiry of the entry under key in epoch millis, or -1 if there is none
+    public synchronized long getExpiresAt(String key) {
+        Slot slot = index.get(key);
+        return slot != null ? slot.expiresAt : -1;
+    }
+
+    public synchronized void put(String key, String value, long expiresAt) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        long offset = append(keyBytes, expiresAt, valueBytes);
+        Slot slot = new Slot(offset + RECORD_OVERHEAD + keyBytes.length, keyBytes.length, valueBytes.length, expiresAt);
+        Slot previous = index.put(key, slot);
+        if (previous != null) {
+            liveBytes -= previous.recordSize;
+        }
+        liveBytes += slot.recordSize;
+        compactIfNeeded();
+    }
+
+    public synchronized void remove(String key) throws IOException {
+        Slot previous = index.remove(key);
+        if (previous != null) {
+            liveBytes -= previous.recordSize;
+            append(key.getBytes(StandardCharsets.UTF_8), 0, null);
+            compactIfNeeded();
+        }
+    }
+
+    public synchronized void clear() throws IOException {
+        index.clear();
+        liveBytes = 0;
+        generation++;
+        log.setLength(0);
+    }
+
+    // Rewrites the log with only the live entries, dropping the ones closest to expiry
+    // until it fits in three quarters of maxBytes. An entry too big for the space left is
+    // skipped, smaller ones after it still get in.
+    public synchronized void compact() throws IOException {
+        long now = System.currentTimeMillis();
+        List<Map.Entry<String, Slot>> live = new ArrayList<>(index.size());
+        for (Map.Entry<String, Slot> entry : index.entrySet()) {
+            if (entry.getValue().expiresAt > now) {
+                live.add(entry);
+            }
+        }
+        Collections.sort(live, (a, b) -> Long.compare(b.getValue().expiresAt, a.getValue().expiresAt));
+
+        File compacted = new File(directory, LOG_NAME + ".tmp");
+        Map<String, Slot> rewritten = new HashMap<>();
+        long written = 0;
+        try (RandomAccessFile out = new RandomAccessFile(compacted, "rw")) {
+            out.setLength(0);
+            for (Map.Entry<String, Slot> entry : live) {
+                Slot slot = entry.getValue();
+                if (written + slot.recordSize > maxBytes * 3 / 4) {
+                    continue;
+                }
+                byte[] keyBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(keyBytes.length);
+                out.write(keyBytes);
+                out.writeLong(slot.expiresAt);
+                out.writeInt(slot.valueLength);
+                long valueOffset = out.getFilePointer();
+                long copied = 0;
+                while (copied < slot.valueLength) {
+                    copied += channel.transferTo(slot.valueOffset + copied, slot.valueLength - copied, out.getChannel());
+                }
+                rewritten.put(entry.getKey(), new Slot(valueOffset, keyBytes.length, slot.valueLength, slot.expiresAt));
+                written += slot.recordSize;
+            }
+            out.getFD().sync();
+        }
+
+        log.close();
+        generation++;
+        if (!compacted.renameTo(logFile)) {
+            open();
+            throw new IOException("Could not replace " + logFile + " with " + compacted);
+        }
+        open();
+        index.clear();
+        index.putAll(rewritten);
+        liveBytes = written;
+        compactions++;
+    }
+
+    public synchronized void close() throws IOException {
+        log.close();
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized long getSizeBytes() throws IOException {
+        return log.length();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getCompactions() {
+        return compactions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "{" +
+                "directory=" + directory +
+                ", size=" + index.size() +
+                ", liveBytes=" + liveBytes +
+                ", maxBytes=" + maxBytes +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", compactions=" + compactions +
+                '}';
+    }
+
+    private void open() throws IOException {
+        log = new RandomAccessFile(logFile, "rw");
+        channel = log.getChannel();
+    }
+
+    // Rebuilds the index, cutting off a record left half-written by a crash. Headers are read
+    // through a buffer and values skipped, not a syscall per field.
+    private void load() throws IOException {
+        long length = channel.size();
+        long position = 0;
+        long now = System.currentTimeMillis();
+        // Not closed, that would close the channel
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0)), LOAD_BUFFER_SIZE));
+        while (position < length) {
+            try {
+                int keyLength = in.readInt();
+                if (keyLength < 0 || position + RECORD_OVERHEAD + keyLength > length) {
+                    break;
+                }
+                byte[] keyBytes = new byte[keyLength];
+                in.readFully(keyBytes);
+                long expiresAt = in.readLong();
+                int valueLength = in.readInt();
+                long valueOffset = position + RECORD_OVERHEAD + keyLength;
+                if (valueLength > 0 && valueOffset + valueLength > length) {
+                    break;
+                }
+                String key = new String(keyBytes, StandardCharsets.UTF_8);
+                boolean live = valueLength >= 0 && expiresAt > now;
+                Slot slot = live ? new Slot(valueOffset, keyLength, valueLength, expiresAt) : null;
+                Slot previous = live ? index.put(key, slot) : index.remove(key);
+                if (previous != null) {
+                    liveBytes -= previous.recordSize;
+                }
+                if (live) {
+                    liveBytes += slot.recordSize;
+                }
+                skipFully(in, Math.max(valueLength, 0));
+                position = valueOffset + Math.max(valueLength, 0);
+            } catch (EOFException e) {
+                break;
+            }
+        }
+        if (position < length) {
+            log.setLength(position);
+        }
+        compactIfNeeded();
+    }
+
+    private static void skipFully(DataInputStream in, int count) throws IOException {
+        while (count > 0) {
+            int skipped = in.skipBytes(count);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            count -= skipped;
+        }
+    }
+
+    private long append(byte[] keyBytes, long expiresAt, byte[] valueBytes) throws IOException {
+        int valueLength = valueBytes != null ? valueBytes.length : 0;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + keyBytes.length + valueLength);
+        record.putInt(keyBytes.length).put(keyBytes).putLong(expiresAt);
+        record.putInt(valueBytes != null ? valueBytes.length : -1);
+        if (valueBytes != null) {
+            record.put(valueBytes);
+        }
+        record.flip();
+
+        long offset = log.length();
+        long position = offset;
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+        return offset;
+    }
+
+    private void compactIfNeeded() throws IOException {
+        long length = log.length();
+        if (length > maxBytes || (length > MIN_COMPACT_BYTES && liveBytes < length / 2)) {
+            compact();
+        }
+    }
+
+    static class Record {
+        final String value;
+        final long expiresAt;
+
+        private Record(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Slot {
+        private final long valueOffset;
+        private final int valueLength;
+        private final long expiresAt;
+        private final long recordSize;
+
+        private Slot(long valueOffset, int keyLength, int valueLength, long expiresAt) {
+            this.valueOffset = valueOffset;
+            this.valueLength = valueLength;
+            this.expiresAt = expiresAt;
+            this.recordSize = (long) RECORD_OVERHEAD + keyLength + valueLength;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package io.github.luoshenshi;
+
+import org.json.JSONObject;
+
+// One playable stream, whichever source it came from. Numeric fields are -1 when the
+// source does not provide them.
+public final class Format {
+    public enum Source {
+        MUXED, ADAPTIVE, DASH, HLS
+    }
+
+    // Codec family prefixes as they appear in an HLS CODECS attribute
+    private static final String[] AUDIO_CODECS = {"mp4a", "opus", "ac-3", "ec-3", "vorbis", "flac"};
+    private static final String[] VIDEO_CODECS = {"avc1", "avc3", "hvc1", "hev1", "vp09", "vp9", "av01"};
+
+    private final Source source;
+    private final int itag;
+    private final String url;
+    private final String signatureCipher;
+    private final String mimeType;
+    private final String container;
+    private final String codecs;
+    private final long bitrate;
+    private final long averageBitrate;
+    private final int width;
+    private final int height;
+    private final int fps;
+    private final long contentLength;
+    private final long approxDurationMs;
+    private final int audioSampleRate;
+    private final int audioChannels;
+    private final String qualityLabel;
+    private final boolean hasVideo;
+    private final boolean hasAudio;
+    private final DashSegments segments;
+    private final String audioGroup;
+    private final Exception decipherError;
+
+    Format(Source source, int itag, String url, String signatureCipher, String mimeType, String codecs, long bitrate, long averageBitrate, int width, int height, int fps, long contentLength, long approxDurationMs, int audioSampleRate, int audioChannels, String qualityLabel) {
+        this(source, itag, url, signatureCipher, mimeType, codecs, bitrate, averageBitrate, width, height, fps, contentLength, approxDurationMs, audioSampleRate, audioChannels, qualityLabel, null, null);
+    }
+
+    Format(Source source, int itag, String url, String signatureCipher, String mimeType, String codecs, long bitrate, long averageBitrate, int width, int height, int fps, long contentLength, long approxDurationMs, int audioSampleRate, int audioChannels, String qualityLabel, DashSegments segments, String audioGroup) {
+        this.source = source;
+        this.itag = itag;
+        this.url = url;
+        this.signatureCipher = signatureCipher;
+        this.qualityLabel = qualityLabel;
+        this.bitrate = bitrate;
+        this.averageBitrate = averageBitrate;
+        this.width = width;
+        this.height = height;
+        this.fps = fps;
+        this.contentLength = contentLength;
+        this.approxDurationMs = approxDurationMs;
+        this.audioSampleRate = audioSampleRate;
+        this.audioChannels = audioChannels;
+        this.segments = segments;
+        this.audioGroup = audioGroup;
+        this.decipherError = null;
+
+        // mimeType looks like: video/mp4; codecs="avc1.4d401f, mp4a.40.2"
+        String type = mimeType;
+        String parsedCodecs = codecs;
+        if (mimeType != null) {
+            int separator = mimeType.indexOf(';');
+            type = (separator == -1 ? mimeType : mimeType.substring(0, separator)).trim();
+            int codecsStart = mimeType.indexOf("codecs=\"");
+            if (parsedCodecs == null && codecsStart != -1) {
+                int codecsEnd = mimeType.indexOf('"', codecsStart + 8);
+                parsedCodecs = mimeType.substring(codecsStart + 8, codecsEnd == -1 ? mimeType.length() : codecsEnd);
+            }
+        }
+        this.mimeType = type;
+        this.codecs = parsedCodecs;
+        int slash = type != null ? type.indexOf('/') : -1;
+        this.container = slash != -1 ? type.substring(slash + 1) : null;
+
+        boolean video = width > 0 || height > 0 || (type != null && type.startsWith("video/"));
+        boolean audio = audioSampleRate > 0 || audioChannels > 0 || (type != null && type.startsWith("audio/"));
+        if (source == Source.MUXED) {
+            audio = true;
+        } else if (source == Source.HLS) {
+            // A variant with an audio group plays a separate rendition, so it only carries
+            // audio itself when CODECS lists an audio codec. Renditions have no video.
+            video = video || hasCodec(parsedCodecs, VIDEO_CODECS);
+            audio = audio || !video || audioGroup == null || hasCodec(parsedCodecs, AUDIO_CODECS);
+        } else if (video && parsedCodecs != null && parsedCodecs.indexOf(',') != -1) {
+            audio = true;
+        }
+        this.hasVideo = video;
+        this.hasAudio = audio;
+    }
+
+    // Whether any entry of a comma separated codecs list starts with one of the families
+    private static boolean hasCodec(String codecs, String[] families) {
+        if (codecs == null) {
+            return false;
+        }
+        int start = 0;
+        while (start < codecs.length()) {
+            int end = codecs.indexOf(',', start);
+            if (end == -1) {
+                end = codecs.length();
+            }
+            while (start < end && codecs.charAt(start) == ' ') {
+                start++;
+            }
+            for (String family : families) {
+                if (codecs.startsWith(family, start)) {
+                    return true;
+                }
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    static Format fromPlayer(JSONObject format, Source source) {
+        return new Format(
+                source,
+                format.optInt("itag", -1),
+                format.optString("url", null),
+                format.optString("signatureCipher", null),
+                format.optString("mimeType", null),
+                null,
+                format.optLong("bitrate", -1),
+                format.optLong("averageBitrate", -1),
+                format.optInt("width", -1),
+                format.optInt("height", -1),
+                format.optInt("fps", -1),
+                format.optLong("contentLength", -1),
+                format.optLong("approxDurationMs", -1),
+                format.optInt("audioSampleRate", -1),
+                format.optInt("audioChannels", -1),
+                format.optString("qualityLabel", null)
+        );
+    }
+
+    private Format(Format format, String url, Exception decipherError) {
+        this.source = format.source;
+        this.itag = format.itag;
+        this.url = url;
+        this.signatureCipher = format.signatureCipher;
+        this.mimeType = format.mimeType;
+        this.container = format.container;
+        this.codecs = format.codecs;
+        this.bitrate = format.bitrate;
+        this.averageBitrate = format.averageBitrate;
+        this.width = format.width;
+        this.height = format.height;
+        this.fps = format.fps;
+        this.contentLength = format.contentLength;
+        this.approxDurationMs = format.approxDurationMs;
+        this.audioSampleRate = format.audioSampleRate;
+        this.audioChannels = format.audioChannels;
+        this.qualityLabel = format.qualityLabel;
+        this.hasVideo = format.hasVideo;
+        this.hasAudio = format.hasAudio;
+        this.segments = format.segments;
+        this.audioGroup = format.audioGroup;
+        this.decipherError = decipherError;
+    }
+
+    // The same stream with its signatureCipher resolved into url
+    Format withUrl(String url) {
+        return new Format(this, url, null);
+    }
+
+    // The same stream, still ciphered, with the reason it could not be deciphered
+    Format withDecipherError(Exception error) {
+        return new Format(this, url, error);
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public int getItag() {
+        return itag;
+    }
+
+    // Direct URL, null while the format still needs its signatureCipher resolved
+    public String getUrl() {
+        return url;
+    }
+
+    public String getSignatureCipher() {
+        return signatureCipher;
+    }
+
+    // Why a ciphered format still has no url: the player script or its transform could not
+    // be had. Null for every format that was deciphered or never needed to be.
+    public Exception getDecipherError() {
+        return decipherError;
+    }
+
+    public boolean isDeciphered() {
+        return url != null || signatureCipher == null;
+    }
+
+    // e.g. video/mp4, without the codecs parameter
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    // e.g. mp4, webm
+    public String getContainer() {
+        return container;
+    }
+
+    // e.g. avc1.4d401f, mp4a.40.2
+    public String getCodecs() {
+        return codecs;
+    }
+
+    public long getBitrate() {
+        return bitrate;
+    }
+
+    public long getAverageBitrate() {
+        return averageBitrate;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getFps() {
+        return fps;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public long getApproxDurationMs() {
+        return approxDurationMs;
+    }
+
+    public int getAudioSampleRate() {
+        return audioSampleRate;
+    }
+
+    public int getAudioChannels() {
+        return audioChannels;
+    }
+
+    public String getQualityLabel() {
+        return qualityLabel;
+    }
+
+    // Segment addressing for DASH formats, null for every other source
+    public DashSegments getSegments() {
+        return segments;
+    }
+
+    // HLS only: the #EXT-X-MEDIA audio group a variant plays with, or the group an audio
+    // rendition belongs to. Null when the variant's audio is muxed in.
+    public String getAudioGroup() {
+        return audioGroup;
+    }
+
+    public boolean hasVideo() {
+        return hasVideo;
+    }
+
+    public boolean hasAudio() {
+        return hasAudio;
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "source=" + source +
+                ", itag=" + itag +
+                ", mimeType='" + mimeType + '\'' +
+                ", codecs='" + codecs + '\'' +
+                ", bitrate=" + bitrate +
+                ", width=" + width +
+                ", height=" + height +
+                ", fps=" + fps +
+                ", contentLength=" + contentLength +
+                ", qualityLabel='" + qualityLabel + '\'' +
+                ", url='" + url + '\'' +
+                (decipherError != null ? ", decipherError=" + decipherError : "") +
+                '}';
+    }
+}
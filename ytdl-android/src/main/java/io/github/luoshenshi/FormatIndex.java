@@ -0,0 +1,243 @@
+package io.github.luoshenshi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Formats split into muxed, video-only and audio-only groups, each sorted once by rank
+// (height, fps, bitrate for video; bitrate for audio) and again per codec family, container
+// and container + codec family. A height cap on video and a bitrate cap on audio are a
+// binary search; a bitrate cap on video, which is ranked by height first, is checked while
+// walking the candidates under the height cap in rank order.
+class FormatIndex {
+    private static final Comparator<Format> VIDEO_RANK = (a, b) -> {
+        if (a.getHeight() != b.getHeight()) return Integer.compare(a.getHeight(), b.getHeight());
+        if (a.getFps() != b.getFps()) return Integer.compare(a.getFps(), b.getFps());
+        return Long.compare(a.getBitrate(), b.getBitrate());
+    };
+    private static final Comparator<Format> AUDIO_RANK = (a, b) -> Long.compare(a.getBitrate(), b.getBitrate());
+
+    private final Group muxed;
+    private final Group videoOnly;
+    private final Group audioOnly;
+
+    FormatIndex(List<Format> formats) {
+        List<Format> muxedFormats = new ArrayList<>();
+        List<Format> videoFormats = new ArrayList<>();
+        List<Format> audioFormats = new ArrayList<>();
+        for (Format format : formats) {
+            if (format.hasVideo() && format.hasAudio()) {
+                muxedFormats.add(format);
+            } else if (format.hasVideo()) {
+                videoFormats.add(format);
+            } else if (format.hasAudio()) {
+                audioFormats.add(format);
+            }
+        }
+        muxed = new Group(muxedFormats, VIDEO_RANK, true);
+        videoOnly = new Group(videoFormats, VIDEO_RANK, true);
+        audioOnly = new Group(audioFormats, AUDIO_RANK, false);
+    }
+
+    Format choose(FormatPolicy policy) {
+        switch (policy.getFilter()) {
+            case AUDIO_ONLY:
+                return audioOnly.choose(policy, policy.getMaxBitrate(), null);
+            case VIDEO_ONLY:
+                return videoOnly.choose(policy, policy.getMaxBitrate(), null);
+            default:
+                return muxed.choose(policy, policy.getMaxBitrate(), null);
+        }
+    }
+
+    // Best video-only and audio-only pair for the policy. Every audio stream is tried, from
+    // the highest bitrate down, with the best video in its container, and the pair with the
+    // best video wins (ties go to the higher audio); mixed containers only when no pair in
+    // one fits. Under a bitrate cap the two share it, so a lower audio is taken when it
+    // leaves room for a better video. If no video and audio fit together, the pair holds the
+    // best stream that fits alone, the video if there is one, with null for the other; null
+    // if nothing fits at all.
+    FormatPair choosePair(FormatPolicy policy) {
+        long cap = policy.getMaxBitrate();
+        FormatPair pair = choosePair(policy, cap, true);
+        if (pair == null) {
+            pair = choosePair(policy, cap, false);
+        }
+        if (pair != null) {
+            return pair;
+        }
+        Format video = videoOnly.choose(policy, cap, null);
+        Format audio = video == null ? audioOnly.choose(policy, cap, null) : null;
+        if (video == null && audio == null) {
+            return null;
+        }
+        return new FormatPair(video, audio);
+    }
+
+    private FormatPair choosePair(FormatPolicy policy, long cap, boolean sameContainer) {
+        Ranked audios = audioOnly.all;
+        // Audio that leaves at least one bit per second of the cap for the video
+        int end = cap > 0 ? Group.upperBound(audios.bitrates, cap - 1) : audios.formats.length;
+        boolean highest = policy.getQuality() == FormatPolicy.Quality.HIGHEST;
+        Format bestVideo = null;
+        Format bestAudio = null;
+        for (int n = 0; n < end; n++) {
+            Format audio = audios.formats[highest ? end - 1 - n : n];
+            String container = audio.getContainer();
+            if (sameContainer && container == null) {
+                continue;
+            }
+            long videoCap = cap > 0 ? cap - Math.max(0, audio.getBitrate()) : 0;
+            Format video = videoOnly.choose(policy, videoCap, sameContainer ? container : null);
+            if (video != null && (bestVideo == null || better(policy, video, bestVideo))) {
+                bestVideo = video;
+                bestAudio = audio;
+                if (!highest && !sameContainer) {
+                    // The lowest audio already leaves the most room for any container
+                    break;
+                }
+            }
+        }
+        return bestVideo != null ? new FormatPair(bestVideo, bestAudio) : null;
+    }
+
+    private static boolean better(FormatPolicy policy, Format video, Format best) {
+        String codec = policy.getPreferredCodec();
+        if (codec != null) {
+            boolean preferred = codec.equals(codecFamily(video.getCodecs()));
+            if (preferred != codec.equals(codecFamily(best.getCodecs()))) {
+                return preferred;
+            }
+        }
+        int order = VIDEO_RANK.compare(video, best);
+        return policy.getQuality() == FormatPolicy.Quality.HIGHEST ? order > 0 : order < 0;
+    }
+
+    private static String codecFamily(String codecs) {
+        if (codecs == null) return null;
+        int end = 0;
+        while (end < codecs.length() && codecs.charAt(end) != '.' && codecs.charAt(end) != ',') {
+            end++;
+        }
+        return codecs.substring(0, end).trim();
+    }
+
+    private static class Ranked {
+        private final Format[] formats;
+        private final int[] heights;
+        private final long[] bitrates;
+
+        private Ranked(List<Format> sorted) {
+            formats = sorted.toArray(new Format[0]);
+            heights = new int[formats.length];
+            bitrates = new long[formats.length];
+            for (int i = 0; i < formats.length; i++) {
+                heights[i] = formats[i].getHeight();
+                bitrates[i] = formats[i].getBitrate();
+            }
+        }
+    }
+
+    private static class Group {
+        private final boolean video;
+        private final Ranked all;
+        private final Map<String, Ranked> byCodec = new HashMap<>();
+        private final Map<String, Ranked> byContainer = new HashMap<>();
+        // Keyed container + '/' + codec family
+        private final Map<String, Ranked> byContainerCodec = new HashMap<>();
+
+        private Group(List<Format> formats, Comparator<Format> rank, boolean video) {
+            this.video = video;
+            List<Format> sorted = new ArrayList<>(formats);
+            sorted.sort(rank);
+            all = new Ranked(sorted);
+
+            Map<String, List<Format>> codecs = new HashMap<>();
+            Map<String, List<Format>> containers = new HashMap<>();
+            Map<String, List<Format>> containerCodecs = new HashMap<>();
+            for (Format format : sorted) {
+                String family = codecFamily(format.getCodecs());
+                if (family != null) {
+                    List<Format> list = codecs.get(family);
+                    if (list == null) codecs.put(family, list = new ArrayList<>());
+                    list.add(format);
+                }
+                if (format.getContainer() != null) {
+                    List<Format> list = containers.get(format.getContainer());
+                    if (list == null) containers.put(format.getContainer(), list = new ArrayList<>());
+                    list.add(format);
+                    if (family != null) {
+                        String key = format.getContainer() + '/' + family;
+                        list = containerCodecs.get(key);
+                        if (list == null) containerCodecs.put(key, list = new ArrayList<>());
+                        list.add(format);
+                    }
+                }
+            }
+            for (Map.Entry<String, List<Format>> entry : codecs.entrySet()) {
+                byCodec.put(entry.getKey(), new Ranked(entry.getValue()));
+            }
+            for (Map.Entry<String, List<Format>> entry : containers.entrySet()) {
+                byContainer.put(entry.getKey(), new Ranked(entry.getValue()));
+            }
+            for (Map.Entry<String, List<Format>> entry : containerCodecs.entrySet()) {
+                byContainerCodec.put(entry.getKey(), new Ranked(entry.getValue()));
+            }
+        }
+
+        private Format choose(FormatPolicy policy, long maxBitrate, String container) {
+            Ranked candidates = container != null ? byContainer.get(container) : all;
+            if (candidates == null) {
+                return null;
+            }
+            // Within a container bucket the preferred codec still comes first
+            String codec = policy.getPreferredCodec();
+            if (codec != null) {
+                Ranked preferred = container != null ? byContainerCodec.get(container + '/' + codec) : byCodec.get(codec);
+                Format format = preferred != null ? pick(preferred, policy, maxBitrate) : null;
+                if (format != null) {
+                    return format;
+                }
+            }
+            return pick(candidates, policy, maxBitrate);
+        }
+
+        private Format pick(Ranked ranked, FormatPolicy policy, long maxBitrate) {
+            // Exclusive upper bound of the candidates within the height (video) or bitrate (audio) cap
+            int end = ranked.formats.length;
+            if (video && policy.getMaxHeight() > 0) {
+                end = upperBound(ranked.heights, policy.getMaxHeight());
+            } else if (!video && maxBitrate > 0) {
+                end = upperBound(ranked.bitrates, maxBitrate);
+            }
+            boolean checkBitrate = video && maxBitrate > 0;
+            if (policy.getQuality() == FormatPolicy.Quality.HIGHEST) {
+                for (int i = end - 1; i >= 0; i--) {
+                    if (!checkBitrate || ranked.bitrates[i] <= maxBitrate) return ranked.formats[i];
+                }
+            } else {
+                for (int i = 0; i < end; i++) {
+                    if (!checkBitrate || ranked.bitrates[i] <= maxBitrate) return ranked.formats[i];
+                }
+            }
+            return null;
+        }
+
+        private static int upperBound(int[] values, int key) {
+            int index = Arrays.binarySearch(values, key);
+            if (index < 0) return -index - 1;
+            while (index < values.length && values[index] == key) index++;
+            return index;
+        }
+
+        private static int upperBound(long[] values, long key) {
+            int index = Arrays.binarySearch(values, key);
+            if (index < 0) return -index - 1;
+            while (index < values.length && values[index] == key) index++;
+            return index;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.luoshenshi;
+
+// Best video-only and audio-only adaptive streams, to be muxed by the caller
+public class FormatPair {
+    private final Format video;
+    private final Format audio;
+
+    FormatPair(Format video, Format audio) {
+        this.video = video;
+        this.audio = audio;
+    }
+
+    public Format getVideo() {
+        return video;
+    }
+
+    public Format getAudio() {
+        return audio;
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "video=" + video +
+                ", audio=" + audio +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.luoshenshi;
+
+// What chooseFormat should pick, e.g. new FormatPolicy().videoOnly().maxHeight(720).preferCodec("avc1")
+public class FormatPolicy {
+    public enum Quality {
+        HIGHEST, LOWEST
+    }
+
+    public enum Filter {
+        // Streams carrying both audio and video (muxed and HLS)
+        AUDIO_AND_VIDEO, AUDIO_ONLY, VIDEO_ONLY
+    }
+
+    private Quality quality = Quality.HIGHEST;
+    private Filter filter = Filter.AUDIO_AND_VIDEO;
+    private int maxHeight = -1;
+    private long maxBitrate = -1;
+    private String preferredCodec;
+
+    public FormatPolicy highest() {
+        quality = Quality.HIGHEST;
+        return this;
+    }
+
+    public FormatPolicy lowest() {
+        quality = Quality.LOWEST;
+        return this;
+    }
+
+    public FormatPolicy audioOnly() {
+        filter = Filter.AUDIO_ONLY;
+        return this;
+    }
+
+    public FormatPolicy videoOnly() {
+        filter = Filter.VIDEO_ONLY;
+        return this;
+    }
+
+    public FormatPolicy audioAndVideo() {
+        filter = Filter.AUDIO_AND_VIDEO;
+        return this;
+    }
+
+    public FormatPolicy maxHeight(int maxHeight) {
+        this.maxHeight = maxHeight;
+        return this;
+    }
+
+    // Bandwidth cap in bits per second; for adaptive pairs it covers video plus audio
+    public FormatPolicy maxBitrate(long maxBitrate) {
+        this.maxBitrate = maxBitrate;
+        return this;
+    }
+
+    // Codec family such as avc1, vp9, av01, mp4a or opus; other codecs are used only when none match
+    public FormatPolicy preferCodec(String codec) {
+        this.preferredCodec = codec;
+        return this;
+    }
+
+    public Quality getQuality() {
+        return quality;
+    }
+
+    public Filter getFilter() {
+        return filter;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    public long getMaxBitrate() {
+        return maxBitrate;
+    }
+
+    public String getPreferredCodec() {
+        return preferredCodec;
+    }
+}
@@ -0,0 +1,448 @@
+package io.github.luoshenshi;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+
+// Follows a live HLS media playlist, e.g. the url of an HLS Format from getInfo, and hands
+// every new segment to a SegmentSink in media sequence order. The playlist is reloaded
+// once per target duration (half that when it had nothing new), only segments with a
+// sequence past the last one seen are queued, and up to prefetchWindow of them are fetched
+// or held at once. The segment at the head of the queue is streamed from the response into
+// the sink; ones fetched ahead of it wait in an okio Buffer. All followers share one
+// scheduler thread and fetch with OkHttp's async calls, so an idle stream costs a timer
+// and an open stream no thread of its own. A failed reload is retried after half a target
+// duration, doubling with each further failure. When the server restarts its media
+// sequence numbers, the follower joins the new numbering at its live edge.
+public class HlsLiveFollower {
+    public static final int DEFAULT_PREFETCH_WINDOW = 3;
+    // Where a stream already in progress is joined, counted back from the newest segment
+    private static final int LIVE_EDGE_SEGMENTS = 3;
+    private static final int MAX_SEGMENT_ATTEMPTS = 3;
+    private static final int MAX_RELOAD_FAILURES = 5;
+    private static final long DEFAULT_TARGET_DURATION_MS = 5000;
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ytdl-hls-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Called from one thread at a time, in media sequence order (which starts over after
+    // the server resets its numbering)
+    public interface SegmentSink {
+        // The segment's bytes, read straight off the response for the segment at the head of
+        // the queue. Only valid during the call. An IOException, from reading or writing,
+        // is reported to onSegmentFailure. By default the segment is read whole and handed
+        // to onSegment(long, byte[]).
+        default void onSegment(long mediaSequence, BufferedSource data) throws IOException {
+            onSegment(mediaSequence, data.readByteArray());
+        }
+
+        // Override this or the streaming onSegment
+        default void onSegment(long mediaSequence, byte[] data) {
+            throw new UnsupportedOperationException("SegmentSink must override one of the onSegment methods");
+        }
+
+        // The segment was skipped after MAX_SEGMENT_ATTEMPTS failed fetches, or failed while
+        // it was being streamed into onSegment
+        void onSegmentFailure(long mediaSequence, Exception e);
+
+        // Called once: at #EXT-X-ENDLIST with null, after stop() with null, or with the error
+        // that ended the stream
+        void onComplete(Exception error);
+    }
+
+    private final OkHttpClient http;
+    private final String playlistUrl;
+    private final int prefetchWindow;
+    private final SegmentSink sink;
+
+    // Segments queued but not yet emitted, by media sequence plus sequenceOffset, which
+    // keeps the order across a reset of the server's numbering
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private long nextSequence = -1;
+    private long sequenceOffset;
+    private long targetDurationMs = DEFAULT_TARGET_DURATION_MS;
+    private int active;
+    private int reloadFailures;
+    private boolean started;
+    private boolean ended;
+    private boolean closing;
+    private Exception closeError;
+    private boolean completed;
+    private boolean pumping;
+    private boolean repump;
+    private Call playlistCall;
+    private ScheduledFuture<?> nextReload;
+
+    public HlsLiveFollower(Format variant, SegmentSink sink) {
+        this(YTDL.getHttp().getClient(), hlsUrl(variant), DEFAULT_PREFETCH_WINDOW, sink);
+    }
+
+    public HlsLiveFollower(OkHttpClient http, String mediaPlaylistUrl, int prefetchWindow, SegmentSink sink) {
+        if (prefetchWindow < 1) {
+            throw new IllegalArgumentException("prefetchWindow must be positive");
+        }
+        this.http = http;
+        this.playlistUrl = mediaPlaylistUrl;
+        this.prefetchWindow = prefetchWindow;
+        this.sink = sink;
+    }
+
+    public synchronized HlsLiveFollower start() {
+        if (started) {
+            throw new IllegalStateException("Already started");
+        }
+        started = true;
+        scheduleReload(0);
+        return this;
+    }
+
+    // Cancels the reload timer and every fetch in flight. Segments not yet emitted are
+    // dropped and onComplete(null) follows.
+    public void stop() {
+        finish(null);
+    }
+
+    public synchronized boolean isFinished() {
+        return closing || completed;
+    }
+
+    private static String hlsUrl(Format variant) {
+        if (variant.getSource() != Format.Source.HLS) {
+            throw new IllegalArgumentException("Not an HLS format: " + variant.getSource());
+        }
+        return variant.getUrl();
+    }
+
+    private void reload() {
+        Call call = http.newCall(new Request.Builder().url(playlistUrl).header("User-Agent", "Mozilla/5.0").build());
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            playlistCall = call;
+        }
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                reloadFailed(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                HlsPlaylistParser.MediaPlaylist playlist;
+                try (response) {
+                    ResponseBody body = response.body();
+                    if (!response.isSuccessful() || body == null) {
+                        reloadFailed(new IOException("Playlist request failed with status code: " + response.code()));
+                        return;
+                    }
+                    playlist = HlsPlaylistParser.parseMedia(body.source(), playlistUrl);
+                } catch (IOException e) {
+                    reloadFailed(e);
+                    return;
+                }
+                reloaded(playlist);
+            }
+        });
+    }
+
+    private void reloaded(HlsPlaylistParser.MediaPlaylist playlist) {
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            reloadFailures = 0;
+            List<HlsPlaylistParser.MediaSegment> listed = playlist.getSegments();
+            if (!listed.isEmpty()) {
+                long newest = listed.get(listed.size() - 1).getSequence();
+                if (nextSequence == -1) {
+                    nextSequence = joinSequence(playlist);
+                } else if (newest + listed.size() < nextSequence) {
+                    // The whole window lies further back than a stale copy of the last one
+                    // could, so the encoder restarted or the numbering wrapped
+                    long joined = joinSequence(playlist);
+                    sequenceOffset += nextSequence - joined;
+                    nextSequence = joined;
+                }
+            }
+            int added = 0;
+            for (HlsPlaylistParser.MediaSegment segment : listed) {
+                if (segment.getSequence() >= nextSequence) {
+                    segments.put(segment.getSequence() + sequenceOffset, new Segment(segment.getSequence(), segment.getUrl()));
+                    nextSequence = segment.getSequence() + 1;
+                    added++;
+                }
+            }
+            ended = playlist.isEndList();
+            if (playlist.getTargetDurationSeconds() > 0) {
+                targetDurationMs = playlist.getTargetDurationSeconds() * 1000;
+            }
+            if (!ended) {
+                scheduleReload(added > 0 ? targetDurationMs : targetDurationMs / 2);
+            }
+        }
+        pump();
+    }
+
+    // Join a live stream near its edge, a finished one from the start
+    private static long joinSequence(HlsPlaylistParser.MediaPlaylist playlist) {
+        List<HlsPlaylistParser.MediaSegment> listed = playlist.getSegments();
+        int first = playlist.isEndList() ? 0 : Math.max(0, listed.size() - LIVE_EDGE_SEGMENTS);
+        return listed.get(first).getSequence();
+    }
+
+    private void reloadFailed(Exception e) {
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            if (++reloadFailures < MAX_RELOAD_FAILURES) {
+                scheduleReload((targetDurationMs / 2) << (reloadFailures - 1));
+                return;
+            }
+        }
+        finish(e);
+    }
+
+    private synchronized void scheduleReload(long delayMs) {
+        nextReload = scheduler.schedule(this::reload, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void finish(Exception error) {
+        List<Call> calls = new ArrayList<>();
+        synchronized (this) {
+            if (closing || completed) {
+                return;
+            }
+            closing = true;
+            closeError = error;
+            if (nextReload != null) {
+                nextReload.cancel(false);
+            }
+            if (playlistCall != null) {
+                calls.add(playlistCall);
+            }
+            for (Segment segment : segments.values()) {
+                if (segment.call != null) {
+                    calls.add(segment.call);
+                }
+            }
+            segments.clear();
+        }
+        for (Call call : calls) {
+            call.cancel();
+        }
+        pump();
+    }
+
+    // Emits finished segments from the head of the queue and starts fetches while the
+    // window has room. Fetches can complete on any thread, so one caller at a time drives
+    // the loop and the others ask it to go round again, which keeps the sink in order.
+    private void pump() {
+        synchronized (this) {
+            if (pumping) {
+                repump = true;
+                return;
+            }
+            pumping = true;
+        }
+        while (true) {
+            Segment emit = null;
+            Segment fetch = null;
+            boolean complete = false;
+            Exception error = null;
+            synchronized (this) {
+                if (!closing) {
+                    Segment head = segments.isEmpty() ? null : segments.firstEntry().getValue();
+                    if (head != null && head.finished) {
+                        emit = segments.pollFirstEntry().getValue();
+                        active--;
+                    } else if (active < prefetchWindow) {
+                        fetch = nextWaiting();
+                        if (fetch != null) {
+                            fetch.fetching = true;
+                            active++;
+                        }
+                    }
+                }
+                if (emit == null && fetch == null) {
+                    if (repump) {
+                        repump = false;
+                        continue;
+                    }
+                    pumping = false;
+                    complete = !completed && (closing || (ended && segments.isEmpty()));
+                    completed |= complete;
+                    error = closeError;
+                }
+            }
+            if (emit != null) {
+                deliver(emit.sequence, emit.data, emit.error);
+            } else if (fetch != null) {
+                launch(fetch);
+            } else {
+                if (complete) {
+                    sink.onComplete(error);
+                }
+                return;
+            }
+        }
+    }
+
+    // Lowest queued segment that is neither being fetched nor done. Everything ahead of it
+    // counts against the window, so this walks at most prefetchWindow entries.
+    private Segment nextWaiting() {
+        for (Segment segment : segments.values()) {
+            if (!segment.fetching && !segment.finished) {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    private void launch(Segment segment) {
+        Call call = http.newCall(new Request.Builder().url(segment.url).header("User-Agent", "Mozilla/5.0").build());
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            segment.call = call;
+        }
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                fetched(segment, null, e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    ResponseBody body = response.body();
+                    if (!response.isSuccessful() || body == null) {
+                        fetched(segment, null, new IOException("Segment request failed with status code: " + response.code()));
+                    } else if (!stream(segment, body.source())) {
+                        Buffer data = new Buffer();
+                        data.writeAll(body.source());
+                        fetched(segment, data, null);
+                    }
+                } catch (IOException e) {
+                    fetched(segment, null, e);
+                }
+            }
+        });
+    }
+
+    // Hands the response straight to the sink when the segment is at the head of the queue
+    // and no other delivery is running, taking the pump's place for the duration. A failure
+    // midway is not retried, the sink has already seen part of the segment.
+    private boolean stream(Segment segment, BufferedSource source) {
+        synchronized (this) {
+            if (closing || pumping || segments.isEmpty() || segments.firstEntry().getValue() != segment) {
+                return false;
+            }
+            pumping = true;
+        }
+        Exception error = null;
+        try {
+            sink.onSegment(segment.sequence, source);
+        } catch (IOException e) {
+            error = e;
+        }
+        boolean report;
+        synchronized (this) {
+            report = !closing;
+            if (!closing) {
+                segment.call = null;
+                segments.pollFirstEntry();
+                active--;
+            }
+        }
+        if (error != null && report) {
+            sink.onSegmentFailure(segment.sequence, error);
+        }
+        synchronized (this) {
+            pumping = false;
+            repump = false;
+        }
+        pump();
+        return true;
+    }
+
+    private void deliver(long sequence, Buffer data, Exception error) {
+        if (error == null) {
+            try {
+                sink.onSegment(sequence, data);
+                return;
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+        sink.onSegmentFailure(sequence, error);
+    }
+
+    private void fetched(Segment segment, Buffer data, Exception error) {
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            segment.call = null;
+            segment.fetching = false;
+            if (error != null && ++segment.attempts < MAX_SEGMENT_ATTEMPTS) {
+                // Back in the queue, the next pump picks it up first
+                active--;
+            } else {
+                segment.data = data;
+                segment.error = error;
+                segment.finished = true;
+            }
+        }
+        pump();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "{" +
+                "playlistUrl='" + playlistUrl + '\'' +
+                ", nextSequence=" + nextSequence +
+                ", queued=" + segments.size() +
+                ", active=" + active +
+                ", ended=" + ended +
+                ", finished=" + (closing || completed) +
+                '}';
+    }
+
+    private static class Segment {
+        private final long sequence;
+        private final String url;
+        private Call call;
+        private boolean fetching;
+        private boolean finished;
+        private int attempts;
+        private Buffer data;
+        private Exception error;
+
+        private Segment(long sequence, String url) {
+            this.sequence = sequence;
+            this.url = url;
+        }
+    }
+}
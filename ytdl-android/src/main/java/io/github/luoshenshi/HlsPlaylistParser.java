@@ -0,0 +1,334 @@
+package io.github.luoshenshi;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import okio.BufferedSource;
+
+// Reads HLS playlists line by line straight off the response. In a master playlist each
+// variant (#EXT-X-STREAM-INF plus the URI line after it) becomes an HLS Format, and each
+// audio rendition with its own URI (#EXT-X-MEDIA:TYPE=AUDIO) an audio-only one. Attribute
+// lists are walked in place, quoted values may contain commas, and only the values that
+// are kept are turned into Strings. Media playlists become a MediaPlaylist of segments.
+class HlsPlaylistParser {
+    private static final String STREAM_INF = "#EXT-X-STREAM-INF:";
+    private static final String MEDIA = "#EXT-X-MEDIA:";
+    private static final String ITAG = "/itag/";
+    private static final String TARGET_DURATION = "#EXT-X-TARGETDURATION:";
+    private static final String MEDIA_SEQUENCE = "#EXT-X-MEDIA-SEQUENCE:";
+    private static final String EXTINF = "#EXTINF:";
+    private static final String ENDLIST = "#EXT-X-ENDLIST";
+
+    private final String playlistUrl;
+    private final Attributes attributes = new Attributes();
+    private final List<Format> formats = new ArrayList<>();
+
+    private HlsPlaylistParser(String playlistUrl) {
+        this.playlistUrl = playlistUrl;
+    }
+
+    static List<Format> parseMaster(BufferedSource source, String playlistUrl) throws IOException {
+        HlsPlaylistParser parser = new HlsPlaylistParser(playlistUrl);
+        parser.run(source);
+        return parser.formats;
+    }
+
+    static MediaPlaylist parseMedia(BufferedSource source, String playlistUrl) throws IOException {
+        HlsPlaylistParser parser = new HlsPlaylistParser(playlistUrl);
+        MediaPlaylist playlist = new MediaPlaylist();
+        long durationMs = -1;
+        String line;
+        while ((line = source.readUtf8Line()) != null) {
+            int start = contentStart(line);
+            int end = contentEnd(line, start);
+            if (start == end) {
+                continue;
+            }
+            if (line.startsWith(TARGET_DURATION, start)) {
+                playlist.targetDurationSeconds = Attributes.parseLong(line, start + TARGET_DURATION.length(), end);
+            } else if (line.startsWith(MEDIA_SEQUENCE, start)) {
+                playlist.mediaSequence = Math.max(0, Attributes.parseLong(line, start + MEDIA_SEQUENCE.length(), end));
+            } else if (line.startsWith(EXTINF, start)) {
+                // #EXTINF:5.005,title
+                durationMs = Attributes.parseMillis(line, start + EXTINF.length(), end);
+            } else if (line.startsWith(ENDLIST, start)) {
+                playlist.endList = true;
+            } else if (line.charAt(start) != '#') {
+                long sequence = playlist.mediaSequence + playlist.segments.size();
+                playlist.segments.add(new MediaSegment(sequence, durationMs, parser.resolve(line.substring(start, end))));
+                durationMs = -1;
+            }
+        }
+        return playlist;
+    }
+
+    private void run(BufferedSource source) throws IOException {
+        boolean variantPending = false;
+        String line;
+        while ((line = source.readUtf8Line()) != null) {
+            int start = contentStart(line);
+            int end = contentEnd(line, start);
+            if (start == end) {
+                continue;
+            }
+
+            if (line.startsWith(STREAM_INF, start)) {
+                attributes.reset();
+                parseAttributes(line, start + STREAM_INF.length(), end);
+                variantPending = true;
+            } else if (line.startsWith(MEDIA, start)) {
+                attributes.reset();
+                parseAttributes(line, start + MEDIA.length(), end);
+                if (attributes.audio && attributes.uri != null) {
+                    formats.add(new Format(Format.Source.HLS, -1, resolve(attributes.uri), null, null, null,
+                            -1, -1, -1, -1, -1, -1, -1, -1, attributes.channels, attributes.name, null, attributes.groupId));
+                }
+            } else if (line.charAt(start) != '#' && variantPending) {
+                // The URI line that belongs to the last #EXT-X-STREAM-INF
+                String uri = line.substring(start, end);
+                formats.add(new Format(Format.Source.HLS, itag(uri), resolve(uri), null, null, attributes.codecs,
+                        attributes.bandwidth, attributes.averageBandwidth, attributes.width, attributes.height, attributes.fps,
+                        -1, -1, -1, -1, null, null, attributes.audioGroup));
+                variantPending = false;
+            }
+        }
+    }
+
+    private static int contentStart(String line) {
+        int start = 0;
+        while (start < line.length() && line.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int contentEnd(String line, int start) {
+        int end = line.length();
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    // KEY=value,KEY="quoted, value",... between from and to
+    private void parseAttributes(String line, int from, int to) {
+        int i = from;
+        while (i < to) {
+            while (i < to && (line.charAt(i) == ',' || line.charAt(i) == ' ')) {
+                i++;
+            }
+            int keyStart = i;
+            while (i < to && line.charAt(i) != '=') {
+                i++;
+            }
+            int keyEnd = i;
+            if (i++ >= to) {
+                return;
+            }
+            int valueStart;
+            int valueEnd;
+            if (i < to && line.charAt(i) == '"') {
+                valueStart = i + 1;
+                valueEnd = line.indexOf('"', valueStart);
+                if (valueEnd == -1 || valueEnd > to) {
+                    valueEnd = to;
+                }
+                i = valueEnd + 1;
+            } else {
+                valueStart = i;
+                while (i < to && line.charAt(i) != ',') {
+                    i++;
+                }
+                valueEnd = i;
+            }
+            attributes.set(line, keyStart, keyEnd, valueStart, valueEnd);
+        }
+    }
+
+    // YouTube variant URLs carry the itag as a path segment: .../hls_playlist/itag/91/...
+    private static int itag(String uri) {
+        int at = uri.indexOf(ITAG);
+        if (at == -1) {
+            return -1;
+        }
+        int start = at + ITAG.length();
+        int end = uri.indexOf('/', start);
+        return (int) Attributes.parseLong(uri, start, end == -1 ? uri.length() : end);
+    }
+
+    private String resolve(String uri) {
+        if (playlistUrl == null || uri.startsWith("http://") || uri.startsWith("https://")) {
+            return uri;
+        }
+        try {
+            return URI.create(playlistUrl).resolve(uri).toString();
+        } catch (IllegalArgumentException e) {
+            return uri;
+        }
+    }
+
+    // The attributes of one tag, reused for every line
+    private static class Attributes {
+        private long bandwidth;
+        private long averageBandwidth;
+        private int width;
+        private int height;
+        private int fps;
+        private String codecs;
+        private String audioGroup;
+        private boolean audio;
+        private String groupId;
+        private String name;
+        private int channels;
+        private String uri;
+
+        private void reset() {
+            bandwidth = -1;
+            averageBandwidth = -1;
+            width = -1;
+            height = -1;
+            fps = -1;
+            codecs = null;
+            audioGroup = null;
+            audio = false;
+            groupId = null;
+            name = null;
+            channels = -1;
+            uri = null;
+        }
+
+        private void set(String line, int keyStart, int keyEnd, int valueStart, int valueEnd) {
+            if (is(line, keyStart, keyEnd, "BANDWIDTH")) {
+                bandwidth = parseLong(line, valueStart, valueEnd);
+            } else if (is(line, keyStart, keyEnd, "AVERAGE-BANDWIDTH")) {
+                averageBandwidth = parseLong(line, valueStart, valueEnd);
+            } else if (is(line, keyStart, keyEnd, "RESOLUTION")) {
+                // 1280x720
+                int x = line.indexOf('x', valueStart);
+                if (x != -1 && x < valueEnd) {
+                    width = (int) parseLong(line, valueStart, x);
+                    height = (int) parseLong(line, x + 1, valueEnd);
+                }
+            } else if (is(line, keyStart, keyEnd, "FRAME-RATE")) {
+                fps = parseRoundedDecimal(line, valueStart, valueEnd);
+            } else if (is(line, keyStart, keyEnd, "CODECS")) {
+                codecs = line.substring(valueStart, valueEnd);
+            } else if (is(line, keyStart, keyEnd, "AUDIO")) {
+                audioGroup = line.substring(valueStart, valueEnd);
+            } else if (is(line, keyStart, keyEnd, "TYPE")) {
+                audio = is(line, valueStart, valueEnd, "AUDIO");
+            } else if (is(line, keyStart, keyEnd, "GROUP-ID")) {
+                groupId = line.substring(valueStart, valueEnd);
+            } else if (is(line, keyStart, keyEnd, "NAME")) {
+                name = line.substring(valueStart, valueEnd);
+            } else if (is(line, keyStart, keyEnd, "CHANNELS")) {
+                // "2" or "6/JOC"
+                channels = (int) parseLong(line, valueStart, valueEnd);
+            } else if (is(line, keyStart, keyEnd, "URI")) {
+                uri = line.substring(valueStart, valueEnd);
+            }
+        }
+
+        private static boolean is(String line, int start, int end, String expected) {
+            return end - start == expected.length() && line.regionMatches(start, expected, 0, expected.length());
+        }
+
+        // Leading digits only, -1 if there are none
+        private static long parseLong(String line, int start, int end) {
+            long value = 0;
+            int i = start;
+            for (; i < end; i++) {
+                char c = line.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return i == start ? -1 : value;
+        }
+
+        // 5.005 -> 5005, -1 if there is no number
+        private static long parseMillis(String line, int start, int end) {
+            long whole = parseLong(line, start, end);
+            if (whole == -1) {
+                return -1;
+            }
+            long millis = whole * 1000;
+            int dot = line.indexOf('.', start);
+            if (dot != -1 && dot < end) {
+                int scale = 100;
+                for (int i = dot + 1; i < end && scale > 0; i++, scale /= 10) {
+                    char c = line.charAt(i);
+                    if (c < '0' || c > '9') {
+                        break;
+                    }
+                    millis += (c - '0') * scale;
+                }
+            }
+            return millis;
+        }
+
+        // 29.970 -> 30
+        private static int parseRoundedDecimal(String line, int start, int end) {
+            long whole = parseLong(line, start, end);
+            if (whole == -1) {
+                return -1;
+            }
+            int dot = line.indexOf('.', start);
+            if (dot != -1 && dot + 1 < end && line.charAt(dot + 1) >= '5' && line.charAt(dot + 1) <= '9') {
+                whole++;
+            }
+            return (int) whole;
+        }
+    }
+
+    static class MediaPlaylist {
+        private long targetDurationSeconds = -1;
+        private long mediaSequence;
+        private boolean endList;
+        private final List<MediaSegment> segments = new ArrayList<>();
+
+        long getTargetDurationSeconds() {
+            return targetDurationSeconds;
+        }
+
+        long getMediaSequence() {
+            return mediaSequence;
+        }
+
+        // #EXT-X-ENDLIST, no more segments will be added
+        boolean isEndList() {
+            return endList;
+        }
+
+        List<MediaSegment> getSegments() {
+            return segments;
+        }
+    }
+
+    static class MediaSegment {
+        private final long sequence;
+        private final long durationMs;
+        private final String url;
+
+        private MediaSegment(long sequence, long durationMs, String url) {
+            this.sequence = sequence;
+            this.durationMs = durationMs;
+            this.url = url;
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        long getDurationMs() {
+            return durationMs;
+        }
+
+        String getUrl() {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.luoshenshi;
+
+import android.os.Build;
+
+import androidx.annotation.RequiresApi;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.HttpUrl;
+
+// Spaces requests to each host at most requestsPerSecond apart. There is one limiter per
+// YTDL, and while any batch asked for a rate every request takes a slot on its host's one
+// schedule, whether it comes from that batch, another batch or a single lookup, so callers
+// share the host's budget instead of each getting their own. Concurrent batches with
+// different rates are held to the strictest. A stage waits for its slot on a timer and only
+// then takes a worker of the lookup executor, so a low rate delays lookups without parking
+// workers other lookups need. Work that goes to no host (disk cache reads) is not limited.
+class HostRateLimiter {
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ytdl-rate-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Long> nextSlots = new HashMap<>();
+    // Interval of every limit in force, with how many batches asked for it
+    private final TreeMap<Long, Integer> limits = new TreeMap<>();
+    private volatile long intervalNanos;
+
+    // Puts a limit in force until the returned Runnable runs
+    Runnable limit(double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+        long interval = (long) (1_000_000_000L / requestsPerSecond);
+        synchronized (limits) {
+            limits.merge(interval, 1, Integer::sum);
+            intervalNanos = limits.lastKey();
+        }
+        return () -> {
+            synchronized (limits) {
+                if (limits.merge(interval, -1, Integer::sum) == 0) {
+                    limits.remove(interval);
+                }
+                intervalNanos = limits.isEmpty() ? 0 : limits.lastKey();
+            }
+        };
+    }
+
+    boolean isLimiting() {
+        return intervalNanos > 0;
+    }
+
+    // Completes when the next slot for the host of url opens, from the timer thread
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    CompletableFuture<Void> acquire(String url) {
+        HttpUrl parsed = HttpUrl.parse(url);
+        long waitNanos = reserve(parsed != null ? parsed.host() : url);
+        if (waitNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> slot = new CompletableFuture<>();
+        timer.schedule(() -> slot.complete(null), waitNanos, TimeUnit.NANOSECONDS);
+        return slot;
+    }
+
+    private long reserve(String host) {
+        long interval = intervalNanos;
+        if (interval <= 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        synchronized (nextSlots) {
+            Long next = nextSlots.get(host);
+            long slot = next == null || next < now ? now : next;
+            nextSlots.put(host, slot + interval);
+            return slot - now;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.luoshenshi;
+
+import android.os.Build;
+
+import androidx.annotation.RequiresApi;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// Keeps up to maxInFlight lookups running, starting the next ID whenever one completes.
+@RequiresApi(api = Build.VERSION_CODES.N)
+class InfoBatch {
+    private final Iterator<String> videoIds;
+    private final int maxInFlight;
+    private final Function<String, CompletableFuture<VideoInfo>> lookup;
+    private final YtdlBatchResponse<VideoInfo> callback;
+    private int inFlight;
+    private boolean pumping;
+    private boolean repump;
+    private boolean completed;
+
+    InfoBatch(Collection<String> videoIds, int maxInFlight, Function<String, CompletableFuture<VideoInfo>> lookup, YtdlBatchResponse<VideoInfo> callback) {
+        this.videoIds = videoIds.iterator();
+        this.maxInFlight = maxInFlight;
+        this.lookup = lookup;
+        this.callback = callback;
+    }
+
+    void start() {
+        pump();
+    }
+
+    // Lookups served from the cache complete inline, so launches are driven from a loop
+    // rather than recursively from each completion.
+    private void pump() {
+        synchronized (this) {
+            if (pumping) {
+                repump = true;
+                return;
+            }
+            pumping = true;
+        }
+        while (true) {
+            String videoId = null;
+            boolean finished = false;
+            synchronized (this) {
+                if (inFlight < maxInFlight && videoIds.hasNext()) {
+                    videoId = videoIds.next();
+                    inFlight++;
+                } else if (repump) {
+                    repump = false;
+                    continue;
+                } else {
+                    pumping = false;
+                    finished = inFlight == 0 && !completed;
+                    completed |= finished;
+                }
+            }
+            if (videoId == null) {
+                if (finished) {
+                    callback.onComplete();
+                }
+                return;
+            }
+            launch(videoId);
+        }
+    }
+
+    private void launch(String videoId) {
+        lookup.apply(videoId).whenComplete((videoInfo, error) -> {
+            try {
+                if (error == null) {
+                    callback.onResponse(videoId, videoInfo);
+                } else {
+                    callback.onFailure(videoId, YTDL.toFailure(error));
+                }
+            } finally {
+                synchronized (this) {
+                    inFlight--;
+                }
+                pump();
+            }
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.luoshenshi;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+// A lookup limited to the fields the caller needs, e.g.
+// YTDL.query(videoId).fields(Field.TITLE, Field.VIEWS, Field.DURATION).getInfoAsync(callback)
+// Stages that none of the fields need are skipped: without FORMATS neither player's formats
+// nor any manifest is fetched, and without a watch page field the watch page is not
+// downloaded, so a details-only query is a single player request. Fields that were not asked
+// for may still be filled when they come for free, otherwise they are null, empty or -1.
+public class InfoQuery {
+    public enum Field {
+        // From videoDetails, always available
+        TITLE(false),
+        AUTHOR(false),
+        DESCRIPTION(false),
+        VIEWS(false),
+        DURATION(false),
+        VIDEO_URL(false),
+        THUMBNAILS(false),
+
+        // From the watch page
+        LIKES(true),
+        AUTHOR_INFO(true),
+        IFRAME_URL(true),
+        OWNER_PROFILE_URL(true),
+        CHANNEL_ID(true),
+        FAMILY_SAFE(true),
+        AVAILABLE_COUNTRIES(true),
+        CATEGORY(true),
+        UPLOAD_DATE(true),
+        SHORTS_ELIGIBLE(true),
+
+        // From both player clients plus their DASH and HLS manifests
+        FORMATS(false);
+
+        private final boolean fromWatchPage;
+
+        Field(boolean fromWatchPage) {
+            this.fromWatchPage = fromWatchPage;
+        }
+    }
+
+    static final Set<Field> ALL_FIELDS = Collections.unmodifiableSet(EnumSet.allOf(Field.class));
+
+    private final String videoId;
+    private Set<Field> fields = ALL_FIELDS;
+    private boolean lazy;
+
+    InfoQuery(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public InfoQuery fields(Field... fields) {
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        EnumSet<Field> selected = EnumSet.noneOf(Field.class);
+        Collections.addAll(selected, fields);
+        this.fields = Collections.unmodifiableSet(selected);
+        return this;
+    }
+
+    public InfoQuery allFields() {
+        fields = ALL_FIELDS;
+        return this;
+    }
+
+    // Returns the VideoInfo once the player responses are in. The DASH and HLS manifests are
+    // fetched by the first getFormats() (which then blocks) or getFormatsAsync() and likes and
+    // author info are parsed by their first getter, so scans that never read them never pay
+    // for them.
+    public InfoQuery lazy() {
+        lazy = true;
+        return this;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public Set<Field> getFields() {
+        return fields;
+    }
+
+    public void getInfoAsync(YtdlResponse<VideoInfo> callback) {
+        YTDL.getInfoAsync(videoId, fields, lazy, callback);
+    }
+
+    static boolean needsWatchPage(Set<Field> fields) {
+        for (Field field : fields) {
+            if (field.fromWatchPage) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Lookups with different masks build different VideoInfos, so they must not share one
+    static String key(String videoId, Set<Field> fields, boolean lazy) {
+        if (fields.size() == ALL_FIELDS.size()) {
+            return lazy ? videoId + "#lazy" : videoId;
+        }
+        long mask = 0;
+        for (Field field : fields) {
+            mask |= 1L << field.ordinal();
+        }
+        return videoId + "#" + Long.toHexString(mask) + (lazy ? "#lazy" : "");
+    }
+}
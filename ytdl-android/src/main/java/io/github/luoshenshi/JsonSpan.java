@@ -0,0 +1,92 @@
+package io.github.luoshenshi;
+
+import okio.Buffer;
+
+// Single pass over a JSON object or array that tracks string, escape and bracket depth
+// state and reports where the value ends. The state carries over between calls, so the
+// same instance can be fed a stream chunk by chunk. Works on UTF-8 bytes directly since
+// multi-byte sequences never contain the ASCII characters it looks at.
+class JsonSpan {
+    static final int INCOMPLETE = -1;
+    static final int NOT_JSON = -2;
+
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    // Index just past the closing bracket, INCOMPLETE if the value goes on, or NOT_JSON
+    int scan(CharSequence text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int result = next(text.charAt(i));
+            if (result != INCOMPLETE) {
+                return result == NOT_JSON ? NOT_JSON : i + 1;
+            }
+        }
+        return INCOMPLETE;
+    }
+
+    int scan(byte[] data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int result = next(data[i]);
+            if (result != INCOMPLETE) {
+                return result == NOT_JSON ? NOT_JSON : i + 1;
+            }
+        }
+        return INCOMPLETE;
+    }
+
+    // Byte count from the head of the buffer through the closing bracket, INCOMPLETE or NOT_JSON
+    long scan(Buffer buffer) {
+        try (Buffer.UnsafeCursor cursor = buffer.readUnsafe()) {
+            for (int length = cursor.seek(0); length != -1; length = cursor.next()) {
+                int end = scan(cursor.data, cursor.start, cursor.end);
+                if (end == NOT_JSON) {
+                    return NOT_JSON;
+                }
+                if (end != INCOMPLETE) {
+                    return cursor.offset + (end - cursor.start);
+                }
+            }
+        }
+        return INCOMPLETE;
+    }
+
+    // 0 once the value is closed, INCOMPLETE while it goes on, NOT_JSON if it does not start with a bracket
+    private int next(int c) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return INCOMPLETE;
+        }
+        if (depth == 0) {
+            if (c == '{' || c == '[') {
+                depth = 1;
+                return INCOMPLETE;
+            }
+            return c == ' ' || c == '\t' || c == '\n' || c == '\r' ? INCOMPLETE : NOT_JSON;
+        }
+        switch (c) {
+            case '"':
+                inString = true;
+                break;
+            case '{':
+            case '[':
+                depth++;
+                break;
+            case '}':
+            case ']':
+                if (--depth == 0) {
+                    return 0;
+                }
+                break;
+            default:
+                break;
+        }
+        return INCOMPLETE;
+    }
+}
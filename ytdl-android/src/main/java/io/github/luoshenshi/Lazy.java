@@ -0,0 +1,49 @@
+package io.github.luoshenshi;
+
+import java.util.concurrent.Callable;
+
+// A value computed on the first get() and then kept. Concurrent first callers wait for
+// the one computation instead of repeating it, and the loader is dropped afterwards so
+// whatever it captured can be collected.
+class Lazy<T> {
+    private Callable<T> loader;
+    private volatile boolean loaded;
+    private T value;
+
+    private Lazy(Callable<T> loader, T value, boolean loaded) {
+        this.loader = loader;
+        this.value = value;
+        this.loaded = loaded;
+    }
+
+    static <T> Lazy<T> of(T value) {
+        return new Lazy<>(null, value, true);
+    }
+
+    static <T> Lazy<T> from(Callable<T> loader) {
+        return new Lazy<>(loader, null, false);
+    }
+
+    T get() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    try {
+                        value = loader.call();
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    loader = null;
+                    loaded = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+}
@@ -4,10 +4,16 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 public class LikesFetcher {
+    // The info object the lookup used to build: {"response": ytInitialData, "player_response": ...}
+    @Deprecated
     public static String getLikes(JSONObject info) {
+        return getLikes(WatchPage.fromInfo(info));
+    }
+
+    public static String getLikes(WatchPage watchPage) {
         try {
             // Retrieving the results
-            JSONObject contentsObj = info.getJSONObject("response")
+            JSONObject contentsObj = watchPage.getInitialData()
                     .getJSONObject("contents")
                     .getJSONObject("twoColumnWatchNextResults")
                     .getJSONObject("results")
@@ -55,10 +61,9 @@ public class LikesFetcher {
                     .getJSONObject("buttonViewModel")
                     .getString("accessibilityText");
 
-            return accessibilityText.replaceAll("\\D", "");
+            return Utils.digitsOf(accessibilityText);
 
         } catch (Exception e) {
-            System.out.println(e.getLocalizedMessage());
             return null;
         }
     }
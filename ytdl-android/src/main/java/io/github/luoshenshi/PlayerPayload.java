@@ -0,0 +1,87 @@
+package io.github.luoshenshi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+
+// The youtubei/v1/player request body of one client, serialized once. The JSON is split
+// around the videoId and cpn values, so a request only copies the three fixed pieces and
+// the two values into one array instead of building and serializing the whole map.
+class PlayerPayload {
+    static final String VIDEO_ID = "__ytdl_videoId__";
+    static final String CPN = "__ytdl_cpn__";
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final char[] CPN_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+    private static final int CPN_LENGTH = 16;
+
+    private final byte[] head;
+    private final byte[] middle;
+    private final byte[] tail;
+    private final boolean videoIdFirst;
+
+    // template is the serialized payload with VIDEO_ID and CPN as the two values
+    PlayerPayload(String template) {
+        String videoIdMark = quote(VIDEO_ID);
+        String cpnMark = quote(CPN);
+        int videoIdAt = template.indexOf(videoIdMark);
+        int cpnAt = template.indexOf(cpnMark);
+        if (videoIdAt == -1 || cpnAt == -1) {
+            throw new IllegalArgumentException("Template is missing the videoId or cpn placeholder");
+        }
+        videoIdFirst = videoIdAt < cpnAt;
+        int firstAt = Math.min(videoIdAt, cpnAt);
+        int firstEnd = firstAt + (videoIdFirst ? videoIdMark : cpnMark).length();
+        int secondAt = Math.max(videoIdAt, cpnAt);
+        int secondEnd = secondAt + (videoIdFirst ? cpnMark : videoIdMark).length();
+        head = template.substring(0, firstAt).getBytes(StandardCharsets.UTF_8);
+        middle = template.substring(firstEnd, secondAt).getBytes(StandardCharsets.UTF_8);
+        tail = template.substring(secondEnd).getBytes(StandardCharsets.UTF_8);
+    }
+
+    RequestBody create(String videoId) {
+        byte[] id = quote(videoId).getBytes(StandardCharsets.UTF_8);
+        byte[] cpn = quote(generateClientPlaybackNonce()).getBytes(StandardCharsets.US_ASCII);
+        byte[] first = videoIdFirst ? id : cpn;
+        byte[] second = videoIdFirst ? cpn : id;
+
+        byte[] body = new byte[head.length + first.length + middle.length + second.length + tail.length];
+        int at = 0;
+        System.arraycopy(head, 0, body, at, head.length);
+        at += head.length;
+        System.arraycopy(first, 0, body, at, first.length);
+        at += first.length;
+        System.arraycopy(middle, 0, body, at, middle.length);
+        at += middle.length;
+        System.arraycopy(second, 0, body, at, second.length);
+        at += second.length;
+        System.arraycopy(tail, 0, body, at, tail.length);
+        return RequestBody.create(body, JSON);
+    }
+
+    static String generateClientPlaybackNonce() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] nonce = new char[CPN_LENGTH];
+        for (int i = 0; i < nonce.length; i++) {
+            nonce[i] = CPN_CHARS[random.nextInt(CPN_CHARS.length)];
+        }
+        return new String(nonce);
+    }
+
+    // A JSON string literal. Video IDs are [A-Za-z0-9_-], anything else is escaped anyway.
+    private static String quote(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
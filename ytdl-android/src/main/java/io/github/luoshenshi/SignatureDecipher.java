@@ -0,0 +1,209 @@
+package io.github.luoshenshi;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// The signature transform of one html5player version, reduced to its operations. The
+// player script scrambles a signature with a function that splits it into an array, calls
+// three helpers (reverse, splice(0, n), swap element 0 with n % length) some fixed
+// sequence of times and joins it back. Those calls are read out of the script once, so
+// deciphering is a pass over a char array instead of running any JavaScript.
+class SignatureDecipher {
+    private static final char REVERSE = 'r';
+    private static final char SPLICE = 's';
+    private static final char SWAP = 'w';
+
+    // Xy=function(a){a=a.split("");...;return a.join("")}
+    private static final Pattern FUNCTION = Pattern.compile(
+            "([a-zA-Z0-9_$]+)\\s*=\\s*function\\(\\s*([a-zA-Z0-9_$]+)\\s*\\)\\s*\\{\\s*\\2\\s*=\\s*\\2\\.split\\(\\s*\"\"\\s*\\)\\s*;(.*?)return\\s+\\2\\.join\\(\\s*\"\"\\s*\\)",
+            Pattern.DOTALL);
+    // XY.ab(a,3) or XY["ab"](a,3)
+    private static final Pattern CALL = Pattern.compile(
+            "([a-zA-Z0-9_$]+)(?:\\.([a-zA-Z0-9_$]+)|\\[\"([a-zA-Z0-9_$]+)\"\\])\\(\\s*[a-zA-Z0-9_$]+\\s*(?:,\\s*(\\d+)\\s*)?\\)");
+    // ab:function(a,b){a.splice(0,b)}
+    private static final Pattern METHOD = Pattern.compile(
+            "\"?([a-zA-Z0-9_$]+)\"?\\s*:\\s*function\\([^)]*\\)\\s*\\{([^}]*)\\}");
+    // /s/player/6e1dd460/player_ias.vflset/en_US/base.js
+    private static final Pattern VERSION = Pattern.compile("/s/player/([a-zA-Z0-9_-]+)/");
+
+    // Pairs of (operation, argument)
+    private final int[] operations;
+
+    private SignatureDecipher(int[] operations) {
+        this.operations = operations;
+    }
+
+    static SignatureDecipher parse(String playerScript) {
+        Matcher function = FUNCTION.matcher(playerScript);
+        if (!function.find()) {
+            throw new IllegalStateException("Signature function not found in player script");
+        }
+        String body = function.group(3);
+
+        Matcher call = CALL.matcher(body);
+        if (!call.find()) {
+            throw new IllegalStateException("Signature function calls no helpers");
+        }
+        Map<String, Character> helpers = parseHelpers(playerScript, call.group(1));
+
+        int[] operations = new int[16];
+        int size = 0;
+        do {
+            String method = call.group(2) != null ? call.group(2) : call.group(3);
+            Character operation = helpers.get(method);
+            if (operation == null) {
+                throw new IllegalStateException("Unknown signature helper " + call.group(1) + "." + method);
+            }
+            if (size == operations.length) {
+                operations = Arrays.copyOf(operations, size * 2);
+            }
+            operations[size++] = operation;
+            operations[size++] = call.group(4) != null ? Integer.parseInt(call.group(4)) : 0;
+        } while (call.find());
+        return new SignatureDecipher(Arrays.copyOf(operations, size));
+    }
+
+    // var XY={ab:function(a){a.reverse()},cd:function(a,b){a.splice(0,b)},...};
+    private static Map<String, Character> parseHelpers(String playerScript, String object) {
+        Matcher definition = Pattern.compile("(?:var\\s+|[;,\\s])" + Pattern.quote(object) + "\\s*=\\s*\\{(.*?)\\};", Pattern.DOTALL)
+                .matcher(playerScript);
+        if (!definition.find()) {
+            throw new IllegalStateException("Signature helper object " + object + " not found");
+        }
+        Map<String, Character> helpers = new HashMap<>();
+        Matcher method = METHOD.matcher(definition.group(1));
+        while (method.find()) {
+            String body = method.group(2);
+            if (body.contains("reverse")) {
+                helpers.put(method.group(1), REVERSE);
+            } else if (body.contains("splice")) {
+                helpers.put(method.group(1), SPLICE);
+            } else if (body.contains("%")) {
+                helpers.put(method.group(1), SWAP);
+            }
+        }
+        return helpers;
+    }
+
+    // Player version from the html5player URL, e.g. 6e1dd460; the transform changes with it
+    static String version(String playerUrl) {
+        Matcher matcher = VERSION.matcher(playerUrl);
+        return matcher.find() ? matcher.group(1) : playerUrl;
+    }
+
+    String decipher(String signature) {
+        char[] chars = signature.toCharArray();
+        int start = 0;
+        for (int i = 0; i < operations.length; i += 2) {
+            int argument = operations[i + 1];
+            int length = chars.length - start;
+            switch (operations[i]) {
+                case REVERSE:
+                    for (int left = start, right = chars.length - 1; left < right; left++, right--) {
+                        char c = chars[left];
+                        chars[left] = chars[right];
+                        chars[right] = c;
+                    }
+                    break;
+                case SPLICE:
+                    start += Math.min(argument, length);
+                    break;
+                case SWAP:
+                    if (length > 0) {
+                        int other = start + argument % length;
+                        char c = chars[start];
+                        chars[start] = chars[other];
+                        chars[other] = c;
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation " + (char) operations[i]);
+            }
+        }
+        return new String(chars, start, chars.length - start);
+    }
+
+    // signatureCipher is a query string: s=<scrambled>&sp=sig&url=<encoded stream URL>
+    String decipherUrl(String signatureCipher) {
+        String signature = null;
+        String parameter = "signature";
+        String url = null;
+        for (String pair : signatureCipher.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals == -1) {
+                continue;
+            }
+            String key = pair.substring(0, equals);
+            String value = urlDecode(pair.substring(equals + 1));
+            if (key.equals("s")) {
+                signature = value;
+            } else if (key.equals("sp")) {
+                parameter = value;
+            } else if (key.equals("url")) {
+                url = value;
+            }
+        }
+        if (url == null || signature == null) {
+            return url;
+        }
+        return url + (url.indexOf('?') == -1 ? '?' : '&') + parameter + "=" + urlEncode(decipher(signature));
+    }
+
+    // Disk form for the cache, e.g. w45,r0,s3
+    String encode() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < operations.length; i += 2) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append((char) operations[i]).append(operations[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    static SignatureDecipher decode(String encoded) {
+        if (encoded.isEmpty()) {
+            return new SignatureDecipher(new int[0]);
+        }
+        String[] steps = encoded.split(",");
+        int[] operations = new int[steps.length * 2];
+        for (int i = 0; i < steps.length; i++) {
+            char operation = steps[i].charAt(0);
+            if (operation != REVERSE && operation != SPLICE && operation != SWAP) {
+                throw new IllegalArgumentException("Unknown operation in " + encoded);
+            }
+            operations[i * 2] = operation;
+            operations[i * 2 + 1] = Integer.parseInt(steps[i].substring(1));
+        }
+        return new SignatureDecipher(operations);
+    }
+
+    private static String urlDecode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String urlEncode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "operations=" + encode() +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.luoshenshi;
+
+import android.os.Build;
+
+import androidx.annotation.RequiresApi;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Concurrent calls with the same key share the first caller's work until it completes.
+@RequiresApi(api = Build.VERSION_CODES.N)
+class SingleFlight<T> {
+    private final Map<String, CompletableFuture<T>> calls = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> fn) {
+        CompletableFuture<T> existing = calls.get(key);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+
+        CompletableFuture<T> promise = new CompletableFuture<>();
+        existing = calls.putIfAbsent(key, promise);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+
+        try {
+            fn.get().whenComplete((result, error) -> {
+                calls.remove(key, promise);
+                if (error != null) {
+                    promise.completeExceptionally(error);
+                } else {
+                    promise.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            calls.remove(key, promise);
+            promise.completeExceptionally(e);
+        }
+        return promise;
+    }
+
+    int inFlight() {
+        return calls.size();
+    }
+
+    long coalesced() {
+        return coalesced.get();
+    }
+}
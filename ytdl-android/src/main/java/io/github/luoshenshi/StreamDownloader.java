@@ -0,0 +1,372 @@
+package io.github.luoshenshi;
+
+import android.os.Build;
+import android.system.ErrnoException;
+import android.system.Os;
+import android.system.OsConstants;
+
+import androidx.annotation.RequiresApi;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+// Downloads a Format with parallel HTTP Range requests, one chunk per request, moved
+// from the response source into the file with FileChannel.transferFrom at the chunk's
+// offset, so no per-download buffers are allocated. Data goes to <target>.part while a
+// <target>.part.state file records finished chunks, so an interrupted download picks
+// up where it stopped when started again with the same chunk size.
+public class StreamDownloader {
+    // YouTube throttles unranged and very large range requests, ~10 MB chunks stay at full speed
+    public static final long DEFAULT_CHUNK_SIZE = 10L * 1024 * 1024;
+    public static final int DEFAULT_CONNECTIONS = 4;
+    // Bytes per transferFrom call, also how often progress is reported
+    private static final long TRANSFER_STEP = 256 * 1024;
+    private static final int STATE_HEADER_SIZE = 16;
+
+    private final OkHttpClient http;
+    private final long chunkSize;
+    private final int connections;
+    private volatile boolean preallocate;
+    private volatile long mappedTailSize;
+
+    public StreamDownloader() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_CONNECTIONS);
+    }
+
+    public StreamDownloader(long chunkSize, int connections) {
+        this(YTDL.getHttp().getClient(), chunkSize, connections);
+    }
+
+    public StreamDownloader(OkHttpClient http, long chunkSize, int connections) {
+        if (chunkSize < 1 || connections < 1) {
+            throw new IllegalArgumentException("chunkSize and connections must be positive");
+        }
+        this.http = http;
+        this.chunkSize = chunkSize;
+        this.connections = connections;
+    }
+
+    // Reserves disk space for the whole stream before the first chunk, so a full disk fails
+    // the download up front instead of part way through. Without it the .part file is sparse.
+    public StreamDownloader setPreallocate(boolean preallocate) {
+        this.preallocate = preallocate;
+        return this;
+    }
+
+    // Chunks starting within the last `bytes` of the stream are read straight into a
+    // memory mapping of the file instead of going through transferFrom. 0 turns it off.
+    public StreamDownloader setMappedTailSize(long bytes) {
+        this.mappedTailSize = Math.max(0, bytes);
+        return this;
+    }
+
+    public boolean isPreallocate() {
+        return preallocate;
+    }
+
+    public long getMappedTailSize() {
+        return mappedTailSize;
+    }
+
+    public interface DownloadListener {
+        void onProgress(long downloadedBytes, long totalBytes);
+    }
+
+    public File download(Format format, File target, DownloadListener listener) throws IOException {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
+            throw new UnsupportedOperationException("download requires Android 7.0 (API 24) or newer");
+        }
+        try {
+            return start(format, target, listener).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    public void downloadAsync(Format format, File target, DownloadListener listener, YtdlResponse<File> callback) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
+            callback.onFailure(new UnsupportedOperationException("downloadAsync requires Android 7.0 (API 24) or newer"));
+            return;
+        }
+        start(format, target, listener).whenComplete((file, error) -> {
+            if (error == null) {
+                callback.onResponse(file);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                callback.onFailure(cause instanceof Exception ? (Exception) cause : new Exception(cause));
+            }
+        });
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private CompletableFuture<File> start(Format format, File target, DownloadListener listener) {
+        CompletableFuture<File> result = new CompletableFuture<>();
+        if (format.getUrl() == null) {
+            result.completeExceptionally(new IllegalArgumentException("Format " + format.getItag() + " has no direct URL"));
+            return result;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(connections, runnable -> {
+            Thread thread = new Thread(runnable, "ytdl-download-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Job job = new Job(format.getUrl(), target, listener, result);
+        workers.execute(() -> {
+            try {
+                job.open(format.getContentLength());
+                job.launch(workers);
+            } catch (Exception e) {
+                job.close();
+                result.completeExceptionally(e);
+            } finally {
+                workers.shutdown();
+            }
+        });
+        return result;
+    }
+
+    private class Job {
+        private final String url;
+        private final File target;
+        private final File partFile;
+        private final File stateFile;
+        private final DownloadListener listener;
+        private final CompletableFuture<File> result;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final AtomicInteger activeWorkers = new AtomicInteger();
+        private final AtomicLong downloaded = new AtomicLong();
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+        private RandomAccessFile data;
+        private RandomAccessFile state;
+        private FileChannel channel;
+        private long totalLength;
+        private int chunkCount;
+
+        private Job(String url, File target, DownloadListener listener, CompletableFuture<File> result) {
+            this.url = url;
+            this.target = target;
+            this.partFile = new File(target.getPath() + ".part");
+            this.stateFile = new File(target.getPath() + ".part.state");
+            this.listener = listener;
+            this.result = result;
+        }
+
+        private void open(long contentLength) throws IOException {
+            totalLength = contentLength > 0 ? contentLength : probeLength();
+            chunkCount = (int) ((totalLength + chunkSize - 1) / chunkSize);
+
+            data = new RandomAccessFile(partFile, "rw");
+            channel = data.getChannel();
+            state = new RandomAccessFile(stateFile, "rw");
+            boolean resumable = partFile.length() == totalLength
+                    && state.length() == STATE_HEADER_SIZE + chunkCount
+                    && state.readLong() == totalLength
+                    && state.readLong() == chunkSize;
+            if (!resumable) {
+                state.setLength(0);
+                state.writeLong(totalLength);
+                state.writeLong(chunkSize);
+                state.write(new byte[chunkCount]);
+                // transferFrom never writes past the end of the file, so it needs its full length
+                data.setLength(totalLength);
+                if (preallocate) {
+                    allocate();
+                }
+            } else {
+                for (int i = 0; i < chunkCount; i++) {
+                    state.seek(STATE_HEADER_SIZE + i);
+                    if (state.read() == 1) {
+                        downloaded.addAndGet(chunkLength(i));
+                    }
+                }
+            }
+        }
+
+        private void launch(ExecutorService workers) {
+            int count = Math.max(1, Math.min(connections, chunkCount));
+            activeWorkers.set(count);
+            for (int i = 0; i < count; i++) {
+                workers.execute(this::work);
+            }
+        }
+
+        private void allocate() throws IOException {
+            if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+                return;
+            }
+            try {
+                Os.posix_fallocate(data.getFD(), 0, totalLength);
+            } catch (ErrnoException e) {
+                if (e.errno == OsConstants.ENOSPC) {
+                    throw new IOException("Not enough space for " + totalLength + " bytes at " + partFile, e);
+                }
+                // Filesystems without fallocate (e.g. some FUSE mounts) keep the sparse file
+            }
+        }
+
+        private void work() {
+            try {
+                int chunk;
+                while (failure.get() == null && (chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                    if (!isDone(chunk)) {
+                        fetchChunk(chunk);
+                        markDone(chunk);
+                    }
+                }
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                if (activeWorkers.decrementAndGet() == 0) {
+                    finish();
+                }
+            }
+        }
+
+        private void fetchChunk(int chunk) throws IOException {
+            long start = (long) chunk * chunkSize;
+            long end = start + chunkLength(chunk) - 1;
+            Request request = new Request.Builder()
+                    .url(url)
+                    .header("User-Agent", "Mozilla/5.0")
+                    .header("Range", "bytes=" + start + "-" + end)
+                    .build();
+
+            try (Response response = http.newCall(request).execute()) {
+                if (response.code() != 206) {
+                    throw new IOException("Range request failed with status code: " + response.code());
+                }
+                ResponseBody body = response.body();
+                assert body != null;
+                BufferedSource source = body.source();
+                long tail = mappedTailSize;
+                if (tail > 0 && start >= totalLength - tail) {
+                    readMapped(source, chunk, start, end);
+                } else {
+                    transfer(source, chunk, start, end);
+                }
+            }
+        }
+
+        // BufferedSource is a ReadableByteChannel, so its segments go to the file without an
+        // intermediate byte[]
+        private void transfer(BufferedSource source, int chunk, long start, long end) throws IOException {
+            long position = start;
+            while (position <= end) {
+                long moved = channel.transferFrom(source, position, Math.min(TRANSFER_STEP, end + 1 - position));
+                if (moved == 0 && source.exhausted()) {
+                    throw closedEarly(chunk, end + 1 - position);
+                }
+                position += moved;
+                reportProgress(moved);
+            }
+        }
+
+        private void readMapped(BufferedSource source, int chunk, long start, long end) throws IOException {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, start, end + 1 - start);
+            while (mapped.hasRemaining()) {
+                int read = source.read(mapped);
+                if (read == -1) {
+                    throw closedEarly(chunk, mapped.remaining());
+                }
+                reportProgress(read);
+            }
+            // Mapped pages are not covered by channel.force, flush them before the chunk is marked done
+            mapped.force();
+        }
+
+        private IOException closedEarly(int chunk, long missing) {
+            return new IOException("Connection closed " + missing + " bytes before the end of chunk " + chunk);
+        }
+
+        private void reportProgress(long bytes) {
+            long total = downloaded.addAndGet(bytes);
+            if (listener != null) {
+                listener.onProgress(total, totalLength);
+            }
+        }
+
+        private long chunkLength(int chunk) {
+            return Math.min(chunkSize, totalLength - (long) chunk * chunkSize);
+        }
+
+        private synchronized boolean isDone(int chunk) throws IOException {
+            state.seek(STATE_HEADER_SIZE + chunk);
+            return state.read() == 1;
+        }
+
+        private synchronized void markDone(int chunk) throws IOException {
+            state.seek(STATE_HEADER_SIZE + chunk);
+            state.write(1);
+        }
+
+        private void close() {
+            try {
+                if (data != null) data.close();
+                if (state != null) state.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void finish() {
+            Exception error = failure.get();
+            try {
+                channel.force(false);
+                close();
+                if (error == null) {
+                    if ((target.exists() && !target.delete()) || !partFile.renameTo(target)) {
+                        throw new IOException("Could not move " + partFile + " to " + target);
+                    }
+                    //noinspection ResultOfMethodCallIgnored
+                    stateFile.delete();
+                }
+            } catch (IOException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(target);
+            }
+        }
+
+        // Total size from the Content-Range of a one-byte request, for formats without contentLength
+        private long probeLength() throws IOException {
+            Request request = new Request.Builder()
+                    .url(url)
+                    .header("User-Agent", "Mozilla/5.0")
+                    .header("Range", "bytes=0-0")
+                    .build();
+            try (Response response = http.newCall(request).execute()) {
+                String contentRange = response.header("Content-Range");
+                int slash = contentRange != null ? contentRange.lastIndexOf('/') : -1;
+                long length = slash != -1 ? Utils.parseLong(contentRange.substring(slash + 1), -1) : -1;
+                if (response.code() != 206 || length < 1) {
+                    throw new IOException("Could not determine stream length (status " + response.code() + ")");
+                }
+                return length;
+            }
+        }
+    }
+}
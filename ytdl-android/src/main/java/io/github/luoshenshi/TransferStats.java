@@ -0,0 +1,95 @@
+package io.github.luoshenshi;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Requests and response bytes per lookup stage, counted by the shared client. Wire bytes
+// are what came over the network (compressed when the server gzipped it), decoded bytes
+// what the parsers read after decompression.
+public class TransferStats {
+    public enum Stage {
+        WATCH_PAGE,
+        PLAYER,
+        MANIFEST,
+        PLAYER_SCRIPT
+    }
+
+    private static final int STAGES = Stage.values().length;
+
+    private final AtomicLongArray requests = new AtomicLongArray(STAGES);
+    private final AtomicLongArray compressedResponses = new AtomicLongArray(STAGES);
+    private final AtomicLongArray wireBytes = new AtomicLongArray(STAGES);
+    private final AtomicLongArray decodedBytes = new AtomicLongArray(STAGES);
+
+    void recordRequest(Stage stage, boolean compressed) {
+        requests.incrementAndGet(stage.ordinal());
+        if (compressed) {
+            compressedResponses.incrementAndGet(stage.ordinal());
+        }
+    }
+
+    void recordWireBytes(Stage stage, long bytes) {
+        wireBytes.addAndGet(stage.ordinal(), bytes);
+    }
+
+    void recordDecodedBytes(Stage stage, long bytes) {
+        decodedBytes.addAndGet(stage.ordinal(), bytes);
+    }
+
+    public long getRequests(Stage stage) {
+        return requests.get(stage.ordinal());
+    }
+
+    // Responses that came gzip encoded
+    public long getCompressedResponses(Stage stage) {
+        return compressedResponses.get(stage.ordinal());
+    }
+
+    public long getWireBytes(Stage stage) {
+        return wireBytes.get(stage.ordinal());
+    }
+
+    public long getDecodedBytes(Stage stage) {
+        return decodedBytes.get(stage.ordinal());
+    }
+
+    public long getTotalWireBytes() {
+        long total = 0;
+        for (int i = 0; i < STAGES; i++) {
+            total += wireBytes.get(i);
+        }
+        return total;
+    }
+
+    public long getTotalDecodedBytes() {
+        long total = 0;
+        for (int i = 0; i < STAGES; i++) {
+            total += decodedBytes.get(i);
+        }
+        return total;
+    }
+
+    public void reset() {
+        for (int i = 0; i < STAGES; i++) {
+            requests.set(i, 0);
+            compressedResponses.set(i, 0);
+            wireBytes.set(i, 0);
+            decodedBytes.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (Stage stage : Stage.values()) {
+            if (stage.ordinal() > 0) {
+                builder.append(", ");
+            }
+            builder.append(stage).append("={requests=").append(getRequests(stage))
+                    .append(", compressed=").append(getCompressedResponses(stage))
+                    .append(", wireBytes=").append(getWireBytes(stage))
+                    .append(", decodedBytes=").append(getDecodedBytes(stage))
+                    .append('}');
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -6,10 +6,7 @@ import org.jetbrains.annotations.NotNull;
 import org.json.JSONObject;
 
 import java.io.IOException;
-import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import okhttp3.Call;
 import okhttp3.Callback;
@@ -18,36 +15,150 @@ import okhttp3.Request;
 import okhttp3.Response;
 
 public class Utils {
-    private static final OkHttpClient client = new OkHttpClient();
-
+    // The first number in the text scaled by the multiplier after it, e.g. "1.2M subscribers"
+    // -> 1200000, "1,5 K" -> 1500, "5 Million" -> 5000000, "1,234,567" -> 1234567. The
+    // multiplier is K/k, M or B, or the word thousand, million or billion in any case; other
+    // words (localized ones included) leave the number unscaled. A '.' or ',' is a decimal
+    // point when a multiplier follows or it is not followed by exactly three digits,
+    // otherwise it groups thousands. Spaces between digits (including no-break ones) are
+    // grouping too. Throws ArithmeticException when the count does not fit an int, see
+    // parseAbbreviatedLong for counts in the billions.
     public static Integer parseAbbreviatedNumber(String input) {
-        if (input == null || input.isEmpty()) {
+        Long value = parseAbbreviatedLong(input);
+        if (value == null) {
+            return null;
+        }
+        if (value > Integer.MAX_VALUE) {
+            throw new ArithmeticException(input + " does not fit an int");
+        }
+        return (int) (long) value;
+    }
+
+    // parseAbbreviatedNumber without the int range. Throws ArithmeticException when the
+    // count does not fit a long.
+    public static Long parseAbbreviatedLong(String input) {
+        if (input == null) {
             return null;
         }
+        int length = input.length();
+        int i = 0;
+        while (i < length && !isDigit(input.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return null;
+        }
+
+        long digits = 0;
+        int afterSeparator = -1;
+        for (; i < length; i++) {
+            char c = input.charAt(i);
+            if (isDigit(c)) {
+                if (digits > (Long.MAX_VALUE - 9) / 10) {
+                    throw new ArithmeticException(input + " does not fit a long");
+                }
+                digits = digits * 10 + (c - '0');
+                if (afterSeparator != -1) {
+                    afterSeparator++;
+                }
+            } else if ((c == '.' || c == ',') && i + 1 < length && isDigit(input.charAt(i + 1))) {
+                afterSeparator = 0;
+            } else if (!(isSpace(c) && i + 1 < length && isDigit(input.charAt(i + 1)))) {
+                break;
+            }
+        }
 
-        String sanitizedInput = input.replace(",", ".").replace(" ", "");
+        while (i < length && isSpace(input.charAt(i))) {
+            i++;
+        }
+        int wordEnd = i;
+        while (wordEnd < length && Character.isLetter(input.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        long multiplier = multiplier(input, i, wordEnd);
 
-        Pattern pattern = Pattern.compile("([\\d,.]+)([MK]?)");
-        Matcher matcher = pattern.matcher(sanitizedInput);
+        double value = digits * (double) multiplier;
+        if (afterSeparator != -1 && (multiplier > 1 || afterSeparator != 3)) {
+            value /= Math.pow(10, afterSeparator);
+        }
+        if (value >= 0x1p63) {
+            throw new ArithmeticException(input + " does not fit a long");
+        }
+        return Math.round(value);
+    }
 
-        if (matcher.find()) {
-            String numString = matcher.group(1);
-            String multi = matcher.group(2);
+    private static long multiplier(String input, int start, int end) {
+        int length = end - start;
+        if (length == 1) {
+            char suffix = input.charAt(start);
+            if (suffix == 'K' || suffix == 'k') return 1_000;
+            if (suffix == 'M') return 1_000_000;
+            if (suffix == 'B') return 1_000_000_000;
+        } else if (length == 8 && input.regionMatches(true, start, "thousand", 0, 8)) {
+            return 1_000;
+        } else if (length == 7 && input.regionMatches(true, start, "million", 0, 7)) {
+            return 1_000_000;
+        } else if (length == 7 && input.regionMatches(true, start, "billion", 0, 7)) {
+            return 1_000_000_000;
+        }
+        return 1;
+    }
 
-            try {
-                double num = Double.parseDouble(Objects.requireNonNull(numString));
-                if ("M".equals(multi)) {
-                    return (int) Math.round(num * 1_000_000);
-                } else if ("K".equals(multi)) {
-                    return (int) Math.round(num * 1_000);
-                } else {
-                    return (int) Math.round(num);
+    // Just the digits of the text, "1,234 likes" -> "1234"
+    public static String digitsOf(String text) {
+        char[] digits = null;
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                if (digits == null) {
+                    digits = new char[text.length() - i];
                 }
-            } catch (NumberFormatException e) {
-                return null;
+                digits[count++] = c;
             }
         }
-        return null;
+        return digits == null ? "" : new String(digits, 0, count);
+    }
+
+    // First path segment of an absolute URL, http://www.youtube.com/@name/videos -> @name
+    public static String firstPathSegment(String url) {
+        int scheme = url.indexOf("//");
+        int start = url.indexOf('/', scheme == -1 ? 0 : scheme + 2);
+        if (start == -1) {
+            return null;
+        }
+        int end = url.indexOf('/', start + 1);
+        int query = url.indexOf('?', start + 1);
+        if (query != -1 && (end == -1 || query < end)) {
+            end = query;
+        }
+        return url.substring(start + 1, end == -1 ? url.length() : end);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\u00a0' || c == '\u202f';
+    }
+
+    public static int parseInt(String value, int fallback) {
+        if (value == null || value.isEmpty()) return fallback;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    public static long parseLong(String value, long fallback) {
+        if (value == null || value.isEmpty()) return fallback;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
     }
 
     public static String findBetween(String string, String start, String end) {
@@ -80,6 +191,10 @@ public class Utils {
     }
 
     public static CompletableFuture<String> request(String url) {
+        return request(YTDL.getHttp().getClient(), url);
+    }
+
+    public static CompletableFuture<String> request(OkHttpClient client, String url) {
         CompletableFuture<String> future = null;
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
             future = new CompletableFuture<>();
@@ -9,9 +9,9 @@ public class VideoInfo {
     private final String author;
     private final String description;
     private final String views;
-    private final String likes;
+    private final Lazy<String> likes;
     private final String videoUrl;
-    private final List<JSONObject> formats;
+    private final Lazy<List<Format>> formats;
     private final List<Thumbnail> thumbnails;
     private final String iframeUrl;
     private final String ownerProfileUrl;
@@ -21,9 +21,20 @@ public class VideoInfo {
     private final String category;
     private final String uploadDate;
     private final boolean isShortsEligible;
-    private final JSONObject authorInfo;
+    private final Lazy<JSONObject> authorInfo;
+    private final long lengthSeconds;
+    private volatile FormatIndex formatIndex;
 
-    public VideoInfo(String title, String author, String description, String views, String likes, String videoUrl, List<JSONObject> formats, List<Thumbnail> thumbnails, String iframeUrl, String ownerProfileUrl, String channelId, boolean isFamilySafe, List<String> availableCountries, String category, String uploadDate, boolean isShortsEligible, JSONObject authorInfo) {
+    public VideoInfo(String title, String author, String description, String views, String likes, String videoUrl, List<Format> formats, List<Thumbnail> thumbnails, String iframeUrl, String ownerProfileUrl, String channelId, boolean isFamilySafe, List<String> availableCountries, String category, String uploadDate, boolean isShortsEligible, JSONObject authorInfo) {
+        this(title, author, description, views, likes, videoUrl, formats, thumbnails, iframeUrl, ownerProfileUrl, channelId, isFamilySafe, availableCountries, category, uploadDate, isShortsEligible, authorInfo, -1);
+    }
+
+    public VideoInfo(String title, String author, String description, String views, String likes, String videoUrl, List<Format> formats, List<Thumbnail> thumbnails, String iframeUrl, String ownerProfileUrl, String channelId, boolean isFamilySafe, List<String> availableCountries, String category, String uploadDate, boolean isShortsEligible, JSONObject authorInfo, long lengthSeconds) {
+        this(title, author, description, views, Lazy.of(likes), videoUrl, Lazy.of(formats), thumbnails, iframeUrl, ownerProfileUrl, channelId, isFamilySafe, availableCountries, category, uploadDate, isShortsEligible, Lazy.of(authorInfo), lengthSeconds);
+    }
+
+    // Likes, formats and author info may be computed on first access, see InfoQuery.lazy()
+    VideoInfo(String title, String author, String description, String views, Lazy<String> likes, String videoUrl, Lazy<List<Format>> formats, List<Thumbnail> thumbnails, String iframeUrl, String ownerProfileUrl, String channelId, boolean isFamilySafe, List<String> availableCountries, String category, String uploadDate, boolean isShortsEligible, Lazy<JSONObject> authorInfo, long lengthSeconds) {
         this.title = title;
         this.author = author;
         this.description = description;
@@ -41,6 +52,7 @@ public class VideoInfo {
         this.uploadDate = uploadDate;
         this.isShortsEligible = isShortsEligible;
         this.authorInfo = authorInfo;
+        this.lengthSeconds = lengthSeconds;
     }
 
     public String getTitle() {
@@ -59,16 +71,64 @@ public class VideoInfo {
         return views;
     }
 
+    // Duration in seconds, -1 if unknown
+    public long getLengthSeconds() {
+        return lengthSeconds;
+    }
+
     public String getLikes() {
-        return likes;
+        return likes.get();
     }
 
     public String getVideoUrl() {
         return videoUrl;
     }
 
-    public List<JSONObject> getFormats() {
-        return formats;
+    // On a lazy VideoInfo the first call fetches the DASH and HLS manifests and blocks
+    // until they arrive, so make it off the main thread or use getFormatsAsync
+    public List<Format> getFormats() {
+        return formats.get();
+    }
+
+    // Same without blocking: on a lazy VideoInfo the manifests are fetched in the
+    // background and the callback runs once they are in, otherwise it runs right away
+    public void getFormatsAsync(YtdlResponse<List<Format>> callback) {
+        if (formats.isLoaded()) {
+            callback.onResponse(formats.get());
+            return;
+        }
+        YTDL.loadLazily(() -> {
+            List<Format> loaded;
+            try {
+                loaded = formats.get();
+            } catch (RuntimeException e) {
+                callback.onFailure(e);
+                return;
+            }
+            callback.onResponse(loaded);
+        });
+    }
+
+    public Format chooseFormat(FormatPolicy policy) {
+        return getFormatIndex().choose(policy);
+    }
+
+    public FormatPair chooseAdaptivePair(FormatPolicy policy) {
+        return getFormatIndex().choosePair(policy);
+    }
+
+    // Built on first use, then shared by every selection on this VideoInfo
+    private FormatIndex getFormatIndex() {
+        FormatIndex index = formatIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = formatIndex;
+                if (index == null) {
+                    formatIndex = index = new FormatIndex(getFormats());
+                }
+            }
+        }
+        return index;
     }
 
     public List<Thumbnail> getThumbnails() {
@@ -108,7 +168,7 @@ public class VideoInfo {
     }
 
     public JSONObject getAuthorInfo() {
-        return authorInfo;
+        return authorInfo.get();
     }
 
     public static class Thumbnail {
@@ -150,9 +210,9 @@ public class VideoInfo {
                 ", author='" + author + '\'' +
                 ", description='" + description + '\'' +
                 ", views='" + views + '\'' +
-                ", likes='" + likes + '\'' +
+                ", likes='" + peek(likes) + '\'' +
                 ", videoUrl='" + videoUrl + '\'' +
-                ", formats=" + formats +
+                ", formats=" + peek(formats) +
                 ", thumbnails=" + thumbnails +
                 ", iframeUrl='" + iframeUrl + '\'' +
                 ", ownerProfileUrl='" + ownerProfileUrl + '\'' +
@@ -162,7 +222,13 @@ public class VideoInfo {
                 ", category='" + category + '\'' +
                 ", uploadDate='" + uploadDate + '\'' +
                 ", isShortsEligible=" + isShortsEligible +
-                ", authorInfo=" + authorInfo +
+                ", authorInfo=" + peek(authorInfo) +
+                ", lengthSeconds=" + lengthSeconds +
                 '}';
     }
+
+    // Printing a lazy VideoInfo must not fetch or parse what was never asked for
+    private static String peek(Lazy<?> value) {
+        return value.isLoaded() ? String.valueOf(value.get()) : "<not loaded>";
+    }
 }
@@ -0,0 +1,35 @@
+package io.github.luoshenshi;
+
+import org.json.JSONObject;
+
+public class WatchPage {
+    private final JSONObject playerResponse;
+    private final JSONObject initialData;
+    private final String html5player;
+
+    public WatchPage(JSONObject playerResponse, JSONObject initialData, String html5player) {
+        this.playerResponse = playerResponse;
+        this.initialData = initialData;
+        this.html5player = html5player;
+    }
+
+    // From the info object lookups used to pass around: ytInitialData under "response",
+    // ytInitialPlayerResponse under "player_response"
+    static WatchPage fromInfo(JSONObject info) {
+        return new WatchPage(info.optJSONObject("player_response"), info.optJSONObject("response"), info.optString("html5player", null));
+    }
+
+    // ytInitialPlayerResponse
+    public JSONObject getPlayerResponse() {
+        return playerResponse;
+    }
+
+    // ytInitialData
+    public JSONObject getInitialData() {
+        return initialData;
+    }
+
+    public String getHtml5player() {
+        return html5player;
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.luoshenshi;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
+
+// Walks the watch page as it streams in and keeps only the JSON assigned to
+// ytInitialPlayerResponse and ytInitialData plus the html5player URL. Everything
+// else is dropped as soon as it has been searched, and reading stops once all
+// three have been found.
+class WatchPageScanner {
+    private static final ByteString PLAYER_RESPONSE = ByteString.encodeUtf8("var ytInitialPlayerResponse = ");
+    private static final ByteString INITIAL_DATA = ByteString.encodeUtf8("var ytInitialData = ");
+    private static final ByteString WINDOW_INITIAL_DATA = ByteString.encodeUtf8("window[\"ytInitialData\"] = ");
+    private static final ByteString JS_URL = ByteString.encodeUtf8("\"jsUrl\":\"");
+    private static final ByteString SCRIPT_SRC = ByteString.encodeUtf8("<script src=\"");
+    private static final ByteString QUOTE = ByteString.encodeUtf8("\"");
+
+    private final BufferedSource source;
+    private final Buffer buffer;
+    private String playerResponseJSON;
+    private String initialDataJSON;
+    private String html5player;
+
+    private WatchPageScanner(BufferedSource source) {
+        this.source = source;
+        this.buffer = source.getBuffer();
+    }
+
+    static WatchPageScanner scan(BufferedSource source) throws IOException {
+        WatchPageScanner scanner = new WatchPageScanner(source);
+        scanner.run();
+        return scanner;
+    }
+
+    // Exact JSON span of ytInitialPlayerResponse, or null
+    String getPlayerResponseJSON() {
+        return playerResponseJSON;
+    }
+
+    // Exact JSON span of ytInitialData, or null
+    String getInitialDataJSON() {
+        return initialDataJSON;
+    }
+
+    String getHtml5player() {
+        return html5player;
+    }
+
+    private void run() throws IOException {
+        List<ByteString> markers = new ArrayList<>();
+        while (true) {
+            markers.clear();
+            if (playerResponseJSON == null) {
+                markers.add(PLAYER_RESPONSE);
+            }
+            if (initialDataJSON == null) {
+                markers.add(INITIAL_DATA);
+                markers.add(WINDOW_INITIAL_DATA);
+            }
+            if (html5player == null) {
+                markers.add(JS_URL);
+                markers.add(SCRIPT_SRC);
+            }
+            if (markers.isEmpty()) {
+                return;
+            }
+
+            ByteString marker = skipTo(markers);
+            if (marker == null) {
+                return;
+            }
+            buffer.skip(marker.size());
+            if (marker == PLAYER_RESPONSE) {
+                playerResponseJSON = captureJSON();
+            } else if (marker == INITIAL_DATA || marker == WINDOW_INITIAL_DATA) {
+                initialDataJSON = captureJSON();
+            } else {
+                String url = captureUntil(QUOTE);
+                // e.g. /s/player/6e1dd460/player_ias.vflset/en_US/base.js
+                if (url != null && url.contains("player_ias") && url.contains("/base")) {
+                    html5player = url;
+                }
+            }
+        }
+    }
+
+    // Discards everything before the earliest marker and returns it, or null at the end of the page
+    private ByteString skipTo(List<ByteString> markers) throws IOException {
+        int longest = 0;
+        for (ByteString marker : markers) {
+            longest = Math.max(longest, marker.size());
+        }
+        while (true) {
+            ByteString found = null;
+            long foundAt = -1;
+            for (ByteString marker : markers) {
+                long index = buffer.indexOf(marker);
+                if (index != -1 && (foundAt == -1 || index < foundAt)) {
+                    found = marker;
+                    foundAt = index;
+                }
+            }
+            if (found != null) {
+                buffer.skip(foundAt);
+                return found;
+            }
+            // Keep just enough of the tail for a marker split across reads
+            long discard = buffer.size() - (longest - 1);
+            if (discard > 0) {
+                buffer.skip(discard);
+            }
+            if (!source.request(buffer.size() + 1)) {
+                return null;
+            }
+        }
+    }
+
+    // Moves the balanced JSON value at the head of the stream out, or null if there is none
+    private String captureJSON() throws IOException {
+        JsonSpan span = new JsonSpan();
+        Buffer captured = new Buffer();
+        while (true) {
+            long end = span.scan(buffer);
+            if (end == JsonSpan.NOT_JSON) {
+                return null;
+            }
+            if (end != JsonSpan.INCOMPLETE) {
+                captured.write(buffer, end);
+                return captured.readUtf8();
+            }
+            // Everything buffered has been scanned, the state picks up with the next read
+            captured.write(buffer, buffer.size());
+            if (!source.request(1)) {
+                return null;
+            }
+        }
+    }
+
+    // Moves bytes up to (not including) the terminator out of the stream, or null if it never shows up
+    private String captureUntil(ByteString terminator) throws IOException {
+        Buffer captured = new Buffer();
+        while (true) {
+            long index = buffer.indexOf(terminator);
+            if (index != -1) {
+                captured.write(buffer, index);
+                buffer.skip(terminator.size());
+                return captured.readUtf8();
+            }
+            long movable = buffer.size() - (terminator.size() - 1);
+            if (movable > 0) {
+                captured.write(buffer, movable);
+            }
+            if (!source.request(buffer.size() + 1)) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,9 +1,5 @@
 package io.github.luoshenshi;
 
-import static io.github.luoshenshi.Utils.findBetween;
-import static io.github.luoshenshi.Utils.findJSON;
-import static io.github.luoshenshi.Utils.request;
-import static io.github.luoshenshi.Utils.tryParseBetween;
 import static io.github.luoshenshi.YtdlConstants.ANDROID_CLIENT_VERSION;
 import static io.github.luoshenshi.YtdlConstants.ANDROID_OS_VERSION;
 import static io.github.luoshenshi.YtdlConstants.ANDROID_SDK_VERSION;
@@ -12,7 +8,10 @@ import static io.github.luoshenshi.YtdlConstants.IOS_CLIENT_VERSION;
 import static io.github.luoshenshi.YtdlConstants.IOS_DEVICE_MODEL;
 import static io.github.luoshenshi.YtdlConstants.IOS_OS_VERSION;
 import static io.github.luoshenshi.YtdlConstants.IOS_USER_AGENT_VERSION;
-import static io.github.luoshenshi.YtdlConstants.client;
+import static io.github.luoshenshi.YtdlConstants.MANIFEST_TTL;
+import static io.github.luoshenshi.YtdlConstants.PLAYER_RESPONSE_TTL;
+import static io.github.luoshenshi.YtdlConstants.PLAYER_SCRIPT_TTL;
+import static io.github.luoshenshi.YtdlConstants.WATCH_PAGE_TTL;
 
 import android.os.Build;
 
@@ -24,162 +23,514 @@ import org.jetbrains.annotations.NotNull;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
-import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
-import org.xml.sax.helpers.DefaultHandler;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
-
-import okhttp3.MediaType;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 
 public class YTDL {
     private static final Gson gson = new Gson();
-    private static final Cache cache = new Cache(1000);
+    private static final String PLAYER_API_URL = "https://youtubei.googleapis.com/youtubei/v1/player";
+    private static volatile Cache cache = Cache.withMaxEntries(Cache.DEFAULT_MAX_ENTRIES);
+    private static volatile YtdlExecutor executor = YtdlExecutor.createDefault();
+    private static volatile YtdlHttp http = YtdlHttp.createDefault();
+    private static final SingleFlight<VideoInfo> infoCalls = new SingleFlight<>();
+    private static final HostRateLimiter rateLimiter = new HostRateLimiter();
+    private static final PlayerPayload IOS_PAYLOAD = createPlayerPayload("IOS");
+    private static final PlayerPayload ANDROID_PAYLOAD = createPlayerPayload("ANDROID");
+    private static volatile long infoSoftTtl;
+    private static volatile long infoHardTtl;
+    private static final AtomicLong decipherFailures = new AtomicLong();
+
+    // Runs what a lazy VideoInfo loads on first access. Callers may block on those loads from
+    // lookup workers (getFormats() in onResponse), so the loads must not need a lookup worker;
+    // this pool is unbounded and runs no callbacks that could block it in turn.
+    private static final AtomicInteger lazyThreads = new AtomicInteger();
+    private static final ExecutorService lazyLoads = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ytdl-lazy-" + lazyThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static void setExecutor(YtdlExecutor executor) {
+        YTDL.executor = Objects.requireNonNull(executor);
+    }
 
-    public static void getInfoAsync(String videoId, YtdlResponse<VideoInfo> callback) {
-        new Thread(() -> {
-            try {
-                // Getting just basic info~
-                JSONObject basicInfo = getBasicInfo(videoId);
+    public static YtdlExecutor getExecutor() {
+        return executor;
+    }
+
+    public static void setHttp(YtdlHttp http) {
+        YTDL.http = Objects.requireNonNull(http);
+    }
+
+    public static YtdlHttp getHttp() {
+        return http;
+    }
+
+    // Lookups whose ciphered formats could not be deciphered, see Format.getDecipherError
+    public static long getDecipherFailures() {
+        return decipherFailures.get();
+    }
 
-                JSONObject microformat = getMicroformat(videoId);
+    public static void setCache(Cache cache) {
+        YTDL.cache = Objects.requireNonNull(cache);
+    }
 
-                // Getting video formats of both iOS and Android...
-                List<JSONObject> formats = fetchVideoFormats(videoId);
+    public static Cache getCache() {
+        return cache;
+    }
 
-                // Extracting Thumbnails
-                List<VideoInfo.Thumbnail> thumbnailList = extractThumbnails(basicInfo.optJSONObject("thumbnails"));
+    // Keeps whole VideoInfo results in the cache. Younger than softTtlMillis they are returned
+    // as is, after that they are still returned at once but refetched in the background, and
+    // past hardTtlMillis callers wait for fresh data. Refreshes skip the per-stage caches so
+    // views and likes actually move. 0, 0 (the default) turns it off.
+    public static void setStaleWhileRevalidate(long softTtlMillis, long hardTtlMillis) {
+        if (softTtlMillis < 0 || softTtlMillis > hardTtlMillis) {
+            throw new IllegalArgumentException("Expected 0 <= softTtlMillis <= hardTtlMillis");
+        }
+        infoSoftTtl = softTtlMillis;
+        infoHardTtl = hardTtlMillis;
+    }
 
-                // Extracting microformats
-                JSONObject playerMicroformatRenderer = microformat.optJSONObject("playerMicroformatRenderer");
+    public static void getInfoAsync(String videoId, YtdlResponse<VideoInfo> callback) {
+        getInfoAsync(videoId, InfoQuery.ALL_FIELDS, false, callback);
+    }
+
+    // A lookup that only fetches and parses what the selected fields need
+    public static InfoQuery query(String videoId) {
+        return new InfoQuery(videoId);
+    }
+
+    static void getInfoAsync(String videoId, Set<InfoQuery.Field> fields, boolean lazy, YtdlResponse<VideoInfo> callback) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
+            callback.onFailure(new UnsupportedOperationException("getInfoAsync requires Android 7.0 (API 24) or newer"));
+            return;
+        }
+        lookup(videoId, fields, lazy, http.getClient()).whenComplete((videoInfo, error) -> {
+            if (error == null) {
+                callback.onResponse(videoInfo);
+            } else {
+                callback.onFailure(toFailure(error));
+            }
+        });
+    }
 
-                String iframeUrl = playerMicroformatRenderer != null ? Objects.requireNonNull(playerMicroformatRenderer.optJSONObject("embed")).optString("iframeUrl") : null;
-                String ownerProfileUrl = playerMicroformatRenderer != null ? playerMicroformatRenderer.optString("ownerProfileUrl") : null;
-                String externalChannelId = playerMicroformatRenderer != null ? playerMicroformatRenderer.optString("externalChannelId") : null;
-                Boolean isFamilySafe = playerMicroformatRenderer != null ? playerMicroformatRenderer.optBoolean("isFamilySafe") : null;
-                List<String> availableCountries = extractAvailableCountries(playerMicroformatRenderer);
-                String category = playerMicroformatRenderer != null ? playerMicroformatRenderer.optString("category") : null;
-                String uploadDate = playerMicroformatRenderer != null ? playerMicroformatRenderer.optString("publishDate") : null;
-                Boolean isShortsEligible = playerMicroformatRenderer != null ? playerMicroformatRenderer.optBoolean("isShortsEligible") : null;
+    public static void getInfoBatch(Collection<String> videoIds, int maxInFlight, YtdlBatchResponse<VideoInfo> callback) {
+        getInfoBatch(videoIds, maxInFlight, 0, callback);
+    }
 
-                // Fetching likes, and author info from watch HTML page
-                CompletableFuture<JSONObject> info = null;
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-                    info = getWatchHTMLPage(videoId);
+    // Looks up every ID with at most maxInFlight lookups running at once. Results stream back
+    // per item as they complete, onComplete fires once after the last one. Items wait for a
+    // free slot when other callers fill the executor's pending-lookup limit instead of failing.
+    // A positive requestsPerSecondPerHost spaces out requests to each host until the batch
+    // completes. The limit is shared: other batches and single lookups running meanwhile take
+    // their slots from the same per-host schedule rather than getting a budget of their own.
+    public static void getInfoBatch(Collection<String> videoIds, int maxInFlight, double requestsPerSecondPerHost, YtdlBatchResponse<VideoInfo> callback) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
+            for (String videoId : videoIds) {
+                callback.onFailure(videoId, new UnsupportedOperationException("getInfoBatch requires Android 7.0 (API 24) or newer"));
+            }
+            callback.onComplete();
+            return;
+        }
+        OkHttpClient client = http.getClient();
+        YtdlBatchResponse<VideoInfo> response = callback;
+        if (requestsPerSecondPerHost > 0) {
+            Runnable lift = rateLimiter.limit(requestsPerSecondPerHost);
+            response = new YtdlBatchResponse<VideoInfo>() {
+                @Override
+                public void onResponse(String videoId, VideoInfo videoInfo) {
+                    callback.onResponse(videoId, videoInfo);
                 }
-                JSONObject watchHtmlPage = null;
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-                    watchHtmlPage = info != null ? info.join() : null;
+
+                @Override
+                public void onFailure(String videoId, Exception e) {
+                    callback.onFailure(videoId, e);
                 }
-                String likesCount = LikesFetcher.getLikes(watchHtmlPage);
-                JSONObject authorInfo = AuthorFetcher.getAuthor(watchHtmlPage);
-
-                // Constructing and returning VideoInfo
-                VideoInfo videoInfo = new VideoInfo(
-                        basicInfo.optString("title"),
-                        basicInfo.optString("author"),
-                        basicInfo.optString("description"),
-                        basicInfo.optString("views"),
-                        likesCount,
-                        basicInfo.optString("video_url"),
-                        formats,
-                        thumbnailList,
-                        iframeUrl,
-                        ownerProfileUrl,
-                        externalChannelId,
-                        Boolean.TRUE.equals(isFamilySafe),
-                        availableCountries,
-                        category,
-                        uploadDate,
-                        Boolean.TRUE.equals(isShortsEligible),
-                        authorInfo
-                );
-                callback.onResponse(videoInfo);
-                cache.clear();
-            } catch (Exception e) {
-                cache.clear();
-                if (Objects.requireNonNull(e.getLocalizedMessage()).contains("No value for videoDetails")) {
-                    callback.onFailure(new Exception("Video not found"));
-                } else {
-                    callback.onFailure(e);
+
+                @Override
+                public void onComplete() {
+                    lift.run();
+                    callback.onComplete();
                 }
+            };
+        }
+        new InfoBatch(videoIds, maxInFlight, videoId -> lookup(videoId, InfoQuery.ALL_FIELDS, false, client, true), response).start();
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    static CompletableFuture<VideoInfo> lookup(String videoId, Set<InfoQuery.Field> fields, boolean lazy, OkHttpClient http) {
+        return lookup(videoId, fields, lazy, http, false);
+    }
+
+    // Concurrent callers for the same video and fields share one pipeline run, each still gets its own callback.
+    // batch is set for the items of a batch, which queue for admission.
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static CompletableFuture<VideoInfo> lookup(String videoId, Set<InfoQuery.Field> fields, boolean lazy, OkHttpClient http, boolean batch) {
+        String key = InfoQuery.key(videoId, fields, lazy);
+        long hardTtl = infoHardTtl;
+        long softTtl = infoSoftTtl;
+        if (hardTtl <= 0) {
+            return infoCalls.execute(key, () -> admitAndFetch(videoId, fields, lazy, http, false, batch));
+        }
+        return cache.getOrRevalidate("info:" + key, softTtl, hardTtl,
+                () -> infoCalls.execute(key, () -> admitAndFetch(videoId, fields, lazy, http, false, batch)),
+                () -> admitAndFetch(videoId, fields, lazy, http, true, batch));
+    }
+
+    static Exception toFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        String message = cause.getLocalizedMessage();
+        if (message != null && message.contains("No value for videoDetails")) {
+            return new Exception("Video not found");
+        }
+        return cause instanceof Exception ? (Exception) cause : new Exception(cause);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static CompletableFuture<VideoInfo> admitAndFetch(String videoId, Set<InfoQuery.Field> fields, boolean lazy, OkHttpClient http, boolean fresh, boolean batch) {
+        YtdlExecutor lookupExecutor = executor;
+        if (batch) {
+            // Batch items queue for admission, the batch's own maxInFlight bounds how many wait
+            return lookupExecutor.admit()
+                    .thenCompose(admitted -> fetchInfo(videoId, fields, lazy, http, fresh, lookupExecutor))
+                    .whenComplete((videoInfo, error) -> lookupExecutor.release());
+        }
+        if (!lookupExecutor.tryAdmit()) {
+            CompletableFuture<VideoInfo> future = new CompletableFuture<>();
+            future.completeExceptionally(new RejectedExecutionException("Too many pending lookups (" + lookupExecutor.getMaxPendingLookups() + ")"));
+            return future;
+        }
+        return fetchInfo(videoId, fields, lazy, http, fresh, lookupExecutor).whenComplete((videoInfo, error) -> lookupExecutor.release());
+    }
+
+    // The watch page and both player chains run concurrently, each player
+    // response starts its own manifest fetches as soon as it arrives. Stages
+    // none of the fields need are not started; videoDetails come from the
+    // watch page when it is fetched anyway, else from the Android player.
+    // A lazy fetch stops at the player responses and leaves the manifests,
+    // likes and author info to the first getter that needs them.
+    // A fresh fetch goes to the network for every stage and updates the cache.
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static CompletableFuture<VideoInfo> fetchInfo(String videoId, Set<InfoQuery.Field> fields, boolean lazy, OkHttpClient http, boolean fresh, Executor io) {
+        boolean needsWatchPage = InfoQuery.needsWatchPage(fields);
+        boolean needsFormats = fields.contains(InfoQuery.Field.FORMATS);
+
+        CompletableFuture<WatchPage> watchPage = needsWatchPage
+                ? getWatchPage(videoId, http, fresh, io)
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<JSONObject> androidPlayer = needsFormats || !needsWatchPage
+                ? cached("player:ANDROID:" + videoId, PLAYER_RESPONSE_TTL,
+                        () -> async(PLAYER_API_URL, () -> fetchAndroidJsonPlayer(videoId, http), io), CacheCodecs.PLAYER_RESPONSE, fresh, io)
+                : CompletableFuture.completedFuture(null);
+
+        CompletableFuture<JSONObject> iosPlayer = needsFormats
+                ? cached("player:IOS:" + videoId, PLAYER_RESPONSE_TTL,
+                        () -> async(PLAYER_API_URL, () -> fetchIosJsonPlayer(videoId, http), io), CacheCodecs.PLAYER_RESPONSE, fresh, io)
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<Format>> formats = needsFormats && !lazy
+                ? fetchFormats(videoId, androidPlayer, iosPlayer, http, io)
+                : CompletableFuture.completedFuture(Collections.emptyList());
+
+        return CompletableFuture.allOf(watchPage, androidPlayer, iosPlayer, formats).thenApply(done -> {
+            WatchPage page = watchPage.join();
+            JSONObject details = page != null ? page.getPlayerResponse() : androidPlayer.join();
+            Lazy<List<Format>> formatList = needsFormats && lazy
+                    ? Lazy.from(() -> loadFormats(videoId, androidPlayer.join(), iosPlayer.join(), http))
+                    : Lazy.of(formats.join());
+            try {
+                return buildVideoInfo(videoId, fields, lazy, page, details, formatList);
+            } catch (JSONException e) {
+                throw new CompletionException(e);
             }
-        }).start();
+        });
+    }
+
+    // Getting video formats of both iOS and Android...
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static CompletableFuture<List<Format>> fetchFormats(String videoId, CompletableFuture<JSONObject> androidPlayer, CompletableFuture<JSONObject> iosPlayer, OkHttpClient http, Executor io) {
+        CompletableFuture<List<Format>> androidFormats = androidPlayer
+                .thenCompose(playerResponse -> fetchClientFormats(playerResponse, http, io));
+        CompletableFuture<List<Format>> iosFormats = iosPlayer
+                .thenCompose(playerResponse -> fetchClientFormats(playerResponse, http, io));
+        return androidFormats.thenCombine(iosFormats, (android, ios) -> {
+            List<Format> all = new ArrayList<>(android.size() + ios.size());
+            all.addAll(android);
+            all.addAll(ios);
+            return dedupeByItag(all);
+        }).thenCompose(formats -> decipherFormats(videoId, formats, http, io));
     }
 
-    private static JSONObject getBasicInfo(String videoId) throws IOException {
-        String videoUrl = BASE_URL + videoId;
+    // First getFormats() on a lazy VideoInfo. If the manifests cannot be had the
+    // player formats are still returned rather than failing the getter. Every stage
+    // runs on lazyLoads, so blocking here never waits for a lookup worker.
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static List<Format> loadFormats(String videoId, JSONObject androidPlayer, JSONObject iosPlayer, OkHttpClient http) throws JSONException {
+        try {
+            return fetchFormats(videoId, CompletableFuture.completedFuture(androidPlayer), CompletableFuture.completedFuture(iosPlayer), http, lazyLoads).join();
+        } catch (CompletionException e) {
+            List<Format> all = parseFormats(androidPlayer);
+            all.addAll(parseFormats(iosPlayer));
+            return decipherFormats(videoId, dedupeByItag(all), http, lazyLoads).join();
+        }
+    }
 
+    // Runs a blocking first access of a lazy VideoInfo for its async getters
+    static void loadLazily(Runnable load) {
+        lazyLoads.execute(load);
+    }
+
+    // Formats that only carry a signatureCipher get their URL from the transform of the
+    // watch page's html5player. The transform is cached per player version, in memory and
+    // on the disk tier, so the player script is downloaded once per version. If it cannot
+    // be had the lookup still succeeds, but every ciphered format keeps url null and carries
+    // the error in getDecipherError(), and getDecipherFailures() counts the lookup.
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static CompletableFuture<List<Format>> decipherFormats(String videoId, List<Format> formats, OkHttpClient http, Executor io) {
+        boolean ciphered = false;
+        for (Format format : formats) {
+            if (format.getUrl() == null && format.getSignatureCipher() != null) {
+                ciphered = true;
+                break;
+            }
+        }
+        if (!ciphered) {
+            return CompletableFuture.completedFuture(formats);
+        }
+        return getWatchPage(videoId, http, false, io)
+                .thenCompose(page -> {
+                    if (page.getHtml5player() == null) {
+                        throw new CompletionException(new IOException("No html5player URL on the watch page"));
+                    }
+                    return getSignatureDecipher(page.getHtml5player(), http, io);
+                })
+                .thenApply(decipher -> {
+                    List<Format> deciphered = new ArrayList<>(formats.size());
+                    for (Format format : formats) {
+                        if (format.getUrl() == null && format.getSignatureCipher() != null) {
+                            format = format.withUrl(decipher.decipherUrl(format.getSignatureCipher()));
+                        }
+                        deciphered.add(format);
+                    }
+                    return deciphered;
+                })
+                .exceptionally(error -> {
+                    decipherFailures.incrementAndGet();
+                    Exception cause = error instanceof CompletionException && error.getCause() instanceof Exception
+                            ? (Exception) error.getCause()
+                            : error instanceof Exception ? (Exception) error : new Exception(error);
+                    List<Format> marked = new ArrayList<>(formats.size());
+                    for (Format format : formats) {
+                        marked.add(format.isDeciphered() ? format : format.withDecipherError(cause));
+                    }
+                    return marked;
+                });
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static CompletableFuture<SignatureDecipher> getSignatureDecipher(String html5player, OkHttpClient http, Executor io) {
+        String url = html5player.startsWith("/") ? "https://www.youtube.com" + html5player : html5player;
+        return cache.getOrSet("decipher:" + SignatureDecipher.version(url), PLAYER_SCRIPT_TTL,
+                () -> async(url, () -> SignatureDecipher.parse(fetchPlayerScript(url, http)), io), CacheCodecs.SIGNATURE_DECIPHER, io);
+    }
+
+    private static String fetchPlayerScript(String url, OkHttpClient http) throws IOException {
         Request request = new Request.Builder()
-                .url(videoUrl)
+                .url(url)
                 .header("User-Agent", "Mozilla/5.0")
+                .tag(TransferStats.Stage.class, TransferStats.Stage.PLAYER_SCRIPT)
                 .build();
 
-        try (Response response = client.newCall(request).execute()) {
-
+        try (Response response = http.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Request failed with status code: " + response.code());
+            }
             assert response.body() != null;
+            return response.body().string();
+        }
+    }
 
-            String htmlBody = response.body().string();
-            JSONObject playerResponse = parsePlayerResponse(htmlBody);
-            List<JSONObject> formats = parseFormats(playerResponse);
-            JSONObject videoDetails = playerResponse.getJSONObject("videoDetails");
-            JSONObject result = new JSONObject();
-
-            // returning the basic info
-            result.put("title", videoDetails.getString("title"));
-            result.put("author", videoDetails.getString("author"));
-            result.put("description", videoDetails.getString("shortDescription"));
-            result.put("views", videoDetails.getString("viewCount"));
-            result.put("video_url", videoUrl);
-            result.put("formats", formats);
-            result.put("thumbnails", videoDetails.optJSONObject("thumbnail"));
-
-            return result;
-        } catch (JSONException e) {
-            throw new RuntimeException(e);
+    public static Format chooseFormat(VideoInfo videoInfo, FormatPolicy policy) {
+        return videoInfo.chooseFormat(policy);
+    }
+
+    public static FormatPair chooseAdaptivePair(VideoInfo videoInfo, FormatPolicy policy) {
+        return videoInfo.chooseAdaptivePair(policy);
+    }
+
+    // Both clients repeat most itags, the first one with a direct URL wins. Keyed on the
+    // source as well, since a DASH Representation reuses its player format's itag but
+    // carries the segment addressing the player format lacks.
+    private static List<Format> dedupeByItag(List<Format> formats) {
+        Map<Long, Integer> positions = new HashMap<>();
+        List<Format> unique = new ArrayList<>(formats.size());
+        for (Format format : formats) {
+            if (format.getItag() == -1) {
+                unique.add(format);
+                continue;
+            }
+            long key = (long) format.getSource().ordinal() << 32 | (format.getItag() & 0xffffffffL);
+            Integer position = positions.get(key);
+            if (position == null) {
+                positions.put(key, unique.size());
+                unique.add(format);
+            } else if (unique.get(position).getUrl() == null && format.getUrl() != null) {
+                unique.set(position, format);
+            }
+        }
+        return unique;
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static <T> CompletableFuture<T> cached(String key, long ttlMillis, Callable<CompletableFuture<T>> fn, Cache.Codec<T> codec, boolean fresh, Executor io) {
+        return fresh ? cache.refresh(key, ttlMillis, fn, codec) : cache.getOrSet(key, ttlMillis, fn, codec, io);
+    }
+
+    // Runs a stage that requests url. While a batch's rate limit is in force it first waits
+    // for the slot of url's host, on the limiter's timer rather than on a worker.
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static <T> CompletableFuture<T> async(String url, Callable<T> task, Executor io) {
+        if (rateLimiter.isLimiting()) {
+            return rateLimiter.acquire(url).thenCompose(slot -> async(task, io));
+        }
+        return async(task, io);
+    }
+
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static <T> CompletableFuture<T> async(Callable<T> task, Executor io) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, io);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
         }
     }
 
-    private static JSONObject parsePlayerResponse(String htmlBody) throws JSONException {
-        String playerResponseString = findBetween(htmlBody);
-        return new JSONObject(playerResponseString);
+    // watchPage is null when none of the fields need it, playerResponse is whichever one supplies videoDetails
+    static VideoInfo buildVideoInfo(String videoId, Set<InfoQuery.Field> fields, boolean lazy, WatchPage watchPage, JSONObject playerResponse, Lazy<List<Format>> formats) throws JSONException {
+        // Getting just basic info~
+        JSONObject basicInfo = getBasicInfo(videoId, playerResponse);
+
+        // Extracting Thumbnails
+        List<VideoInfo.Thumbnail> thumbnailList = fields.contains(InfoQuery.Field.THUMBNAILS)
+                ? extractThumbnails(basicInfo.optJSONObject("thumbnails"))
+                : Collections.emptyList();
+
+        // Extracting microformats, only the watch page's player response is sure to carry them
+        JSONObject microformat = watchPage != null ? playerResponse.optJSONObject("microformat") : null;
+        JSONObject playerMicroformatRenderer = microformat != null ? microformat.optJSONObject("playerMicroformatRenderer") : null;
+
+        String iframeUrl = playerMicroformatRenderer != null ? Objects.requireNonNull(playerMicroformatRenderer.optJSONObject("embed")).optString("iframeUrl") : null;
+        String ownerProfileUrl = playerMicroformatRenderer != null ? playerMicroformatRenderer.optString("ownerProfileUrl") : null;
+        String externalChannelId = playerMicroformatRenderer != null ? playerMicroformatRenderer.optString("externalChannelId") : null;
+        Boolean isFamilySafe = playerMicroformatRenderer != null ? playerMicroformatRenderer.optBoolean("isFamilySafe") : null;
+        List<String> availableCountries = fields.contains(InfoQuery.Field.AVAILABLE_COUNTRIES)
+                ? extractAvailableCountries(playerMicroformatRenderer)
+                : Collections.emptyList();
+        String category = playerMicroformatRenderer != null ? playerMicroformatRenderer.optString("category") : null;
+        String uploadDate = playerMicroformatRenderer != null ? playerMicroformatRenderer.optString("publishDate") : null;
+        Boolean isShortsEligible = playerMicroformatRenderer != null ? playerMicroformatRenderer.optBoolean("isShortsEligible") : null;
+
+        // Likes and author info come from the same watch page
+        // (walked on first access when lazy, the VideoInfo keeps the page until then)
+        Lazy<String> likesCount;
+        if (!fields.contains(InfoQuery.Field.LIKES)) {
+            likesCount = Lazy.of(null);
+        } else {
+            likesCount = lazy ? Lazy.from(() -> LikesFetcher.getLikes(watchPage)) : Lazy.of(LikesFetcher.getLikes(watchPage));
+        }
+        Lazy<JSONObject> authorInfo;
+        if (!fields.contains(InfoQuery.Field.AUTHOR_INFO)) {
+            authorInfo = Lazy.of(null);
+        } else {
+            authorInfo = lazy ? Lazy.from(() -> AuthorFetcher.getAuthor(watchPage)) : Lazy.of(AuthorFetcher.getAuthor(watchPage));
+        }
+
+        // Constructing and returning VideoInfo
+        return new VideoInfo(
+                basicInfo.optString("title"),
+                basicInfo.optString("author"),
+                basicInfo.optString("description"),
+                basicInfo.optString("views"),
+                likesCount,
+                basicInfo.optString("video_url"),
+                formats,
+                thumbnailList,
+                iframeUrl,
+                ownerProfileUrl,
+                externalChannelId,
+                Boolean.TRUE.equals(isFamilySafe),
+                availableCountries,
+                category,
+                uploadDate,
+                Boolean.TRUE.equals(isShortsEligible),
+                authorInfo,
+                Utils.parseLong(basicInfo.optString("length_seconds"), -1)
+        );
     }
 
-    private static List<JSONObject> parseFormats(JSONObject playerResponse) throws JSONException {
-        List<JSONObject> formats = new ArrayList<>();
+    private static JSONObject getBasicInfo(String videoId, JSONObject playerResponse) throws JSONException {
+        JSONObject videoDetails = playerResponse.getJSONObject("videoDetails");
+        JSONObject result = new JSONObject();
+
+        // returning the basic info
+        result.put("title", videoDetails.getString("title"));
+        result.put("author", videoDetails.getString("author"));
+        result.put("description", videoDetails.getString("shortDescription"));
+        result.put("views", videoDetails.getString("viewCount"));
+        result.put("length_seconds", videoDetails.optString("lengthSeconds"));
+        result.put("video_url", BASE_URL + videoId);
+        result.put("thumbnails", videoDetails.optJSONObject("thumbnail"));
+
+        return result;
+    }
+
+    static List<Format> parseFormats(JSONObject playerResponse) throws JSONException {
+        List<Format> formats = new ArrayList<>();
         if (playerResponse.has("streamingData")) {
             JSONObject streamingData = playerResponse.getJSONObject("streamingData");
             if (streamingData.has("formats")) {
                 JSONArray formatArray = streamingData.getJSONArray("formats");
                 for (int i = 0; i < formatArray.length(); i++) {
-                    formats.add(formatArray.getJSONObject(i));
+                    formats.add(Format.fromPlayer(formatArray.getJSONObject(i), Format.Source.MUXED));
                 }
             }
             if (streamingData.has("adaptiveFormats")) {
                 JSONArray adaptiveFormatArray = streamingData.getJSONArray("adaptiveFormats");
                 for (int i = 0; i < adaptiveFormatArray.length(); i++) {
-                    formats.add(adaptiveFormatArray.getJSONObject(i));
+                    formats.add(Format.fromPlayer(adaptiveFormatArray.getJSONObject(i), Format.Source.ADAPTIVE));
                 }
             }
         }
@@ -217,62 +568,46 @@ public class YTDL {
     }
 
 
-    private static JSONObject getMicroformat(String videoId) throws IOException {
-        String videoUrl = BASE_URL + videoId;
-        Request request = new Request.Builder()
-                .url(videoUrl)
-                .header("User-Agent", "Mozilla/5.0")
-                .build();
-
-        try (Response response = client.newCall(request).execute()) {
-            assert response.body() != null;
-            String htmlBody = response.body().string();
-            JSONObject playerResponse = parsePlayerResponse(htmlBody);
-            return playerResponse.optJSONObject("microformat");
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    private static CompletableFuture<List<Format>> fetchClientFormats(JSONObject playerResponse, OkHttpClient http, Executor io) {
+        List<Format> formats;
+        try {
+            formats = parseFormats(playerResponse);
         } catch (JSONException e) {
-            throw new RuntimeException(e);
+            CompletableFuture<List<Format>> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
         }
-    }
-
-    private static List<JSONObject> fetchVideoFormats(String videoId) throws Exception {
-        List<JSONObject> formats = new ArrayList<>();
-
-        JSONObject iosPlayerResponse = fetchIosJsonPlayer(videoId);
-        JSONObject androidPlayerResponse = fetchAndroidJsonPlayer(videoId);
-
-        formats.addAll(parseFormats(androidPlayerResponse));
-        formats.addAll(parseFormats(iosPlayerResponse));
 
         // Handle additional formats like DASH and HLS
-        addManifestFormats(androidPlayerResponse, formats);
-        addManifestFormats(iosPlayerResponse, formats);
-
-        return formats;
-    }
-
-    private static void addManifestFormats(JSONObject playerResponse, List<JSONObject> formats) throws IOException, SAXException, JSONException {
-        if (playerResponse.has("dashManifestUrl")) {
-            formats.addAll(getDashManifest(playerResponse.getString("dashManifestUrl")));
-        }
-        if (playerResponse.has("hlsManifestUrl")) {
-            formats.addAll(getM3U8Manifest(playerResponse.getString("hlsManifestUrl")));
-        }
+        JSONObject streamingData = playerResponse.optJSONObject("streamingData");
+        String dashManifestUrl = streamingData != null ? streamingData.optString("dashManifestUrl", null) : null;
+        String hlsManifestUrl = streamingData != null ? streamingData.optString("hlsManifestUrl", null) : null;
+
+        CompletableFuture<List<Format>> dash = dashManifestUrl != null
+                ? cache.getOrSet("dash:" + dashManifestUrl, MANIFEST_TTL, () -> async(dashManifestUrl, () -> getDashManifest(dashManifestUrl, http), io))
+                : CompletableFuture.completedFuture(Collections.emptyList());
+        CompletableFuture<List<Format>> hls = hlsManifestUrl != null
+                ? cache.getOrSet("hls:" + hlsManifestUrl, MANIFEST_TTL, () -> async(hlsManifestUrl, () -> getM3U8Manifest(hlsManifestUrl, http), io))
+                : CompletableFuture.completedFuture(Collections.emptyList());
+
+        return dash.thenCombine(hls, (dashFormats, hlsFormats) -> {
+            List<Format> all = new ArrayList<>(formats.size() + dashFormats.size() + hlsFormats.size());
+            all.addAll(formats);
+            all.addAll(dashFormats);
+            all.addAll(hlsFormats);
+            return all;
+        });
     }
 
-    private static String generateClientPlaybackNonce() {
-        String charset = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        StringBuilder nonce = new StringBuilder();
-        Random random = new Random();
-        for (int i = 0; i < 16; i++) {
-            nonce.append(charset.charAt(random.nextInt(charset.length())));
-        }
-        return nonce.toString();
+    private static PlayerPayload createPlayerPayload(String clientName) {
+        return new PlayerPayload(gson.toJson(createJsonPayload(PlayerPayload.VIDEO_ID, PlayerPayload.CPN, clientName)));
     }
 
-    private static Map<String, Object> createJsonPayload(String videoId, String clientName) {
+    private static Map<String, Object> createJsonPayload(String videoId, String cpn, String clientName) {
         Map<String, Object> payload = new HashMap<>();
         payload.put("videoId", videoId);
-        payload.put("cpn", generateClientPlaybackNonce());
+        payload.put("cpn", cpn);
         payload.put("contentCheckOk", true);
         payload.put("racyCheckOk", true);
 
@@ -311,10 +646,9 @@ public class YTDL {
     }
 
 
-    private static JSONObject fetchIosJsonPlayer(String videoId) throws IOException {
-        String url = "https://youtubei.googleapis.com/youtubei/v1/player";
-        Map<String, Object> payload = createJsonPayload(videoId, "IOS");
-        RequestBody body = RequestBody.create(gson.toJson(payload), MediaType.parse("application/json"));
+    private static JSONObject fetchIosJsonPlayer(String videoId, OkHttpClient http) throws IOException {
+        String url = PLAYER_API_URL;
+        RequestBody body = IOS_PAYLOAD.create(videoId);
 
         Request request = new Request.Builder()
                 .url(url)
@@ -322,22 +656,21 @@ public class YTDL {
                 .header("Content-Type", "application/json")
                 .header("User-Agent", "com.google.ios.youtube/" + IOS_CLIENT_VERSION + " (" + IOS_DEVICE_MODEL + "; U; CPU iOS " + IOS_USER_AGENT_VERSION + " like Mac OS X; en_US)")
                 .header("X-Goog-Api-Format-Version", "2")
+                .tag(TransferStats.Stage.class, TransferStats.Stage.PLAYER)
                 .build();
 
-        try (Response response = client.newCall(request).execute()) {
-            // Converting LinkedTreeMap to JSONObject (*_*)
+        try (Response response = http.newCall(request).execute()) {
+            // One pass from the wire into the sections we use
             assert response.body() != null;
-            String jsonString = gson.toJson(gson.fromJson(response.body().string(), Map.class));
-            return new JSONObject(jsonString);
+            return PlayerResponseReader.read(response.body().charStream());
         } catch (JSONException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static JSONObject fetchAndroidJsonPlayer(String videoId) throws IOException {
-        String url = "https://youtubei.googleapis.com/youtubei/v1/player";
-        Map<String, Object> payload = createJsonPayload(videoId, "ANDROID");
-        RequestBody body = RequestBody.create(gson.toJson(payload), MediaType.parse("application/json"));
+    private static JSONObject fetchAndroidJsonPlayer(String videoId, OkHttpClient http) throws IOException {
+        String url = PLAYER_API_URL;
+        RequestBody body = ANDROID_PAYLOAD.create(videoId);
 
         Request request = new Request.Builder()
                 .url(url)
@@ -345,74 +678,43 @@ public class YTDL {
                 .header("Content-Type", "application/json")
                 .header("User-Agent", "com.google.android.youtube/" + ANDROID_CLIENT_VERSION + " (Linux; U; Android " + ANDROID_OS_VERSION + "; en_US) gzip")
                 .header("X-Goog-Api-Format-Version", "2")
+                .tag(TransferStats.Stage.class, TransferStats.Stage.PLAYER)
                 .build();
 
-        try (Response response = client.newCall(request).execute()) {
-            // Converting LinkedTreeMap to JSONObject
+        try (Response response = http.newCall(request).execute()) {
+            // One pass from the wire into the sections we use
             assert response.body() != null;
-            String jsonString = gson.toJson(gson.fromJson(response.body().string(), Map.class));
-            return new JSONObject(jsonString);
+            return PlayerResponseReader.read(response.body().charStream());
         } catch (JSONException e) {
             throw new RuntimeException(e);
         }
     }
 
 
-    private static List<JSONObject> getDashManifest(String url) throws IOException, SAXException {
+    private static List<Format> getDashManifest(String url, OkHttpClient http) throws IOException, SAXException {
         Request request = new Request.Builder()
                 .url(url)
                 .header("User-Agent", "Mozilla/5.0")
+                .tag(TransferStats.Stage.class, TransferStats.Stage.MANIFEST)
                 .build();
 
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = http.newCall(request).execute()) {
             assert response.body() != null;
-            InputStream inputStream = response.body().byteStream();
-            DashHandler dashHandler = new DashHandler();
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(inputStream, dashHandler);
-            return dashHandler.getFormats();
-        } catch (ParserConfigurationException e) {
-            throw new IOException("Error parsing DASH manifest", e);
+            return DashManifestParser.parse(response.body().byteStream(), url);
         }
     }
 
-    private static List<JSONObject> getM3U8Manifest(String url) throws IOException {
-        List<JSONObject> formats = new ArrayList<>();
+    private static List<Format> getM3U8Manifest(String url, OkHttpClient http) throws IOException {
         Request request = new Request.Builder()
                 .url(url)
                 .header("User-Agent", "Mozilla/5.0")
+                .tag(TransferStats.Stage.class, TransferStats.Stage.MANIFEST)
                 .build();
 
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = http.newCall(request).execute()) {
             assert response.body() != null;
-            BufferedReader reader = new BufferedReader(new InputStreamReader(response.body().byteStream()));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.startsWith("#EXT-X-STREAM-INF")) {
-                    formats.add(parseM3U8Format(line));
-                }
-            }
-        } catch (JSONException e) {
-            throw new RuntimeException(e);
-        }
-        return formats;
-    }
-
-    private static JSONObject parseM3U8Format(String line) throws JSONException {
-        Map<String, String> attributes = null;
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            attributes = Arrays.stream(line.substring("#EXT-X-STREAM-INF:".length()).split(","))
-                    .map(attr -> attr.split("="))
-                    .collect(Collectors.toMap(attr -> attr[0], attr -> attr[1]));
+            return HlsPlaylistParser.parseMaster(response.body().source(), url);
         }
-
-        JSONObject format = new JSONObject();
-        assert attributes != null;
-        format.put("url", attributes.get("URI"));
-        format.put("bandwidth", attributes.get("BANDWIDTH"));
-        format.put("resolution", attributes.get("RESOLUTION"));
-        return format;
     }
 
     private static String getWatchHTMLURL(String id) {
@@ -421,110 +723,43 @@ public class YTDL {
         return BASE_URL + id + "&hl=" + lang + "&bpctr=" + bpctr + "&has_verified=1";
     }
 
-    private static CompletableFuture<String> getWatchHTMLPageBody(String id) {
-        String url = getWatchHTMLURL(id);
-        return cache.getOrSet(url, () -> request(url));
-    }
-
     @RequiresApi(api = Build.VERSION_CODES.N)
-    private static CompletableFuture<JSONObject> getWatchHTMLPage(String id) {
-        try {
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-                return getWatchHTMLPageBody(id).thenApply(body -> {
-                    JSONObject info = new JSONObject();
-                    try {
-                        info.put("page", "watch");
-                    } catch (JSONException e) {
-                        throw new RuntimeException(e);
-                    }
-                    try {
-                        // Trying to parse playerResponse
-                        JSONObject playerResponse = tryParseBetween(body, "var ytInitialPlayerResponse = ", "}};", "", "}}");
-                        if (playerResponse == null) {
-                            playerResponse = tryParseBetween(body, "var ytInitialPlayerResponse = ", ";var", "", "");
-                        }
-                        if (playerResponse == null) {
-                            playerResponse = tryParseBetween(body, "var ytInitialPlayerResponse = ", ";</script>", "", "");
-                        }
-                        if (playerResponse == null) {
-                            playerResponse = findJSON("watch.html", "player_response", body, "ytInitialPlayerResponse\\s*=\\s*\\{", "</script>", "{");
-                        }
-                        info.put("player_response", playerResponse);
-
-                        // Trying to parse response
-                        JSONObject response = tryParseBetween(body, "var ytInitialData = ", "}};", "", "}}");
-                        if (response == null) {
-                            response = tryParseBetween(body, "var ytInitialData = ", ";</script>", "", "");
-                        }
-                        if (response == null) {
-                            response = tryParseBetween(body, "window[\"ytInitialData\"] = ", "}};", "", "}}");
-                        }
-                        if (response == null) {
-                            response = tryParseBetween(body, "window[\"ytInitialData\"] = ", ";</script>", "", "");
-                        }
-                        if (response == null) {
-                            response = findJSON("watch.html", "response", body, "ytInitialData\\s*=\\s*\\{", "</script>", "{");
-                        }
-                        info.put("response", response);
-
-                        // Getting HTML5 player
-                        info.put("html5player", getHTML5player(body));
-                    } catch (Exception e) {
-                        cache.clear();
-                        throw new RuntimeException("Error when parsing watch.html, maybe YouTube made a change.\n" +
-                                "Please report this issue with the \"watch.html\" file on https://github.com/luoshenshi/ytdl-java/issues.", e);
-                    }
-                    return info;
-                });
-            }
-        } catch (Exception e) {
-            CompletableFuture<JSONObject> future = new CompletableFuture<>();
-            future.completeExceptionally(e);
-            return future;
-        }
-        return null;
+    private static CompletableFuture<WatchPage> getWatchPage(String id, OkHttpClient http, boolean fresh, Executor io) {
+        // Keyed by video ID, the watch URL carries a per-second bpctr that would never hit
+        return cached("watch:" + id, WATCH_PAGE_TTL, () -> async(BASE_URL, () -> fetchWatchPage(id, http), io), CacheCodecs.WATCH_PAGE, fresh, io);
     }
 
-    private static class DashHandler extends DefaultHandler {
-        private final List<JSONObject> formats = new ArrayList<>();
+    private static WatchPage fetchWatchPage(String id, OkHttpClient http) throws IOException {
+        Request request = new Request.Builder()
+                .url(getWatchHTMLURL(id))
+                .header("User-Agent", "Mozilla/5.0")
+                .tag(TransferStats.Stage.class, TransferStats.Stage.WATCH_PAGE)
+                .build();
 
-        @Override
-        public void startElement(String uri, String localName, String qName, Attributes attributes) {
-            if (qName.equals("Representation")) {
-                JSONObject format = new JSONObject();
-                try {
-                    format.put("bandwidth", attributes.getValue("bandwidth"));
-                    format.put("width", attributes.getValue("width"));
-                    format.put("height", attributes.getValue("height"));
-                } catch (JSONException e) {
-                    throw new RuntimeException(e);
-                }
-                formats.add(format);
+        try (Response response = http.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Request failed with status code: " + response.code());
             }
-        }
-
-        private List<JSONObject> getFormats() {
-            return formats;
+            assert response.body() != null;
+            // Only the two JSON scripts are kept in memory, not the whole page
+            return parseWatchPage(WatchPageScanner.scan(response.body().source()));
         }
     }
 
-    private static String getHTML5player(String body) {
-        String regex = "<script\\s+src=\"([^\"]*player_ias/base[^\"]*)\"\\s*(?:type=\"text/javascript\")?\\s*name=\"player_ias/base\"\\s*>|\"jsUrl\":\"([^\"]*player_ias/base[^\"]*)\"";
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(body);
-
-        if (matcher.find()) {
-            String scriptSrc = matcher.group(1);
-            if (scriptSrc != null && !scriptSrc.isEmpty()) {
-                return scriptSrc;
+    static WatchPage parseWatchPage(WatchPageScanner page) {
+        try {
+            JSONObject playerResponse = Utils.parseJSON("watch.html", "player_response", page.getPlayerResponseJSON());
+            if (playerResponse == null) {
+                throw new Exception("Could not find player_response in watch.html");
             }
-
-            String jsUrl = matcher.group(2);
-            if (jsUrl != null && !jsUrl.isEmpty()) {
-                return jsUrl;
+            JSONObject response = Utils.parseJSON("watch.html", "response", page.getInitialDataJSON());
+            if (response == null) {
+                throw new Exception("Could not find response in watch.html");
             }
+            return new WatchPage(playerResponse, response, page.getHtml5player());
+        } catch (Exception e) {
+            throw new RuntimeException("Error when parsing watch.html, maybe YouTube made a change.\n" +
+                    "Please report this issue with the \"watch.html\" file on https://github.com/luoshenshi/ytdl-java/issues.", e);
         }
-        cache.clear();
-        return null;
     }
 }
@@ -0,0 +1,9 @@
+package io.github.luoshenshi;
+
+public interface YtdlBatchResponse<T> {
+    void onResponse(String videoId, T videoInfo);
+
+    void onFailure(String videoId, Exception e);
+
+    void onComplete();
+}
@@ -11,5 +11,14 @@ public class YtdlConstants {
     public static final String ANDROID_OS_VERSION = "14";
     public static final String ANDROID_SDK_VERSION = "34";
     public static final String BASE_URL = "https://www.youtube.com/watch?v=";
-    public static final OkHttpClient client = new OkHttpClient();
+    // Cache lifetimes in milliseconds, stream URLs in player responses stay valid for about 6 hours
+    public static final long WATCH_PAGE_TTL = 5 * 60 * 1000;
+    public static final long PLAYER_RESPONSE_TTL = 30 * 60 * 1000;
+    public static final long MANIFEST_TTL = 60 * 1000;
+    // A player version never changes its transform, this only bounds how long old ones are kept
+    public static final long PLAYER_SCRIPT_TTL = 7L * 24 * 60 * 60 * 1000;
+    // The default shared client, see YtdlHttp. Requests go through YTDL.getHttp(), so a client
+    // installed with YTDL.setHttp replaces this one.
+    public static final OkHttpClient client = YtdlHttp.newClient(YtdlHttp.DEFAULT_MAX_IDLE_CONNECTIONS,
+            YtdlHttp.DEFAULT_KEEP_ALIVE_MILLIS, YtdlHttp.DEFAULT_MAX_REQUESTS, YtdlHttp.DEFAULT_MAX_REQUESTS_PER_HOST);
 }
@@ -0,0 +1,169 @@
+package io.github.luoshenshi;
+
+import android.os.Build;
+
+import androidx.annotation.RequiresApi;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs the blocking network and parse stages of lookups. At most maxPendingLookups
+// lookups are in flight, anything beyond that is rejected right away, except for batch
+// lookups which queue until one of the running lookups completes.
+public class YtdlExecutor implements Executor {
+    private final ExecutorService delegate;
+    private final ThreadPoolExecutor pool;
+    private final Semaphore admissions;
+    private final int maxPendingLookups;
+    private final AtomicLong admittedLookups = new AtomicLong();
+    private final AtomicLong rejectedLookups = new AtomicLong();
+    // Guarded by itself; a released permit goes to the oldest waiter before anyone else
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private YtdlExecutor(ExecutorService delegate, int maxPendingLookups) {
+        this.delegate = delegate;
+        this.pool = delegate instanceof ThreadPoolExecutor ? (ThreadPoolExecutor) delegate : null;
+        this.admissions = new Semaphore(maxPendingLookups);
+        this.maxPendingLookups = maxPendingLookups;
+    }
+
+    public static YtdlExecutor bounded(int threads, int maxPendingLookups) {
+        if (threads < 1 || maxPendingLookups < 1) {
+            throw new IllegalArgumentException("threads and maxPendingLookups must be positive");
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new WorkerThreadFactory());
+        pool.allowCoreThreadTimeOut(true);
+        return new YtdlExecutor(pool, maxPendingLookups);
+    }
+
+    // Virtual threads on JVMs that have them (Java 21+), a bounded pool otherwise
+    public static YtdlExecutor virtualThreads(int maxPendingLookups) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return new YtdlExecutor((ExecutorService) factory.invoke(null), maxPendingLookups);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return bounded(Math.max(4, Runtime.getRuntime().availableProcessors() * 2), maxPendingLookups);
+        }
+    }
+
+    static YtdlExecutor createDefault() {
+        return bounded(8, 256);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+
+    boolean tryAdmit() {
+        if (admissions.tryAcquire()) {
+            admittedLookups.incrementAndGet();
+            return true;
+        }
+        rejectedLookups.incrementAndGet();
+        return false;
+    }
+
+    // Completes once the lookup is admitted, after the lookups queued before it
+    @RequiresApi(api = Build.VERSION_CODES.N)
+    CompletableFuture<Void> admit() {
+        synchronized (waiters) {
+            if (waiters.isEmpty() && admissions.tryAcquire()) {
+                admittedLookups.incrementAndGet();
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        }
+    }
+
+    void release() {
+        CompletableFuture<Void> next;
+        synchronized (waiters) {
+            next = waiters.poll();
+            if (next == null) {
+                admissions.release();
+                return;
+            }
+        }
+        // The permit passes straight to the waiter
+        admittedLookups.incrementAndGet();
+        next.complete(null);
+    }
+
+    public int getMaxPendingLookups() {
+        return maxPendingLookups;
+    }
+
+    // Lookups admitted and not yet completed
+    public int getPendingLookups() {
+        return maxPendingLookups - admissions.availablePermits();
+    }
+
+    public long getAdmittedLookups() {
+        return admittedLookups.get();
+    }
+
+    public long getRejectedLookups() {
+        return rejectedLookups.get();
+    }
+
+    // Batch lookups waiting for one of the pending ones to complete
+    public int getWaitingLookups() {
+        synchronized (waiters) {
+            return waiters.size();
+        }
+    }
+
+    // Tasks waiting for a worker; always 0 for virtual threads
+    public int getQueueDepth() {
+        return pool != null ? pool.getQueue().size() : 0;
+    }
+
+    // Workers currently running a task; -1 when unknown (virtual threads)
+    public int getActiveThreads() {
+        return pool != null ? pool.getActiveCount() : -1;
+    }
+
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "pendingLookups=" + getPendingLookups() +
+                ", maxPendingLookups=" + maxPendingLookups +
+                ", admittedLookups=" + getAdmittedLookups() +
+                ", rejectedLookups=" + getRejectedLookups() +
+                ", waitingLookups=" + getWaitingLookups() +
+                ", queueDepth=" + getQueueDepth() +
+                ", activeThreads=" + getActiveThreads() +
+                '}';
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ytdl-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
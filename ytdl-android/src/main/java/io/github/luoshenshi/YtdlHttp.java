@@ -0,0 +1,111 @@
+package io.github.luoshenshi;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+// The one OkHttpClient every request of the library goes through: player calls, watch
+// pages, manifests, downloads and live segments. Sharing it means sharing its connection
+// pool, so a lookup reuses the sockets (and TLS sessions) the previous one opened, and
+// youtubei.googleapis.com requests are multiplexed over a single HTTP/2 connection.
+// Lookup stages ask for gzip explicitly and their bytes are counted in getTransferStats().
+// Clients from create() cap the calls in flight, in total and per host, for synchronous
+// calls as well as enqueued ones; a wrapped client keeps only its own Dispatcher's limits,
+// which OkHttp applies to enqueued calls alone. Install a different one with YTDL.setHttp.
+public class YtdlHttp {
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 16;
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 5 * 60 * 1000;
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+    // A batch of lookups opens watch page, player and manifest requests to the same few hosts
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 16;
+
+    private final OkHttpClient client;
+    private final CallLimiter limiter;
+    private final TransferStats transferStats = new TransferStats();
+
+    // The derived client shares the pool and dispatcher of the one passed in
+    private YtdlHttp(OkHttpClient client, CallLimiter limiter) {
+        OkHttpClient.Builder builder = client.newBuilder();
+        if (limiter != null) {
+            builder.addInterceptor(limiter);
+        }
+        this.client = builder.addInterceptor(new CompressionInterceptor(transferStats)).build();
+        this.limiter = limiter;
+    }
+
+    public static YtdlHttp create(int maxIdleConnections, long keepAliveMillis, int maxRequests, int maxRequestsPerHost) {
+        return new YtdlHttp(newClient(maxIdleConnections, keepAliveMillis, maxRequests, maxRequestsPerHost),
+                new CallLimiter(maxRequests, maxRequestsPerHost));
+    }
+
+    // Uses the application's own client, e.g. to share its pool, cache or interceptors
+    public static YtdlHttp wrap(OkHttpClient client) {
+        return new YtdlHttp(Objects.requireNonNull(client), null);
+    }
+
+    static YtdlHttp createDefault() {
+        return new YtdlHttp(YtdlConstants.client, new CallLimiter(DEFAULT_MAX_REQUESTS, DEFAULT_MAX_REQUESTS_PER_HOST));
+    }
+
+    static OkHttpClient newClient(int maxIdleConnections, long keepAliveMillis, int maxRequests, int maxRequestsPerHost) {
+        if (maxIdleConnections < 0 || keepAliveMillis < 1 || maxRequests < 1 || maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException("Expected maxIdleConnections >= 0 and positive keepAliveMillis, maxRequests and maxRequestsPerHost");
+        }
+        // The Dispatcher limits only apply to enqueued calls, YtdlHttp enforces them for all
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .build();
+    }
+
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    public TransferStats getTransferStats() {
+        return transferStats;
+    }
+
+    // Open connections, idle or not
+    public int getConnectionCount() {
+        return client.connectionPool().connectionCount();
+    }
+
+    public int getIdleConnectionCount() {
+        return client.connectionPool().idleConnectionCount();
+    }
+
+    // Calls the Dispatcher tracks: all synchronous calls and running enqueued ones
+    public int getRunningCalls() {
+        return client.dispatcher().runningCallsCount();
+    }
+
+    // Enqueued calls the Dispatcher holds back under its own limits
+    public int getQueuedCalls() {
+        return client.dispatcher().queuedCallsCount();
+    }
+
+    // Calls of any kind blocked on maxRequests or maxRequestsPerHost, 0 for a wrapped client
+    public int getWaitingCalls() {
+        return limiter != null ? limiter.getWaitingCalls() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "connections=" + getConnectionCount() +
+                ", idleConnections=" + getIdleConnectionCount() +
+                ", runningCalls=" + getRunningCalls() +
+                ", queuedCalls=" + getQueuedCalls() +
+                ", waitingCalls=" + getWaitingCalls() +
+                ", maxRequests=" + (limiter != null ? limiter.getMaxRequests() : client.dispatcher().getMaxRequests()) +
+                ", maxRequestsPerHost=" + (limiter != null ? limiter.getMaxRequestsPerHost() : client.dispatcher().getMaxRequestsPerHost()) +
+                '}';
+    }
+}